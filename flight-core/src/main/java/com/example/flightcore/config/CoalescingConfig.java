@@ -0,0 +1,24 @@
+package com.example.flightcore.config;
+
+import com.example.flightcore.model.Flight;
+import com.example.flightcore.service.SingleFlight;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+@Configuration
+public class CoalescingConfig {
+
+    /**
+     * Shares one vendor fetch (and its call-log write) between all concurrent {@code fetchFlights()} callers.
+     */
+    @Bean
+    public SingleFlight<List<Flight>> flightsSingleFlight(
+            MeterRegistry meterRegistry,
+            @Value("${flights.coalesce.failure-mode:SHARE}") SingleFlight.FailureMode failureMode) {
+        return new SingleFlight<>("flights", failureMode, meterRegistry);
+    }
+}
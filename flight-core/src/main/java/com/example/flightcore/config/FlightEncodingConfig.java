@@ -0,0 +1,15 @@
+package com.example.flightcore.config;
+
+import com.example.flightcore.service.FlightFormatComparison;
+import com.example.flightcore.service.FlightProjections;
+import com.example.flightcore.service.FlightResponseEncoder;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Cached, negotiated and projected {@code /flights} bodies for the REST modules, servlet or reactive.
+ */
+@Configuration
+@Import({FlightResponseEncoder.class, FlightProjections.class, FlightFormatComparison.class})
+public class FlightEncodingConfig {
+}
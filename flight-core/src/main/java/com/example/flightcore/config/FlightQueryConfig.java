@@ -0,0 +1,13 @@
+package com.example.flightcore.config;
+
+import com.example.flightcore.service.FlightQueries;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Search validation and answering over a snapshot, shared by every server module whatever its transport.
+ */
+@Configuration
+@Import(FlightQueries.class)
+public class FlightQueryConfig {
+}
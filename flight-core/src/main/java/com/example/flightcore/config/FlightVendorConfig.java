@@ -0,0 +1,19 @@
+package com.example.flightcore.config;
+
+import com.example.flightcore.repository.ApiCallLogSink;
+import com.example.flightcore.service.AdaptiveConcurrencyLimiter;
+import com.example.flightcore.service.FlightSnapshotCache;
+import com.example.flightcore.service.FlightVendorClient;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+/**
+ * The blocking path from the vendor to a cached snapshot: pooled HTTP client, adaptive limiter, coalesced fetch,
+ * write-behind call log and refresh-ahead cache. Imported by every server module that calls the vendor with
+ * {@code RestTemplate}; these classes live outside the modules' component scan.
+ */
+@Configuration
+@Import({VendorHttpClientConfig.class, CoalescingConfig.class, AdaptiveConcurrencyLimiter.class,
+        ApiCallLogSink.class, FlightVendorClient.class, FlightSnapshotCache.class})
+public class FlightVendorConfig {
+}
@@ -1,4 +1,4 @@
-package com.example.springwebflux.model;
+package com.example.flightcore.model;
 
 import lombok.Data;
 
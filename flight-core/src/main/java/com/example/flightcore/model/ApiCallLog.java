@@ -1,5 +1,6 @@
-package com.example.springwebflux.model;
+package com.example.flightcore.model;
 
+import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.mongodb.core.mapping.Document;
@@ -7,8 +8,9 @@ import java.time.Instant;
 import java.util.List;
 
 @Data
-@NoArgsConstructor
 @Document("calls_log")
+@NoArgsConstructor
+@AllArgsConstructor
 public class ApiCallLog {
     private Instant timestamp = Instant.now();
     private String endpoint;
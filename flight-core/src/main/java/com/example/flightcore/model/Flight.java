@@ -1,11 +1,15 @@
-package com.example.springmvctraditional.model;
+package com.example.flightcore.model;
 
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import lombok.Data;
 import org.springframework.data.mongodb.core.mapping.Document;
 import java.util.List;
 
 @Data
 @Document("flights")
+@JsonSerialize(using = FlightJsonCodec.Serializer.class)
+@JsonDeserialize(using = FlightJsonCodec.Deserializer.class)
 public class Flight {
     private String aircraftType;
     private Airline airline;
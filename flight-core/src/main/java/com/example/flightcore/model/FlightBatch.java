@@ -0,0 +1,316 @@
+package com.example.flightcore.model;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.DoubleSummaryStatistics;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+
+/**
+ * Column-oriented view of one snapshot's flights, for scans that should not touch the {@link Flight} objects.
+ * Numeric fields are held in primitive arrays and string fields as codes into a per-column dictionary,
+ * so filter, sort and aggregate loops read only the columns they use. Rows are addressed by their index
+ * in the source list; {@link #flight(int)} and {@link #materialize} return the source objects for the rows
+ * actually handed out. Immutable once built.
+ * <p>
+ * Date, time and duration strings are parsed once here into minutes (see {@link FlightTimes}); rows whose
+ * value is missing or unparseable hold {@link FlightTimes#MISSING}, fail every range filter and sort last.
+ * The {@link Flight} objects keep their original strings for serialization.
+ */
+public final class FlightBatch {
+
+    /** Code of a missing value, and of a value that does not occur in the column. */
+    public static final int ABSENT = -1;
+
+    public enum StringColumn {
+        FROM(Flight::getFrom),
+        TO(Flight::getTo),
+        DATE(Flight::getDate),
+        CABIN_CLASS(Flight::getCabinClass),
+        AIRLINE(flight -> flight.getAirline() == null ? null : flight.getAirline().getName()),
+        VENDOR(Flight::getVendor_name);
+
+        private final Function<Flight, String> getter;
+
+        StringColumn(Function<Flight, String> getter) {
+            this.getter = getter;
+        }
+    }
+
+    public enum NumericColumn {
+        PRICE, RATING, REVIEWS_COUNT, TOTAL_STOPS,
+        /** Epoch minutes of midnight UTC. */
+        DATE,
+        /** Epoch minutes. */
+        DEPARTURE_TIME, ARRIVAL_TIME, BOARDING_TIME, LAST_UPDATED,
+        /** Minutes. */
+        DURATION
+    }
+
+    private final List<Flight> rows;
+    private final int size;
+    private final int[] price;
+    private final double[] rating;
+    private final int[] reviewsCount;
+    private final int[] totalStops;
+    private final int[] date;
+    private final int[] departureTime;
+    private final int[] arrivalTime;
+    private final int[] boardingTime;
+    private final int[] lastUpdated;
+    private final int[] duration;
+    private final int[][] codes;
+    private final Dictionary[] dictionaries;
+
+    private FlightBatch(List<Flight> rows) {
+        this.rows = rows;
+        this.size = rows.size();
+        this.price = new int[size];
+        this.rating = new double[size];
+        this.reviewsCount = new int[size];
+        this.totalStops = new int[size];
+        this.date = new int[size];
+        this.departureTime = new int[size];
+        this.arrivalTime = new int[size];
+        this.boardingTime = new int[size];
+        this.lastUpdated = new int[size];
+        this.duration = new int[size];
+        StringColumn[] columns = StringColumn.values();
+        this.codes = new int[columns.length][size];
+        this.dictionaries = new Dictionary[columns.length];
+        for (StringColumn column : columns) {
+            dictionaries[column.ordinal()] = new Dictionary();
+        }
+        for (int row = 0; row < size; row++) {
+            Flight flight = rows.get(row);
+            price[row] = flight.getPrice();
+            rating[row] = flight.getRating();
+            reviewsCount[row] = flight.getReviewsCount();
+            totalStops[row] = flight.getTotalStops();
+            LocalDate day = FlightTimes.parseDate(flight.getDate());
+            date[row] = FlightTimes.epochMinutes(day);
+            departureTime[row] = FlightTimes.epochMinutes(flight.getDepartureTime(), day, FlightTimes.MISSING);
+            arrivalTime[row] = FlightTimes.epochMinutes(flight.getArrivalTime(), day, departureTime[row]);
+            boardingTime[row] = FlightTimes.epochMinutes(flight.getBoardingTime(), day, FlightTimes.MISSING);
+            lastUpdated[row] = FlightTimes.epochMinutes(flight.getLastUpdated(), null, FlightTimes.MISSING);
+            duration[row] = FlightTimes.durationMinutes(flight.getDuration());
+            for (StringColumn column : columns) {
+                codes[column.ordinal()][row] = dictionaries[column.ordinal()].encode(column.getter.apply(flight));
+            }
+        }
+    }
+
+    public static FlightBatch of(List<Flight> flights) {
+        return new FlightBatch(flights);
+    }
+
+    public static FlightBatch of(FlightSnapshot snapshot) {
+        return new FlightBatch(snapshot.getFlights());
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int price(int row) {
+        return price[row];
+    }
+
+    public double rating(int row) {
+        return rating[row];
+    }
+
+    public int reviewsCount(int row) {
+        return reviewsCount[row];
+    }
+
+    public int totalStops(int row) {
+        return totalStops[row];
+    }
+
+    public int departureTime(int row) {
+        return departureTime[row];
+    }
+
+    public int arrivalTime(int row) {
+        return arrivalTime[row];
+    }
+
+    public int duration(int row) {
+        return duration[row];
+    }
+
+    /** Returns the column value, or {@code NaN} for a missing temporal value. */
+    public double value(NumericColumn column, int row) {
+        if (column == NumericColumn.RATING) {
+            return rating[row];
+        }
+        int value = intColumn(column)[row];
+        return value == FlightTimes.MISSING ? Double.NaN : value;
+    }
+
+    /**
+     * Whether the column value is within {@code [min, max]}; always false for a missing temporal value.
+     * For {@link NumericColumn#RATING} the bounds are whole numbers.
+     */
+    public boolean between(NumericColumn column, int row, int min, int max) {
+        if (column == NumericColumn.RATING) {
+            return rating[row] >= min && rating[row] <= max;
+        }
+        int value = intColumn(column)[row];
+        return value != FlightTimes.MISSING && value >= min && value <= max;
+    }
+
+    public int code(StringColumn column, int row) {
+        return codes[column.ordinal()][row];
+    }
+
+    /**
+     * Returns the code of {@code value} in {@code column}, or {@link #ABSENT} if no row has it,
+     * so an equality filter can compare ints instead of strings.
+     */
+    public int codeOf(StringColumn column, String value) {
+        return dictionaries[column.ordinal()].codeOf(value);
+    }
+
+    public String value(StringColumn column, int row) {
+        return dictionaries[column.ordinal()].value(codes[column.ordinal()][row]);
+    }
+
+    public int cardinality(StringColumn column) {
+        return dictionaries[column.ordinal()].values.size();
+    }
+
+    public int[] allRows() {
+        int[] all = new int[size];
+        for (int row = 0; row < size; row++) {
+            all[row] = row;
+        }
+        return all;
+    }
+
+    public int[] filter(IntPredicate predicate) {
+        int[] selected = new int[size];
+        int count = 0;
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(row)) {
+                selected[count++] = row;
+            }
+        }
+        return Arrays.copyOf(selected, count);
+    }
+
+    public int[] filter(int[] candidates, IntPredicate predicate) {
+        int[] selected = new int[candidates.length];
+        int count = 0;
+        for (int row : candidates) {
+            if (predicate.test(row)) {
+                selected[count++] = row;
+            }
+        }
+        return Arrays.copyOf(selected, count);
+    }
+
+    /**
+     * Returns {@code candidates} ordered by {@code column}, ties in row order and missing values last.
+     * Each row is packed with its sort key into one {@code long}, so the sort runs over a primitive array
+     * without comparators or boxing.
+     */
+    public int[] sort(int[] candidates, NumericColumn column, boolean descending) {
+        long[] packed = new long[candidates.length];
+        for (int i = 0; i < candidates.length; i++) {
+            int row = candidates[i];
+            int key = sortKey(column, row);
+            if (key == FlightTimes.MISSING) {
+                key = Integer.MAX_VALUE;
+            } else if (descending) {
+                key = ~key;
+            }
+            packed[i] = ((long) key << 32) | row;
+        }
+        Arrays.sort(packed);
+        int[] sorted = new int[packed.length];
+        for (int i = 0; i < packed.length; i++) {
+            sorted[i] = (int) packed[i];
+        }
+        return sorted;
+    }
+
+    public DoubleSummaryStatistics stats(int[] candidates, NumericColumn column) {
+        DoubleSummaryStatistics stats = new DoubleSummaryStatistics();
+        for (int row : candidates) {
+            double value = value(column, row);
+            if (!Double.isNaN(value)) {
+                stats.accept(value);
+            }
+        }
+        return stats;
+    }
+
+    public Flight flight(int row) {
+        return rows.get(row);
+    }
+
+    public List<Flight> materialize(int[] selected, int from, int to) {
+        List<Flight> flights = new ArrayList<>(Math.max(0, to - from));
+        for (int i = from; i < to; i++) {
+            flights.add(rows.get(selected[i]));
+        }
+        return flights;
+    }
+
+    private int sortKey(NumericColumn column, int row) {
+        if (column == NumericColumn.RATING) {
+            // Float bits reordered so that signed int comparison matches numeric order.
+            int bits = Float.floatToIntBits((float) rating[row]);
+            return bits ^ ((bits >> 31) & Integer.MAX_VALUE);
+        }
+        return intColumn(column)[row];
+    }
+
+    private int[] intColumn(NumericColumn column) {
+        return switch (column) {
+            case PRICE -> price;
+            case REVIEWS_COUNT -> reviewsCount;
+            case TOTAL_STOPS -> totalStops;
+            case DATE -> date;
+            case DEPARTURE_TIME -> departureTime;
+            case ARRIVAL_TIME -> arrivalTime;
+            case BOARDING_TIME -> boardingTime;
+            case LAST_UPDATED -> lastUpdated;
+            case DURATION -> duration;
+            case RATING -> throw new IllegalArgumentException("RATING is not an int column");
+        };
+    }
+
+    private static final class Dictionary {
+        private final Map<String, Integer> codes = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+
+        int encode(String value) {
+            if (value == null) {
+                return ABSENT;
+            }
+            Integer code = codes.get(value);
+            if (code == null) {
+                code = values.size();
+                codes.put(value, code);
+                values.add(value);
+            }
+            return code;
+        }
+
+        int codeOf(String value) {
+            Integer code = value == null ? null : codes.get(value);
+            return code == null ? ABSENT : code;
+        }
+
+        String value(int code) {
+            return code == ABSENT ? null : values.get(code);
+        }
+    }
+}
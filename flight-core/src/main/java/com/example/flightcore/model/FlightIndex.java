@@ -0,0 +1,280 @@
+package com.example.flightcore.model;
+
+import com.example.flightcore.model.FlightBatch.NumericColumn;
+import com.example.flightcore.model.FlightBatch.StringColumn;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Search index over one snapshot, built once through {@link FlightSnapshot#index()}: all row ids in price
+ * order, and for every (from, to) route the row ids of that route, also in price order. A route search reads
+ * only its own rows, and {@code maxPrice} is a binary search on the price-ordered candidates.
+ * {@link #top} results are cached here as well, so they are dropped together with the snapshot.
+ */
+public final class FlightIndex {
+
+    public enum Ranking {
+        /** Lowest price first. */
+        CHEAPEST,
+        /**
+         * Highest rating first, each rating pulled towards the snapshot mean the fewer reviews back it:
+         * {@code (reviews * rating + m * mean) / (reviews + m)}, with {@code m} the mean review count.
+         */
+        BEST_RATED
+    }
+
+    private record TopKey(int from, int to, Ranking ranking, int k) {
+    }
+
+    private static final int ANY = -2;
+    private static final int[] NONE = new int[0];
+    private static final Map<String, NumericColumn> SORTABLE = Map.of(
+            "price", NumericColumn.PRICE,
+            "rating", NumericColumn.RATING,
+            "reviewsCount", NumericColumn.REVIEWS_COUNT,
+            "totalStops", NumericColumn.TOTAL_STOPS,
+            "date", NumericColumn.DATE,
+            "departureTime", NumericColumn.DEPARTURE_TIME,
+            "arrivalTime", NumericColumn.ARRIVAL_TIME,
+            "duration", NumericColumn.DURATION);
+
+    private final FlightBatch batch;
+    private final int[] byPrice;
+    private final Map<Long, int[]> routes;
+    private final double meanRating;
+    private final double priorReviews;
+    private final ConcurrentHashMap<TopKey, List<Flight>> topResults = new ConcurrentHashMap<>();
+
+    private FlightIndex(FlightBatch batch) {
+        this.batch = batch;
+        this.byPrice = batch.sort(batch.allRows(), NumericColumn.PRICE, false);
+        Map<Long, Integer> routeSizes = new HashMap<>();
+        for (int row = 0; row < batch.size(); row++) {
+            routeSizes.merge(routeKey(row), 1, Integer::sum);
+        }
+        Map<Long, int[]> postings = new HashMap<>(routeSizes.size() * 2);
+        Map<Long, Integer> filled = new HashMap<>(routeSizes.size() * 2);
+        for (int row : byPrice) {
+            long key = routeKey(row);
+            int[] rows = postings.computeIfAbsent(key, k -> new int[routeSizes.get(k)]);
+            rows[filled.merge(key, 1, Integer::sum) - 1] = row;
+        }
+        this.routes = postings;
+        this.meanRating = batch.size() == 0 ? 0 : batch.stats(batch.allRows(), NumericColumn.RATING).getAverage();
+        this.priorReviews = batch.size() == 0
+                ? 1 : Math.max(1, batch.stats(batch.allRows(), NumericColumn.REVIEWS_COUNT).getAverage());
+    }
+
+    public static FlightIndex of(FlightSnapshot snapshot) {
+        return new FlightIndex(snapshot.batch());
+    }
+
+    /** Returns the column a {@link FlightQuery#sortField()} sorts by, or {@code null} if it is not sortable. */
+    public static NumericColumn sortColumn(String field) {
+        return SORTABLE.get(field);
+    }
+
+    /**
+     * Returns the ids of the rows matching {@code query}, ordered by {@code sortColumn} with ties in row order,
+     * as {@link FlightBatch#sort} orders them.
+     */
+    public int[] select(FlightQuery query, NumericColumn sortColumn, boolean descending) {
+        int from = code(StringColumn.FROM, query.from());
+        int to = code(StringColumn.TO, query.to());
+        int cabinClass = code(StringColumn.CABIN_CLASS, query.cabinClass());
+        if (from == FlightBatch.ABSENT || to == FlightBatch.ABSENT || cabinClass == FlightBatch.ABSENT) {
+            return NONE;
+        }
+        int day = FlightTimes.MISSING;
+        if (query.date() != null) {
+            LocalDate date = FlightTimes.parseDate(query.date());
+            if (date == null) {
+                return NONE;
+            }
+            day = FlightTimes.epochMinutes(date);
+        }
+        boolean byRoute = from != ANY && to != ANY;
+        int[] candidates = byRoute ? routes.getOrDefault(routeKey(from, to), NONE) : byPrice;
+        int end = query.maxPrice() == null ? candidates.length : upperBound(candidates, query.maxPrice());
+        int maxStops = query.maxStops() == null ? Integer.MAX_VALUE : query.maxStops();
+
+        int[] selected = new int[end];
+        int count = 0;
+        for (int i = 0; i < end; i++) {
+            int row = candidates[i];
+            if ((byRoute || matches(StringColumn.FROM, row, from) && matches(StringColumn.TO, row, to))
+                    && matches(StringColumn.CABIN_CLASS, row, cabinClass)
+                    && (day == FlightTimes.MISSING || batch.between(NumericColumn.DATE, row, day, day))
+                    && batch.totalStops(row) <= maxStops) {
+                selected[count++] = row;
+            }
+        }
+        int[] matched = Arrays.copyOf(selected, count);
+        if (sortColumn != NumericColumn.PRICE) {
+            return batch.sort(matched, sortColumn, descending);
+        }
+        if (descending) {
+            // Reversing the price order also reverses ties; flip each run of equal prices back to row order.
+            reverse(matched, 0, matched.length);
+            for (int tieStart = 0, tieEnd; tieStart < matched.length; tieStart = tieEnd) {
+                tieEnd = tieStart + 1;
+                while (tieEnd < matched.length && batch.price(matched[tieEnd]) == batch.price(matched[tieStart])) {
+                    tieEnd++;
+                }
+                reverse(matched, tieStart, tieEnd);
+            }
+        }
+        return matched;
+    }
+
+    private static void reverse(int[] rows, int from, int to) {
+        for (int i = from, j = to - 1; i < j; i++, j--) {
+            int swap = rows[i];
+            rows[i] = rows[j];
+            rows[j] = swap;
+        }
+    }
+
+    /**
+     * Returns the best {@code k} flights by {@code ranking}, optionally only those leaving {@code from}
+     * and/or arriving at {@code to}. Neither ranking sorts the candidates: the price order is precomputed,
+     * and {@link Ranking#BEST_RATED} keeps a bounded heap of {@code k} rows.
+     */
+    public List<Flight> top(String from, String to, Ranking ranking, int k) {
+        int fromCode = code(StringColumn.FROM, from);
+        int toCode = code(StringColumn.TO, to);
+        if (fromCode == FlightBatch.ABSENT || toCode == FlightBatch.ABSENT) {
+            return List.of();
+        }
+        return topResults.computeIfAbsent(new TopKey(fromCode, toCode, ranking, k), this::computeTop);
+    }
+
+    private List<Flight> computeTop(TopKey key) {
+        boolean byRoute = key.from() != ANY && key.to() != ANY;
+        int[] candidates = byRoute ? routes.getOrDefault(routeKey(key.from(), key.to()), NONE) : byPrice;
+        int[] rows = key.ranking() == Ranking.CHEAPEST
+                ? cheapest(candidates, byRoute, key)
+                : bestRated(candidates, byRoute, key);
+        return List.copyOf(batch.materialize(rows, 0, rows.length));
+    }
+
+    /** The candidates are already in price order, so the scan stops at the k-th match. */
+    private int[] cheapest(int[] candidates, boolean byRoute, TopKey key) {
+        int[] selected = new int[Math.min(key.k(), candidates.length)];
+        int count = 0;
+        for (int i = 0; i < candidates.length && count < selected.length; i++) {
+            int row = candidates[i];
+            if (byRoute || matches(StringColumn.FROM, row, key.from()) && matches(StringColumn.TO, row, key.to())) {
+                selected[count++] = row;
+            }
+        }
+        return Arrays.copyOf(selected, count);
+    }
+
+    /** Min-heap of packed (score, row) longs holding the k best rows seen so far: O(n log k). */
+    private int[] bestRated(int[] candidates, boolean byRoute, TopKey key) {
+        long[] heap = new long[Math.min(key.k(), candidates.length)];
+        int size = 0;
+        for (int row : candidates) {
+            if (!byRoute && !(matches(StringColumn.FROM, row, key.from()) && matches(StringColumn.TO, row, key.to()))) {
+                continue;
+            }
+            long entry = ((long) scoreKey(row) << 32) | row;
+            if (size < heap.length) {
+                heap[size] = entry;
+                siftUp(heap, size++);
+            } else if (size > 0 && entry > heap[0]) {
+                heap[0] = entry;
+                siftDown(heap, size);
+            }
+        }
+        long[] best = Arrays.copyOf(heap, size);
+        Arrays.sort(best);
+        int[] rows = new int[size];
+        for (int i = 0; i < size; i++) {
+            rows[i] = (int) best[size - 1 - i];
+        }
+        return rows;
+    }
+
+    private int scoreKey(int row) {
+        int reviews = Math.max(0, batch.reviewsCount(row));
+        double score = (reviews * batch.rating(row) + priorReviews * meanRating) / (reviews + priorReviews);
+        // Float bits reordered so that signed int comparison matches numeric order.
+        int bits = Float.floatToIntBits((float) score);
+        return bits ^ ((bits >> 31) & Integer.MAX_VALUE);
+    }
+
+    private static void siftUp(long[] heap, int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (heap[parent] <= heap[index]) {
+                return;
+            }
+            swap(heap, parent, index);
+            index = parent;
+        }
+    }
+
+    private static void siftDown(long[] heap, int size) {
+        int index = 0;
+        while (true) {
+            int smallest = index;
+            int left = 2 * index + 1;
+            int right = left + 1;
+            if (left < size && heap[left] < heap[smallest]) {
+                smallest = left;
+            }
+            if (right < size && heap[right] < heap[smallest]) {
+                smallest = right;
+            }
+            if (smallest == index) {
+                return;
+            }
+            swap(heap, index, smallest);
+            index = smallest;
+        }
+    }
+
+    private static void swap(long[] heap, int i, int j) {
+        long tmp = heap[i];
+        heap[i] = heap[j];
+        heap[j] = tmp;
+    }
+
+    private int code(StringColumn column, String value) {
+        return value == null ? ANY : batch.codeOf(column, value);
+    }
+
+    private boolean matches(StringColumn column, int row, int code) {
+        return code == ANY || batch.code(column, row) == code;
+    }
+
+    /** First position in the price-ordered {@code rows} whose price exceeds {@code maxPrice}. */
+    private int upperBound(int[] rows, int maxPrice) {
+        int low = 0;
+        int high = rows.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (batch.price(rows[mid]) <= maxPrice) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private long routeKey(int row) {
+        return routeKey(batch.code(StringColumn.FROM, row), batch.code(StringColumn.TO, row));
+    }
+
+    private static long routeKey(int from, int to) {
+        return ((long) from << 32) | (to & 0xFFFFFFFFL);
+    }
+}
@@ -0,0 +1,353 @@
+package com.example.flightcore.model;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Reflection-free JSON binding of {@link Flight} and its {@link Airline}: reading is a switch over the field
+ * names on Jackson's streaming parser, writing walks {@link #FIELDS}, which calls the getters in declaration order
+ * with pre-encoded names.
+ * {@link Flight} names these with {@code @JsonSerialize}/{@code @JsonDeserialize}, so every {@code ObjectMapper}
+ * (Spring's HTTP message converters and codecs, the vendor client, the cached response bodies, CBOR and Smile)
+ * binds flights without bean introspection.
+ * <p>
+ * Reading is as lenient as Spring Boot's default mapper: unknown fields are skipped, numbers may be quoted,
+ * and nulls and empty strings leave primitives at zero. Like that mapper, it rejects a number that is malformed or
+ * out of range with an {@link InvalidFormatException} rather than reading it as zero. Low-cardinality values are
+ * shared through {@link StringInterner#FLIGHT_VALUES}.
+ */
+public final class FlightJsonCodec {
+
+    private static final SerializableString LOGO = new SerializedString("logo");
+    private static final SerializableString NAME = new SerializedString("name");
+
+    /** Writes the value of one {@link Flight} property; its name has already been written. */
+    @FunctionalInterface
+    public interface ValueWriter {
+        void write(Flight flight, JsonGenerator json) throws IOException;
+    }
+
+    /** One serialized {@link Flight} property: its pre-encoded name and how to write its value. */
+    public record Field(SerializableString name, ValueWriter value) {
+    }
+
+    /** Every serialized {@link Flight} property, in declaration order, which is also the output order. */
+    public static final List<Field> FIELDS = List.of(
+            text("aircraftType", Flight::getAircraftType),
+            field("airline", (flight, json) -> airline(json, flight.getAirline())),
+            text("arrivalTime", Flight::getArrivalTime),
+            text("baggage", Flight::getBaggage),
+            text("boardingTime", Flight::getBoardingTime),
+            text("cabinClass", Flight::getCabinClass),
+            text("cancellationPolicy", Flight::getCancellationPolicy),
+            text("changePolicy", Flight::getChangePolicy),
+            text("checkInCounter", Flight::getCheckInCounter),
+            text("covidSafety", Flight::getCovidSafety),
+            text("date", Flight::getDate),
+            text("departureTime", Flight::getDepartureTime),
+            text("duration", Flight::getDuration),
+            text("ecoFriendly", Flight::getEcoFriendly),
+            text("entertainment", Flight::getEntertainment),
+            text("extraLegroom", Flight::getExtraLegroom),
+            text("fareClass", Flight::getFareClass),
+            text("flightId", Flight::getFlightId),
+            text("flightNumber", Flight::getFlightNumber),
+            text("flightType", Flight::getFlightType),
+            text("from", Flight::getFrom),
+            text("gate", Flight::getGate),
+            text("infantPolicy", Flight::getInfantPolicy),
+            text("lastUpdated", Flight::getLastUpdated),
+            field("layovers", (flight, json) -> strings(json, flight.getLayovers())),
+            text("loungeAccess", Flight::getLoungeAccess),
+            text("meal", Flight::getMeal),
+            text("onTimePerformance", Flight::getOnTimePerformance),
+            text("petPolicy", Flight::getPetPolicy),
+            text("powerOutlet", Flight::getPowerOutlet),
+            field("price", (flight, json) -> json.writeNumber(flight.getPrice())),
+            text("priorityBoarding", Flight::getPriorityBoarding),
+            field("rating", (flight, json) -> json.writeNumber(flight.getRating())),
+            text("recliningAngle", Flight::getRecliningAngle),
+            field("reviewsCount", (flight, json) -> json.writeNumber(flight.getReviewsCount())),
+            text("seatPitch", Flight::getSeatPitch),
+            text("seatType", Flight::getSeatType),
+            text("seatWidth", Flight::getSeatWidth),
+            text("terminal", Flight::getTerminal),
+            text("to", Flight::getTo),
+            field("totalStops", (flight, json) -> json.writeNumber(flight.getTotalStops())),
+            text("usbPort", Flight::getUsbPort),
+            text("vendor_logo", Flight::getVendor_logo),
+            text("vendor_name", Flight::getVendor_name),
+            text("wifi", Flight::getWifi));
+
+    private FlightJsonCodec() {
+    }
+
+    public static final class Serializer extends StdSerializer<Flight> {
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(Flight.class);
+        }
+
+        @Override
+        public void serialize(Flight flight, JsonGenerator json, SerializerProvider provider) throws IOException {
+            write(flight, json);
+        }
+    }
+
+    public static final class Deserializer extends StdDeserializer<Flight> {
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(Flight.class);
+        }
+
+        @Override
+        public Flight deserialize(JsonParser parser, DeserializationContext ctxt) throws IOException {
+            return read(parser, ctxt);
+        }
+    }
+
+    public static void write(Flight flight, JsonGenerator json) throws IOException {
+        json.writeStartObject(flight);
+        for (Field field : FIELDS) {
+            json.writeFieldName(field.name());
+            field.value().write(flight, json);
+        }
+        json.writeEndObject();
+    }
+
+    private static Field field(String name, ValueWriter value) {
+        return new Field(new SerializedString(name), value);
+    }
+
+    private static Field text(String name, Function<Flight, String> getter) {
+        return field(name, (flight, json) -> string(json, getter.apply(flight)));
+    }
+
+    private static void airline(JsonGenerator json, Airline airline) throws IOException {
+        if (airline == null) {
+            json.writeNull();
+            return;
+        }
+        json.writeStartObject(airline);
+        json.writeFieldName(LOGO);
+        string(json, airline.getLogo());
+        json.writeFieldName(NAME);
+        string(json, airline.getName());
+        json.writeEndObject();
+    }
+
+    private static void strings(JsonGenerator json, List<String> values) throws IOException {
+        if (values == null) {
+            json.writeNull();
+            return;
+        }
+        json.writeStartArray(values, values.size());
+        for (String value : values) {
+            json.writeString(value);
+        }
+        json.writeEndArray();
+    }
+
+    /**
+     * Reads one flight; the parser is on its {@code START_OBJECT} (or first field name) and is left on its
+     * {@code END_OBJECT}.
+     */
+    public static Flight read(JsonParser parser, DeserializationContext ctxt) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = parser.nextToken();
+        } else if (token != JsonToken.FIELD_NAME) {
+            return (Flight) ctxt.handleUnexpectedToken(Flight.class, parser);
+        }
+        Flight flight = new Flight();
+        for (; token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+            String name = parser.currentName();
+            parser.nextToken();
+            switch (name) {
+                case "aircraftType" -> flight.setAircraftType(string(parser, ctxt));
+                case "airline" -> flight.setAirline(airline(parser, ctxt));
+                case "arrivalTime" -> flight.setArrivalTime(string(parser, ctxt));
+                case "baggage" -> flight.setBaggage(string(parser, ctxt));
+                case "boardingTime" -> flight.setBoardingTime(string(parser, ctxt));
+                case "cabinClass" -> flight.setCabinClass(interned(parser, ctxt));
+                case "cancellationPolicy" -> flight.setCancellationPolicy(string(parser, ctxt));
+                case "changePolicy" -> flight.setChangePolicy(string(parser, ctxt));
+                case "checkInCounter" -> flight.setCheckInCounter(string(parser, ctxt));
+                case "covidSafety" -> flight.setCovidSafety(interned(parser, ctxt));
+                case "date" -> flight.setDate(string(parser, ctxt));
+                case "departureTime" -> flight.setDepartureTime(string(parser, ctxt));
+                case "duration" -> flight.setDuration(string(parser, ctxt));
+                case "ecoFriendly" -> flight.setEcoFriendly(string(parser, ctxt));
+                case "entertainment" -> flight.setEntertainment(string(parser, ctxt));
+                case "extraLegroom" -> flight.setExtraLegroom(string(parser, ctxt));
+                case "fareClass" -> flight.setFareClass(string(parser, ctxt));
+                case "flightId" -> flight.setFlightId(string(parser, ctxt));
+                case "flightNumber" -> flight.setFlightNumber(string(parser, ctxt));
+                case "flightType" -> flight.setFlightType(string(parser, ctxt));
+                case "from" -> flight.setFrom(string(parser, ctxt));
+                case "gate" -> flight.setGate(string(parser, ctxt));
+                case "infantPolicy" -> flight.setInfantPolicy(string(parser, ctxt));
+                case "lastUpdated" -> flight.setLastUpdated(string(parser, ctxt));
+                case "layovers" -> flight.setLayovers(strings(parser, ctxt));
+                case "loungeAccess" -> flight.setLoungeAccess(string(parser, ctxt));
+                case "meal" -> flight.setMeal(interned(parser, ctxt));
+                case "onTimePerformance" -> flight.setOnTimePerformance(string(parser, ctxt));
+                case "petPolicy" -> flight.setPetPolicy(interned(parser, ctxt));
+                case "powerOutlet" -> flight.setPowerOutlet(string(parser, ctxt));
+                case "price" -> flight.setPrice(intValue(parser));
+                case "priorityBoarding" -> flight.setPriorityBoarding(string(parser, ctxt));
+                case "rating" -> flight.setRating(doubleValue(parser));
+                case "recliningAngle" -> flight.setRecliningAngle(string(parser, ctxt));
+                case "reviewsCount" -> flight.setReviewsCount(intValue(parser));
+                case "seatPitch" -> flight.setSeatPitch(string(parser, ctxt));
+                case "seatType" -> flight.setSeatType(interned(parser, ctxt));
+                case "seatWidth" -> flight.setSeatWidth(string(parser, ctxt));
+                case "terminal" -> flight.setTerminal(string(parser, ctxt));
+                case "to" -> flight.setTo(string(parser, ctxt));
+                case "totalStops" -> flight.setTotalStops(intValue(parser));
+                case "usbPort" -> flight.setUsbPort(string(parser, ctxt));
+                case "vendor_logo" -> flight.setVendor_logo(interned(parser, ctxt));
+                case "vendor_name" -> flight.setVendor_name(interned(parser, ctxt));
+                case "wifi" -> flight.setWifi(interned(parser, ctxt));
+                default -> parser.skipChildren();
+            }
+        }
+        return flight;
+    }
+
+    private static Airline airline(JsonParser parser, DeserializationContext ctxt) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            return (Airline) ctxt.handleUnexpectedToken(Airline.class, parser);
+        }
+        Airline airline = new Airline();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            parser.nextToken();
+            switch (name) {
+                case "logo" -> airline.setLogo(string(parser, ctxt));
+                case "name" -> airline.setName(interned(parser, ctxt));
+                default -> parser.skipChildren();
+            }
+        }
+        return airline;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String> strings(JsonParser parser, DeserializationContext ctxt) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            return (List<String>) ctxt.handleUnexpectedToken(List.class, parser);
+        }
+        List<String> values = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            values.add(string(parser, ctxt));
+        }
+        return values;
+    }
+
+    /**
+     * Reads the current token as an {@code int} the way {@link #read} does: numbers, quoted numbers, and zero for
+     * {@code null} or an empty string. A fraction is truncated.
+     *
+     * @throws InvalidFormatException if the value is not a number or does not fit in an {@code int}
+     */
+    public static int intValue(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+            double value = parser.getDoubleValue();
+            if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+                throw InvalidFormatException.from(parser, "Out of range of int", parser.getNumberValue(), int.class);
+            }
+            return token == JsonToken.VALUE_NUMBER_INT ? parser.getIntValue() : (int) value;
+        }
+        if (token == JsonToken.VALUE_STRING) {
+            String text = parser.getText().trim();
+            if (text.isEmpty()) {
+                return 0;
+            }
+            try {
+                return Integer.parseInt(text);
+            } catch (NumberFormatException e) {
+                throw InvalidFormatException.from(parser, "Not a valid int", text, int.class);
+            }
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            return 0;
+        }
+        throw MismatchedInputException.from(parser, int.class, "Expected a number, got " + token);
+    }
+
+    /**
+     * Reads the current token as a {@code double}; see {@link #intValue}.
+     *
+     * @throws InvalidFormatException if the value is not a number
+     */
+    public static double doubleValue(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+            return parser.getDoubleValue();
+        }
+        if (token == JsonToken.VALUE_STRING) {
+            String text = parser.getText().trim();
+            if (text.isEmpty()) {
+                return 0;
+            }
+            try {
+                return Double.parseDouble(text);
+            } catch (NumberFormatException e) {
+                throw InvalidFormatException.from(parser, "Not a valid double", text, double.class);
+            }
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            return 0;
+        }
+        throw MismatchedInputException.from(parser, double.class, "Expected a number, got " + token);
+    }
+
+    private static String interned(JsonParser parser, DeserializationContext ctxt) throws IOException {
+        return StringInterner.FLIGHT_VALUES.intern(string(parser, ctxt));
+    }
+
+    private static String string(JsonParser parser, DeserializationContext ctxt) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_STRING) {
+            return parser.getText();
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token.isScalarValue()) {
+            return parser.getValueAsString();
+        }
+        return (String) ctxt.handleUnexpectedToken(String.class, parser);
+    }
+
+    private static void string(JsonGenerator json, String value) throws IOException {
+        if (value == null) {
+            json.writeNull();
+        } else {
+            json.writeString(value);
+        }
+    }
+}
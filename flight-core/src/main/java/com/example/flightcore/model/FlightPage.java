@@ -0,0 +1,67 @@
+package com.example.flightcore.model;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * One page of search results. The cursor for the next page names the snapshot version and offset,
+ * so it is only valid while that snapshot is served.
+ */
+public final class FlightPage {
+    private final List<Flight> flights;
+    private final int total;
+    private final String nextCursor;
+
+    private FlightPage(List<Flight> flights, int total, String nextCursor) {
+        this.flights = flights;
+        this.total = total;
+        this.nextCursor = nextCursor;
+    }
+
+    public static FlightPage of(FlightSnapshot snapshot, int[] rows, int offset, int limit) {
+        int start = Math.min(offset, rows.length);
+        int end = Math.min(rows.length, start + limit);
+        List<Flight> flights = snapshot.batch().materialize(rows, start, end);
+        String next = end < rows.length ? cursor(snapshot.getVersion(), end) : null;
+        return new FlightPage(flights, rows.length, next);
+    }
+
+    /**
+     * Returns the offset encoded in {@code cursor}, {@code 0} for no cursor, or {@code -1} if the cursor
+     * is malformed or was issued for another snapshot.
+     */
+    public static int offset(String cursor, long version) {
+        if (cursor == null || cursor.isEmpty()) {
+            return 0;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+            int separator = decoded.indexOf(':');
+            if (separator < 0 || Long.parseLong(decoded.substring(0, separator)) != version) {
+                return -1;
+            }
+            int offset = Integer.parseInt(decoded.substring(separator + 1));
+            return offset < 0 ? -1 : offset;
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+
+    private static String cursor(long version, int offset) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((version + ":" + offset).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    public List<Flight> getFlights() {
+        return flights;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.flightcore.model;
+
+/**
+ * Filters, ordering and paging for a flight search; {@code null} means "not constrained".
+ * {@code sort} is a field name, prefixed with {@code -} for descending order.
+ */
+public record FlightQuery(String from,
+                          String to,
+                          String date,
+                          String cabinClass,
+                          Integer maxPrice,
+                          Integer maxStops,
+                          String sort,
+                          String cursor,
+                          Integer limit) {
+
+    public boolean isEmpty() {
+        return from == null && to == null && date == null && cabinClass == null && maxPrice == null
+                && maxStops == null && sort == null && cursor == null && limit == null;
+    }
+
+    public boolean descending() {
+        return sort != null && sort.startsWith("-");
+    }
+
+    public String sortField() {
+        if (sort == null) {
+            return "price";
+        }
+        return descending() ? sort.substring(1) : sort;
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.flightcore.model;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * One immutable vendor response. {@code version} increases with every snapshot the cache publishes.
+ * Views derived from the flights (encoded bodies, indexes) are memoized per snapshot with {@link #derive},
+ * so they are built once and dropped together with the snapshot.
+ */
+public final class FlightSnapshot {
+    private final long version;
+    private final List<Flight> flights;
+    private final Instant fetchedAt;
+    private final ConcurrentHashMap<Object, Object> derived = new ConcurrentHashMap<>();
+
+    public FlightSnapshot(long version, List<Flight> flights, Instant fetchedAt) {
+        this.version = version;
+        this.flights = flights;
+        this.fetchedAt = fetchedAt;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public List<Flight> getFlights() {
+        return flights;
+    }
+
+    public Instant getFetchedAt() {
+        return fetchedAt;
+    }
+
+    public Duration age() {
+        return Duration.between(fetchedAt, Instant.now());
+    }
+
+    public FlightBatch batch() {
+        return derive(FlightBatch.class, FlightBatch::of);
+    }
+
+    public FlightIndex index() {
+        return derive(FlightIndex.class, FlightIndex::of);
+    }
+
+    /**
+     * Returns the view stored under {@code key}, building it on first use. Factories may derive other views;
+     * two threads racing on the same key may both build it, and the first stored value wins.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T derive(Object key, Function<FlightSnapshot, T> factory) {
+        Object value = derived.get(key);
+        if (value == null) {
+            value = factory.apply(this);
+            Object raced = derived.putIfAbsent(key, value);
+            if (raced != null) {
+                value = raced;
+            }
+        }
+        return (T) value;
+    }
+}
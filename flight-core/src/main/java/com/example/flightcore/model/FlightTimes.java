@@ -0,0 +1,158 @@
+package com.example.flightcore.model;
+
+import java.text.ParsePosition;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.ResolverStyle;
+import java.time.temporal.TemporalQuery;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Lenient parsing of the vendor's date, time and duration strings into primitive minutes.
+ * Date-times without an offset and times of day are taken as UTC. Anything that does not parse, or whose
+ * minutes do not fit in an {@code int}, becomes {@link #MISSING}, so one odd row never fails a snapshot.
+ */
+public final class FlightTimes {
+
+    /** Value of a temporal field that is absent or could not be parsed. */
+    public static final int MISSING = Integer.MIN_VALUE;
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    /** Longest run of digits read as hours or minutes; keeps {@code hours * 60} well inside a {@code long}. */
+    private static final int MAX_DIGITS = 9;
+
+    private static final List<DateTimeFormatter> DATES = List.of(
+            DateTimeFormatter.ISO_LOCAL_DATE,
+            format("dd-MM-uuuu"),
+            format("dd/MM/uuuu"),
+            format("d MMM uuuu"),
+            format("MMM d, uuuu"));
+    private static final List<DateTimeFormatter> OFFSET_DATE_TIMES = List.of(
+            DateTimeFormatter.ISO_OFFSET_DATE_TIME);
+    private static final List<DateTimeFormatter> LOCAL_DATE_TIMES = List.of(
+            DateTimeFormatter.ISO_LOCAL_DATE_TIME,
+            format("uuuu-MM-dd HH:mm[:ss]"));
+    private static final List<DateTimeFormatter> TIMES = List.of(
+            DateTimeFormatter.ISO_LOCAL_TIME,
+            format("H:mm"),
+            format("h:mm[ ]a"));
+    private static final List<DateTimeFormatter> CLOCK = List.of(format("H:mm"));
+    private static final Pattern HOURS_MINUTES = Pattern.compile(
+            "(?i)\\s*(?:(\\d+)\\s*h(?:ours?|rs?)?)?\\s*(?:(\\d+)\\s*m(?:in(?:utes?|s)?)?)?\\s*");
+
+    private FlightTimes() {
+    }
+
+    public static LocalDate parseDate(String text) {
+        return text == null ? null : tryParse(text.trim(), DATES, LocalDate::from);
+    }
+
+    /** Epoch minutes of midnight UTC on {@code date}. */
+    public static int epochMinutes(LocalDate date) {
+        return date == null ? MISSING : minutes(date.toEpochDay() * MINUTES_PER_DAY);
+    }
+
+    /**
+     * Epoch minutes of {@code text}, read as a full date-time or as a time of day on {@code date}.
+     * A time of day that would fall before {@code notBefore} is moved to the next day, for arrivals
+     * past midnight; pass {@link #MISSING} to disable that.
+     */
+    public static int epochMinutes(String text, LocalDate date, int notBefore) {
+        if (text == null) {
+            return MISSING;
+        }
+        String trimmed = text.trim();
+        OffsetDateTime offsetDateTime = tryParse(trimmed, OFFSET_DATE_TIMES, OffsetDateTime::from);
+        if (offsetDateTime != null) {
+            return toMinutes(offsetDateTime.toEpochSecond());
+        }
+        LocalDateTime localDateTime = tryParse(trimmed, LOCAL_DATE_TIMES, LocalDateTime::from);
+        if (localDateTime != null) {
+            return toMinutes(localDateTime.toEpochSecond(ZoneOffset.UTC));
+        }
+        LocalTime time = date == null ? null : tryParse(trimmed, TIMES, LocalTime::from);
+        if (time == null) {
+            return MISSING;
+        }
+        long minutes = date.toEpochDay() * MINUTES_PER_DAY + time.getHour() * 60 + time.getMinute();
+        return minutes(notBefore != MISSING && minutes < notBefore ? minutes + MINUTES_PER_DAY : minutes);
+    }
+
+    /** Minutes in {@code text}: {@code PT2H30M}, {@code 2h 30m}, {@code 2:30} or a plain number of minutes. */
+    public static int durationMinutes(String text) {
+        if (text == null || text.isBlank()) {
+            return MISSING;
+        }
+        String trimmed = text.trim();
+        if (trimmed.startsWith("P") || trimmed.startsWith("p")) {
+            try {
+                return minutes(Duration.parse(trimmed).toMinutes());
+            } catch (DateTimeException e) {
+                return MISSING;
+            }
+        }
+        LocalTime clock = tryParse(trimmed, CLOCK, LocalTime::from);
+        if (clock != null) {
+            return clock.getHour() * 60 + clock.getMinute();
+        }
+        Matcher matcher = HOURS_MINUTES.matcher(trimmed);
+        if (matcher.matches() && (matcher.group(1) != null || matcher.group(2) != null)) {
+            long hours = number(matcher.group(1));
+            long minutes = number(matcher.group(2));
+            return hours < 0 || minutes < 0 ? MISSING : minutes(hours * 60 + minutes);
+        }
+        long plain = trimmed.chars().allMatch(Character::isDigit) ? number(trimmed) : -1;
+        return plain < 0 ? MISSING : minutes(plain);
+    }
+
+    /** {@code digits} as a number, 0 if absent, or -1 if it has more than {@link #MAX_DIGITS} digits. */
+    private static long number(String digits) {
+        if (digits == null) {
+            return 0;
+        }
+        return digits.length() > MAX_DIGITS ? -1 : Long.parseLong(digits);
+    }
+
+    private static int toMinutes(long epochSecond) {
+        return minutes(Math.floorDiv(epochSecond, 60));
+    }
+
+    /** {@code minutes} as an {@code int}, or {@link #MISSING} if it does not fit or would be mistaken for it. */
+    private static int minutes(long minutes) {
+        return minutes > Integer.MIN_VALUE && minutes <= Integer.MAX_VALUE ? (int) minutes : MISSING;
+    }
+
+    /** Tries each format without throwing on a mismatch, since most rows fail every format but one. */
+    private static <T> T tryParse(String text, List<DateTimeFormatter> formats, TemporalQuery<T> query) {
+        for (DateTimeFormatter format : formats) {
+            ParsePosition position = new ParsePosition(0);
+            if (format.parseUnresolved(text, position) != null
+                    && position.getErrorIndex() < 0 && position.getIndex() == text.length()) {
+                try {
+                    return format.parse(text, query);
+                } catch (DateTimeException e) {
+                    // Right shape but not a valid value (e.g. 31-02-2024); try the next format.
+                }
+            }
+        }
+        return null;
+    }
+
+    private static DateTimeFormatter format(String pattern) {
+        return new DateTimeFormatterBuilder()
+                .parseCaseInsensitive()
+                .appendPattern(pattern)
+                .toFormatter(Locale.ENGLISH)
+                .withResolverStyle(ResolverStyle.STRICT);
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.flightcore.model;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded, thread-safe intern table for low-cardinality string values.
+ * Once {@code maxSize} distinct values are held, new values are returned as is instead of being added,
+ * so a high-cardinality field that slips in cannot grow the table without limit.
+ */
+public final class StringInterner {
+
+    /** Shared table for the low-cardinality {@link Flight} and {@link Airline} fields. */
+    public static final StringInterner FLIGHT_VALUES = new StringInterner(4096);
+
+    private final ConcurrentHashMap<String, String> table = new ConcurrentHashMap<>();
+    private final int maxSize;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder overflows = new LongAdder();
+
+    public StringInterner(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        String canonical = table.get(value);
+        if (canonical != null) {
+            hits.increment();
+            return canonical;
+        }
+        if (table.size() >= maxSize) {
+            overflows.increment();
+            return value;
+        }
+        canonical = table.putIfAbsent(value, value);
+        return canonical != null ? canonical : value;
+    }
+
+    public int size() {
+        return table.size();
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long overflows() {
+        return overflows.sum();
+    }
+
+    /**
+     * Approximate heap held by one copy of {@code value}: the {@code String} object plus its compact
+     * (Latin-1) backing array, both rounded to 8-byte alignment.
+     */
+    public static long estimatedSize(String value) {
+        return 24 + ((16 + value.length() + 7) & ~7);
+    }
+}
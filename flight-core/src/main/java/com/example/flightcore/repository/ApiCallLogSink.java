@@ -0,0 +1,231 @@
+package com.example.flightcore.repository;
+
+import com.example.flightcore.model.ApiCallLog;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write-behind sink for {@link ApiCallLog} documents, either as entities or already mapped to a {@link Document}.
+ * Callers enqueue into a bounded queue and return immediately; a single flusher thread
+ * writes batches with {@code insertMany} once {@code batch-size} entries are queued or
+ * {@code flush-interval} has passed since the first entry of the batch.
+ * The queue is drained when the application context stops. The sink stops in a later phase than the web and
+ * gRPC servers, so requests still in flight can log; anything submitted after it stopped is written on the
+ * caller thread.
+ */
+@Component
+public class ApiCallLogSink implements SmartLifecycle {
+
+    public enum OverflowPolicy {
+        /** Wait for room in the queue. */
+        BLOCK,
+        /** Discard the entry and count it in {@code flights.log.dropped}. */
+        DROP,
+        /** Spill the entry straight to MongoDB on the caller thread. */
+        WRITE_THROUGH
+    }
+
+    private static final Logger LOG = LoggerFactory.getLogger(ApiCallLogSink.class);
+
+    /**
+     * Below the embedded web server's start/stop phase ({@code DEFAULT_PHASE - 2048}): started before it, stopped
+     * after it.
+     */
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+    private static final long BLOCK_POLL_MILLIS = 100;
+
+    private final MongoTemplate mongoTemplate;
+    private final BlockingQueue<Object> queue;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final OverflowPolicy overflowPolicy;
+    private final Duration shutdownTimeout;
+    private final Counter dropped;
+    private final Counter failed;
+    private final DistributionSummary batchSizes;
+    private final Timer flushLatency;
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    @Autowired
+    public ApiCallLogSink(MongoTemplate mongoTemplate,
+                          MeterRegistry meterRegistry,
+                          @Value("${flights.log.queue-capacity:10000}") int queueCapacity,
+                          @Value("${flights.log.batch-size:500}") int batchSize,
+                          @Value("${flights.log.flush-interval:200ms}") Duration flushInterval,
+                          @Value("${flights.log.overflow-policy:DROP}") OverflowPolicy overflowPolicy,
+                          @Value("${flights.log.shutdown-timeout:10s}") Duration shutdownTimeout) {
+        this.mongoTemplate = mongoTemplate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.overflowPolicy = overflowPolicy;
+        this.shutdownTimeout = shutdownTimeout;
+        Gauge.builder("flights.log.queue.depth", queue, BlockingQueue::size)
+                .description("ApiCallLog entries waiting to be flushed")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("flights.log.dropped")
+                .description("ApiCallLog entries discarded because the queue was full")
+                .register(meterRegistry);
+        this.failed = Counter.builder("flights.log.failed")
+                .description("ApiCallLog entries lost to failed bulk writes")
+                .register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("flights.log.batch.size")
+                .description("Entries per insertMany")
+                .register(meterRegistry);
+        this.flushLatency = Timer.builder("flights.log.flush")
+                .description("insertMany latency")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    public void submit(ApiCallLog log) {
+        enqueue(log);
+    }
+
+    /**
+     * Queues a {@code calls_log} document that is already in its stored shape; it is inserted as is.
+     */
+    public void submit(Document log) {
+        enqueue(log);
+    }
+
+    private void enqueue(Object log) {
+        if (!running) {
+            write(List.of(log));
+            return;
+        }
+        switch (overflowPolicy) {
+            case BLOCK -> {
+                try {
+                    while (!queue.offer(log, BLOCK_POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                        if (!running) {
+                            // The flusher is gone and will not make room.
+                            write(List.of(log));
+                            return;
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    dropped.increment();
+                }
+            }
+            case DROP -> {
+                if (!queue.offer(log)) {
+                    dropped.increment();
+                }
+            }
+            case WRITE_THROUGH -> {
+                if (!queue.offer(log)) {
+                    write(List.of(log));
+                }
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        flusher = new Thread(this::flushLoop, "api-call-log-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            flusher.join(shutdownTimeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!flusher.isAlive()) {
+            // Entries that raced the flusher's final drain.
+            List<Object> rest = new ArrayList<>();
+            queue.drainTo(rest);
+            write(rest);
+        }
+        if (!queue.isEmpty()) {
+            LOG.warn("{} ApiCallLog entries were not flushed before shutdown", queue.size());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private void flushLoop() {
+        List<Object> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                Object first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + flushIntervalNanos;
+                while (batch.size() < batchSize) {
+                    if (queue.drainTo(batch, batchSize - batch.size()) > 0) {
+                        continue;
+                    }
+                    long remaining = deadline - System.nanoTime();
+                    Object next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            write(batch);
+            batch.clear();
+        }
+        while (queue.drainTo(batch, batchSize) > 0 || !batch.isEmpty()) {
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void write(List<Object> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            mongoTemplate.insert(new ArrayList<>(batch), ApiCallLog.class);
+            batchSizes.record(batch.size());
+        } catch (RuntimeException e) {
+            failed.increment(batch.size());
+            LOG.warn("Bulk insert of {} ApiCallLog entries failed", batch.size(), e);
+        } finally {
+            flushLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
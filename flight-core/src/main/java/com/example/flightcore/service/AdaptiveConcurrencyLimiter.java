@@ -0,0 +1,189 @@
+package com.example.flightcore.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * AIMD limit on concurrent vendor calls.
+ * The limit grows by one per window of successful calls whose RTT stays within {@code rtt-tolerance}
+ * times the baseline RTT, and is multiplied by {@code backoff-ratio} on a failure or a slower call.
+ * The baseline is an exponentially weighted average of RTTs over roughly {@code baseline-window} calls,
+ * so a single unusually fast response does not make every later call look slow.
+ * It only grows while at least half of the limit is in use: behind the coalesced snapshot fetch that is
+ * rare and the limit mostly stays at {@code initial-limit}, since an unused limit says nothing about
+ * what the vendor can take.
+ * <p>
+ * A call is over for the limiter when it reports {@link Call#responded()}, or when it returns if it never
+ * does: its slot is freed and its RTT taken there. A call that hands flights to a client while it reads
+ * reports it on the response headers, so a slow client neither holds a slot nor is charged to the vendor;
+ * the rest of such a read, failure included, no longer counts.
+ * When the limit is reached, callers wait up to {@code max-wait} and then fail with
+ * {@link VendorOverloadedException}.
+ * A call that ends with {@link CancellationException} was abandoned by its caller: it frees its slot
+ * without touching the limit or the baseline.
+ */
+@Component
+public class AdaptiveConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final double rttTolerance;
+    private final double baselineWeight;
+    private final long maxWaitNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+    private final Counter rejections;
+
+    private double limit;
+    private int inFlight;
+    private double baselineRttNanos;
+
+    @Autowired
+    public AdaptiveConcurrencyLimiter(MeterRegistry meterRegistry,
+                                      @Value("${flights.vendor.limiter.initial-limit:20}") int initialLimit,
+                                      @Value("${flights.vendor.limiter.min-limit:1}") int minLimit,
+                                      @Value("${flights.vendor.limiter.max-limit:200}") int maxLimit,
+                                      @Value("${flights.vendor.limiter.backoff-ratio:0.9}") double backoffRatio,
+                                      @Value("${flights.vendor.limiter.rtt-tolerance:2.0}") double rttTolerance,
+                                      @Value("${flights.vendor.limiter.baseline-window:100}") int baselineWindow,
+                                      @Value("${flights.vendor.limiter.max-wait:100ms}") Duration maxWait) {
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.rttTolerance = rttTolerance;
+        this.baselineWeight = 1.0 / Math.max(1, baselineWindow);
+        this.maxWaitNanos = maxWait.toNanos();
+        Gauge.builder("flights.vendor.limit", this, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Current adaptive limit on concurrent vendor calls")
+                .register(meterRegistry);
+        Gauge.builder("flights.vendor.inflight", this, AdaptiveConcurrencyLimiter::getInFlight)
+                .description("Vendor calls currently in flight")
+                .register(meterRegistry);
+        this.rejections = Counter.builder("flights.vendor.rejections")
+                .description("Vendor calls rejected because the limit was reached")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Times one vendor call from the moment it got its slot, and gives the slot back.
+     */
+    public final class Call {
+        private final long start = System.nanoTime();
+        private boolean released;
+
+        /**
+         * Ends the call for the limiter here, as a success: its RTT is taken and its slot freed.
+         * Later calls are ignored.
+         */
+        public void responded() {
+            release(true, false);
+        }
+
+        private void release(boolean success, boolean cancelled) {
+            if (!released) {
+                released = true;
+                AdaptiveConcurrencyLimiter.this.release(System.nanoTime() - start, success, cancelled);
+            }
+        }
+    }
+
+    public <T> T execute(Supplier<T> call) {
+        return execute(measured -> call.get());
+    }
+
+    public <T> T execute(Function<Call, T> call) {
+        if (!acquire()) {
+            rejections.increment();
+            throw new VendorOverloadedException("Vendor concurrency limit reached (" + getLimit() + ")");
+        }
+        Call measured = new Call();
+        boolean success = false;
+        boolean cancelled = false;
+        try {
+            T result = call.apply(measured);
+            success = true;
+            return result;
+        } catch (CancellationException e) {
+            cancelled = true;
+            throw e;
+        } finally {
+            measured.release(success, cancelled);
+        }
+    }
+
+    public int getLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean acquire() {
+        lock.lock();
+        try {
+            long remaining = maxWaitNanos;
+            while (inFlight >= (int) limit) {
+                if (remaining <= 0) {
+                    return false;
+                }
+                remaining = released.awaitNanos(remaining);
+            }
+            inFlight++;
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release(long rttNanos, boolean success, boolean cancelled) {
+        lock.lock();
+        try {
+            boolean saturated = inFlight * 2 >= limit;
+            inFlight--;
+            if (cancelled) {
+                released.signalAll();
+                return;
+            }
+            if (success) {
+                baselineRttNanos = baselineRttNanos == 0
+                        ? rttNanos
+                        : baselineRttNanos + (rttNanos - baselineRttNanos) * baselineWeight;
+            }
+            if (!success || rttNanos > baselineRttNanos * rttTolerance) {
+                limit = Math.max(minLimit, limit * backoffRatio);
+            } else if (saturated) {
+                limit = Math.min(maxLimit, limit + 1.0 / limit);
+            }
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.flightcore.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Body of one snapshot in one {@link FlightFormat}, its gzip encoding, and a strong ETag for each.
+ * The ETag is a hash of the body bytes, so it stays the same across refreshes that return identical data
+ * and differs between formats.
+ */
+public final class EncodedFlights {
+    private final FlightFormat format;
+    private final byte[] body;
+    private final String etag;
+    private final byte[] gzip;
+    private final String gzipEtag;
+
+    public EncodedFlights(FlightFormat format, byte[] body) {
+        String hash = contentHash(body);
+        this.format = format;
+        this.body = body;
+        this.etag = "\"" + hash + "\"";
+        this.gzip = gzip(body);
+        this.gzipEtag = "\"" + hash + "-gzip\"";
+    }
+
+    public FlightFormat getFormat() {
+        return format;
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    public byte[] getGzip() {
+        return gzip;
+    }
+
+    public String getGzipEtag() {
+        return gzipEtag;
+    }
+
+    public double compressionRatio() {
+        return gzip.length == 0 ? 1.0 : (double) body.length / gzip.length;
+    }
+
+    private static String contentHash(byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest).substring(0, 22);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        // Compressed once per snapshot, so spend the CPU on the best ratio.
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.flightcore.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Encodings {@code /flights} can answer in, in order of preference when the client accepts several equally.
+ */
+public enum FlightFormat {
+    JSON(MediaType.APPLICATION_JSON, mapper -> mapper),
+    CBOR(MediaType.APPLICATION_CBOR, mapper -> mapper.copyWith(new CBORFactory())),
+    SMILE(MediaType.parseMediaType("application/x-jackson-smile"), mapper -> mapper.copyWith(new SmileFactory()));
+
+    private final MediaType mediaType;
+    private final Function<ObjectMapper, ObjectMapper> mapperFactory;
+
+    FlightFormat(MediaType mediaType, Function<ObjectMapper, ObjectMapper> mapperFactory) {
+        this.mediaType = mediaType;
+        this.mapperFactory = mapperFactory;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    /** A mapper for this format with the same modules and settings as the application's JSON mapper. */
+    public ObjectMapper mapper(ObjectMapper jsonMapper) {
+        return mapperFactory.apply(jsonMapper);
+    }
+
+    /**
+     * Returns the format to answer an {@code Accept} header with: the first one covered by the highest-quality
+     * accepted media type. A missing or malformed header gets JSON; {@code null} means none is acceptable.
+     */
+    public static FlightFormat negotiate(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return JSON;
+        }
+        List<MediaType> accepted;
+        try {
+            accepted = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        } catch (InvalidMediaTypeException e) {
+            return JSON;
+        }
+        accepted.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+        for (MediaType candidate : accepted) {
+            if (candidate.getQualityValue() <= 0) {
+                break;
+            }
+            for (FlightFormat format : values()) {
+                if (candidate.includes(format.mediaType)) {
+                    return format;
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.flightcore.service;
+
+import com.example.flightcore.model.Flight;
+import com.example.flightcore.model.FlightJsonCodec;
+import com.example.flightcore.model.FlightSnapshot;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.NopAnnotationIntrospector;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Encodes and decodes a snapshot in every {@link FlightFormat} and reports the body size, its gzipped size,
+ * and the fastest of {@code flights.formats.runs} encode and decode passes. Measured once per snapshot.
+ * {@code JSON_DATABIND} is JSON through Jackson's reflective bean binding, the baseline for {@link FlightJsonCodec}.
+ * Protobuf is measured the same way by the gRPC module's {@code CompareFormats} call.
+ */
+@Component
+public class FlightFormatComparison {
+
+    public record FormatStats(String format, String mediaType, int bytes, int gzipBytes,
+                              double encodeMillis, double decodeMillis) {
+    }
+
+    public record Report(long snapshotVersion, int flights, List<FormatStats> formats) {
+    }
+
+    private final FlightResponseEncoder encoder;
+    private final ObjectMapper databindMapper;
+    private final int runs;
+
+    @Autowired
+    public FlightFormatComparison(FlightResponseEncoder encoder,
+                                  ObjectMapper objectMapper,
+                                  @Value("${flights.formats.runs:5}") int runs) {
+        this.encoder = encoder;
+        // Ignores annotations, so Flight is bound by bean introspection instead of FlightJsonCodec.
+        this.databindMapper = objectMapper.copy().setAnnotationIntrospector(NopAnnotationIntrospector.instance);
+        this.runs = Math.max(1, runs);
+    }
+
+    public Report compare(FlightSnapshot snapshot) {
+        return snapshot.derive(Report.class, this::measure);
+    }
+
+    private Report measure(FlightSnapshot snapshot) {
+        List<Flight> flights = snapshot.getFlights();
+        List<FormatStats> formats = new ArrayList<>();
+        for (FlightFormat format : FlightFormat.values()) {
+            formats.add(measure(format.name(), format.mediaType().toString(), encoder.mapper(format), flights));
+        }
+        formats.add(measure("JSON_DATABIND", FlightFormat.JSON.mediaType().toString(), databindMapper, flights));
+        return new Report(snapshot.getVersion(), flights.size(), formats);
+    }
+
+    private FormatStats measure(String name, String mediaType, ObjectMapper mapper, List<Flight> flights) {
+        JavaType type = mapper.getTypeFactory().constructCollectionType(List.class, Flight.class);
+        try {
+            byte[] bytes = null;
+            long encodeNanos = Long.MAX_VALUE;
+            for (int run = 0; run < runs; run++) {
+                long start = System.nanoTime();
+                bytes = mapper.writeValueAsBytes(flights);
+                encodeNanos = Math.min(encodeNanos, System.nanoTime() - start);
+            }
+            long decodeNanos = Long.MAX_VALUE;
+            for (int run = 0; run < runs; run++) {
+                long start = System.nanoTime();
+                mapper.readValue(bytes, type);
+                decodeNanos = Math.min(decodeNanos, System.nanoTime() - start);
+            }
+            return new FormatStats(name, mediaType, bytes.length, EncodedFlights.gzip(bytes).length,
+                    encodeNanos / 1e6, decodeNanos / 1e6);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
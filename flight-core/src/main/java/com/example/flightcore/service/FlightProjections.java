@@ -0,0 +1,155 @@
+package com.example.flightcore.service;
+
+import com.example.flightcore.model.Flight;
+import com.example.flightcore.model.FlightJsonCodec;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Compiles {@code fields=} selections into {@link Projection}s: the selected entries of
+ * {@link FlightJsonCodec#FIELDS}, so a projected flight is written exactly as the full one, without reflection
+ * or bean introspection.
+ * Projections are keyed by the selected fields in declaration order, and the {@code flights.projection.cache-size}
+ * most recently used ones are kept.
+ */
+@Component
+public class FlightProjections {
+
+    private static final Map<String, FlightJsonCodec.Field> FIELDS = fields();
+
+    private final Map<FlightFormat, JsonFactory> factories = new EnumMap<>(FlightFormat.class);
+    private final Map<String, Projection> cache;
+    private final Counter compilations;
+
+    @Autowired
+    public FlightProjections(ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry,
+                             @Value("${flights.projection.cache-size:256}") int cacheSize) {
+        for (FlightFormat format : FlightFormat.values()) {
+            factories.put(format, format.mapper(objectMapper).getFactory());
+        }
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Projection> eldest) {
+                return size() > cacheSize;
+            }
+        });
+        this.compilations = Counter.builder("flights.projection.compilations")
+                .description("Field selections compiled because they were not in the projection cache")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the projection for a {@code fields=} parameter, or {@code null} (every property) if it is absent.
+     *
+     * @throws InvalidFlightQueryException as {@link #compile}
+     */
+    public Projection forFields(String fields) {
+        return fields == null ? null : compile(fields);
+    }
+
+    /**
+     * Returns the projection for a comma-separated field list.
+     *
+     * @throws InvalidFlightQueryException if a field is not a {@link Flight} property or none is given
+     */
+    public Projection compile(String fields) {
+        Set<String> requested = new HashSet<>();
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!FIELDS.containsKey(name)) {
+                throw new InvalidFlightQueryException("Unknown field: " + name);
+            }
+            requested.add(name);
+        }
+        List<String> selected = new ArrayList<>(requested.size());
+        for (String name : FIELDS.keySet()) {
+            if (requested.contains(name)) {
+                selected.add(name);
+            }
+        }
+        if (selected.isEmpty()) {
+            throw new InvalidFlightQueryException("fields must name at least one property");
+        }
+        return cache.computeIfAbsent(String.join(",", selected), key -> {
+            compilations.increment();
+            return new Projection(factories, selected);
+        });
+    }
+
+    public static final class Projection {
+        private final Map<FlightFormat, JsonFactory> factories;
+        private final FlightJsonCodec.Field[] fields;
+
+        private Projection(Map<FlightFormat, JsonFactory> factories, List<String> names) {
+            this.factories = factories;
+            this.fields = new FlightJsonCodec.Field[names.size()];
+            for (int i = 0; i < names.size(); i++) {
+                fields[i] = FIELDS.get(names.get(i));
+            }
+        }
+
+        public byte[] write(List<Flight> flights, FlightFormat format) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(flights.size() * 32 * fields.length);
+            try (JsonGenerator json = factories.get(format).createGenerator(out)) {
+                json.writeStartArray();
+                for (Flight flight : flights) {
+                    write(flight, json);
+                }
+                json.writeEndArray();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return out.toByteArray();
+        }
+
+        public String write(Flight flight) {
+            StringWriter out = new StringWriter(32 * fields.length);
+            try (JsonGenerator json = factories.get(FlightFormat.JSON).createGenerator(out)) {
+                write(flight, json);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return out.toString();
+        }
+
+        private void write(Flight flight, JsonGenerator json) throws IOException {
+            json.writeStartObject();
+            for (FlightJsonCodec.Field field : fields) {
+                json.writeFieldName(field.name());
+                field.value().write(flight, json);
+            }
+            json.writeEndObject();
+        }
+    }
+
+    private static Map<String, FlightJsonCodec.Field> fields() {
+        Map<String, FlightJsonCodec.Field> fields = new LinkedHashMap<>();
+        for (FlightJsonCodec.Field field : FlightJsonCodec.FIELDS) {
+            fields.put(field.name().getValue(), field);
+        }
+        return Collections.unmodifiableMap(fields);
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.flightcore.service;
+
+import com.example.flightcore.model.Flight;
+import com.example.flightcore.model.FlightBatch.NumericColumn;
+import com.example.flightcore.model.FlightIndex;
+import com.example.flightcore.model.FlightPage;
+import com.example.flightcore.model.FlightQuery;
+import com.example.flightcore.model.FlightSnapshot;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Validates flight searches and answers them from a snapshot's index, the same way for every server module;
+ * the modules only bind their request parameters to a {@link FlightQuery}.
+ */
+@Component
+public class FlightQueries {
+
+    private final int defaultLimit;
+    private final int maxLimit;
+    private final int maxTopK;
+
+    @Autowired
+    public FlightQueries(@Value("${flights.query.default-limit:50}") int defaultLimit,
+                         @Value("${flights.query.max-limit:500}") int maxLimit,
+                         @Value("${flights.top.max-k:100}") int maxTopK) {
+        this.defaultLimit = defaultLimit;
+        this.maxLimit = maxLimit;
+        this.maxTopK = maxTopK;
+    }
+
+    /**
+     * Answers {@code query} from {@code snapshot}'s index; only the rows of the requested page are materialized.
+     *
+     * @throws InvalidFlightQueryException for an unknown sort field, a limit out of range, or a cursor that is
+     *                                     malformed or was issued for another snapshot
+     */
+    public FlightPage search(FlightSnapshot snapshot, FlightQuery query) {
+        NumericColumn sortColumn = FlightIndex.sortColumn(query.sortField());
+        if (sortColumn == null) {
+            throw new InvalidFlightQueryException("Unknown sort field: " + query.sortField());
+        }
+        int limit = query.limit() == null ? defaultLimit : query.limit();
+        if (limit < 1 || limit > maxLimit) {
+            throw new InvalidFlightQueryException("limit must be between 1 and " + maxLimit);
+        }
+        int offset = FlightPage.offset(query.cursor(), snapshot.getVersion());
+        if (offset < 0) {
+            throw new InvalidFlightQueryException("Cursor is invalid or has expired; repeat the search without it");
+        }
+        int[] rows = snapshot.index().select(query, sortColumn, query.descending());
+        return FlightPage.of(snapshot, rows, offset, limit);
+    }
+
+    /**
+     * Best {@code k} flights of {@code snapshot} by {@code ranking}; see {@link FlightIndex#top}.
+     *
+     * @throws InvalidFlightQueryException if {@code k} is out of range
+     */
+    public List<Flight> top(FlightSnapshot snapshot, String from, String to, FlightIndex.Ranking ranking, int k) {
+        if (k < 1 || k > maxTopK) {
+            throw new InvalidFlightQueryException("k must be between 1 and " + maxTopK);
+        }
+        return snapshot.index().top(from, to, ranking, k);
+    }
+}
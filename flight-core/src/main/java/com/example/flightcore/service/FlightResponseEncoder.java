@@ -0,0 +1,178 @@
+package com.example.flightcore.service;
+
+import com.example.flightcore.model.FlightPage;
+import com.example.flightcore.model.FlightSnapshot;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * Serializes and compresses each snapshot once per {@link FlightFormat}; every response for that snapshot
+ * writes the cached bytes.
+ */
+@Component
+public class FlightResponseEncoder {
+
+    public static final String TOTAL_COUNT = "X-Total-Count";
+    public static final String NEXT_CURSOR = "X-Next-Cursor";
+
+    private final Map<FlightFormat, ObjectMapper> mappers = new EnumMap<>(FlightFormat.class);
+    private final AtomicReference<EncodedFlights> latest = new AtomicReference<>();
+    private final Counter bytesSaved;
+
+    @Autowired
+    public FlightResponseEncoder(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        for (FlightFormat format : FlightFormat.values()) {
+            mappers.put(format, format.mapper(objectMapper));
+        }
+        Gauge.builder("flights.response.compression.ratio", latest, ref -> {
+                    EncodedFlights encoded = ref.get();
+                    return encoded == null ? Double.NaN : encoded.compressionRatio();
+                })
+                .description("JSON size divided by gzip size for the current snapshot")
+                .register(meterRegistry);
+        this.bytesSaved = Counter.builder("flights.response.compression.saved")
+                .baseUnit("bytes")
+                .description("Bytes not sent thanks to pre-compressed responses")
+                .register(meterRegistry);
+    }
+
+    public EncodedFlights json(FlightSnapshot snapshot) {
+        return encoded(snapshot, FlightFormat.JSON);
+    }
+
+    /** The whole snapshot in {@code format}, built on first use. */
+    public EncodedFlights encoded(FlightSnapshot snapshot, FlightFormat format) {
+        return snapshot.derive(format, s -> {
+            EncodedFlights encoded = new EncodedFlights(format, encode(format, s.getFlights()));
+            if (format == FlightFormat.JSON) {
+                latest.set(encoded);
+            }
+            return encoded;
+        });
+    }
+
+    /** Serializes {@code value} in {@code format}, for bodies that are not cached. */
+    public byte[] encode(FlightFormat format, Object value) {
+        try {
+            return mappers.get(format).writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public ObjectMapper mapper(FlightFormat format) {
+        return mappers.get(format);
+    }
+
+    /**
+     * Returns the format to answer {@code accept} with.
+     *
+     * @throws ResponseStatusException with 406 if the client accepts none of them
+     */
+    public FlightFormat negotiate(String accept) {
+        FlightFormat format = FlightFormat.negotiate(accept);
+        if (format == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_ACCEPTABLE,
+                    "Acceptable: " + Arrays.stream(FlightFormat.values())
+                            .map(f -> f.mediaType().toString())
+                            .collect(Collectors.joining(", ")));
+        }
+        return format;
+    }
+
+    /**
+     * Picks the body of the snapshot in {@code format}, gzipped if {@code Accept-Encoding} allows and it is smaller.
+     * Each variant has its own strong ETag, so Spring answers a matching {@code If-None-Match} with 304.
+     */
+    public ResponseEntity<byte[]> response(FlightSnapshot snapshot, FlightFormat format, String acceptEncoding) {
+        EncodedFlights encoded = encoded(snapshot, format);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(format.mediaType())
+                .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+        if (acceptsGzip(acceptEncoding) && encoded.getGzip().length < encoded.getBody().length) {
+            bytesSaved.increment(encoded.getBody().length - encoded.getGzip().length);
+            return response
+                    .eTag(encoded.getGzipEtag())
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .body(encoded.getGzip());
+        }
+        return response.eTag(encoded.getEtag()).body(encoded.getBody());
+    }
+
+    /**
+     * The whole snapshot as {@link #response(FlightSnapshot, FlightFormat, String)} does, or, with a
+     * {@code projection}, only its properties; projected bodies are written per request and carry no ETag.
+     */
+    public ResponseEntity<byte[]> response(FlightSnapshot snapshot, FlightFormat format, String acceptEncoding,
+                                           FlightProjections.Projection projection) {
+        if (projection == null) {
+            return response(snapshot, format, acceptEncoding);
+        }
+        return ResponseEntity.ok()
+                .contentType(format.mediaType())
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(projection.write(snapshot.getFlights(), format));
+    }
+
+    /**
+     * One page of search results in {@code format}, limited to {@code projection} unless it is {@code null}, with
+     * {@value #TOTAL_COUNT} and, if there are more, {@value #NEXT_CURSOR} to pass as {@code cursor} for the next
+     * page.
+     */
+    public ResponseEntity<byte[]> page(FlightPage page, FlightFormat format, FlightProjections.Projection projection) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(format.mediaType())
+                .varyBy(HttpHeaders.ACCEPT)
+                .header(TOTAL_COUNT, String.valueOf(page.getTotal()));
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR, page.getNextCursor());
+        }
+        return response.body(projection == null
+                ? encode(format, page.getFlights())
+                : projection.write(page.getFlights(), format));
+    }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        double gzipQuality = -1;
+        double wildcardQuality = -1;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            double quality = 1.0;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.startsWith("q=")) {
+                    try {
+                        quality = Double.parseDouble(param.substring(2));
+                    } catch (NumberFormatException e) {
+                        quality = 0;
+                    }
+                }
+            }
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                gzipQuality = quality;
+            } else if (parts[0].trim().equals("*")) {
+                wildcardQuality = quality;
+            }
+        }
+        return (gzipQuality >= 0 ? gzipQuality : wildcardQuality) > 0;
+    }
+}
@@ -0,0 +1,187 @@
+package com.example.flightcore.service;
+
+import com.example.flightcore.model.Flight;
+import com.example.flightcore.model.FlightSnapshot;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Refresh-ahead cache of the latest vendor response.
+ * <ul>
+ *     <li>younger than {@code refresh-after}: served as is</li>
+ *     <li>younger than {@code max-staleness}: served while a background refresh runs</li>
+ *     <li>missing or older than {@code max-staleness}: the caller waits for a fresh fetch</li>
+ * </ul>
+ * A scheduler also refreshes every {@code refresh-interval}, starting at startup when {@code warm-on-startup} is set.
+ * Every snapshot that replaces another is announced with a {@link FlightSnapshotPublished} event.
+ */
+@Component
+public class FlightSnapshotCache implements SmartLifecycle {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FlightSnapshotCache.class);
+
+    private final FlightVendorClient vendorClient;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration refreshAfter;
+    private final Duration maxStaleness;
+    private final Duration refreshInterval;
+    private final boolean warmOnStartup;
+    private final AtomicReference<FlightSnapshot> current = new AtomicReference<>();
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private final AtomicLong versions = new AtomicLong();
+    private final Lock publishLock = new ReentrantLock();
+    private final FlightSnapshotMetrics metrics;
+
+    private volatile boolean running;
+    private ScheduledExecutorService scheduler;
+
+    @Autowired
+    public FlightSnapshotCache(FlightVendorClient vendorClient,
+                               ApplicationEventPublisher eventPublisher,
+                               MeterRegistry meterRegistry,
+                               @Value("${flights.snapshot.refresh-after:30s}") Duration refreshAfter,
+                               @Value("${flights.snapshot.max-staleness:5m}") Duration maxStaleness,
+                               @Value("${flights.snapshot.refresh-interval:30s}") Duration refreshInterval,
+                               @Value("${flights.snapshot.warm-on-startup:true}") boolean warmOnStartup) {
+        this.vendorClient = vendorClient;
+        this.eventPublisher = eventPublisher;
+        this.refreshAfter = refreshAfter;
+        this.maxStaleness = maxStaleness;
+        this.refreshInterval = refreshInterval;
+        this.warmOnStartup = warmOnStartup;
+        this.metrics = new FlightSnapshotMetrics(meterRegistry, current);
+    }
+
+    public FlightSnapshot get() {
+        FlightSnapshot snapshot = getIfPresent();
+        if (snapshot != null) {
+            return snapshot;
+        }
+        metrics.miss();
+        return load();
+    }
+
+    /**
+     * Returns the snapshot if it can be served without waiting for the vendor, otherwise {@code null}.
+     */
+    public FlightSnapshot getIfPresent() {
+        FlightSnapshot snapshot = current.get();
+        if (snapshot != null) {
+            Duration age = snapshot.age();
+            if (age.compareTo(refreshAfter) < 0) {
+                metrics.hit();
+                return snapshot;
+            }
+            if (age.compareTo(maxStaleness) < 0) {
+                metrics.staleHit();
+                refreshAsync();
+                return snapshot;
+            }
+        }
+        return null;
+    }
+
+    private FlightSnapshot load() {
+        long start = System.nanoTime();
+        try {
+            List<Flight> flights = vendorClient.fetchFlights();
+            Instant fetchedAt = Instant.now();
+            publishLock.lock();
+            try {
+                FlightSnapshot previous = current.get();
+                // Callers coalesced onto the same fetch get the same list; keep a single snapshot for it.
+                if (previous != null
+                        && (previous.getFlights() == flights || !fetchedAt.isAfter(previous.getFetchedAt()))) {
+                    return previous;
+                }
+                FlightSnapshot candidate = new FlightSnapshot(versions.incrementAndGet(), flights, fetchedAt);
+                // Build the columnar view and search index before any query can see the snapshot, so none of them
+                // builds it on its own.
+                candidate.index();
+                metrics.recordInterning(candidate);
+                current.set(candidate);
+                eventPublisher.publishEvent(new FlightSnapshotPublished(previous, candidate));
+                return candidate;
+            } finally {
+                publishLock.unlock();
+            }
+        } catch (RuntimeException e) {
+            metrics.refreshFailed();
+            throw e;
+        } finally {
+            metrics.refreshed(start);
+        }
+    }
+
+    /**
+     * Claims the refresh before handing it to the scheduler, so a burst of stale reads queues one fetch, not one each.
+     */
+    private void refreshAsync() {
+        if (running && refreshing.compareAndSet(false, true)) {
+            try {
+                scheduler.execute(this::refreshClaimed);
+            } catch (RejectedExecutionException e) {
+                // Stopping.
+                refreshing.set(false);
+            }
+        }
+    }
+
+    private void refresh() {
+        if (refreshing.compareAndSet(false, true)) {
+            refreshClaimed();
+        }
+    }
+
+    private void refreshClaimed() {
+        try {
+            load();
+        } catch (RuntimeException e) {
+            LOG.warn("Flight snapshot refresh failed", e);
+        } finally {
+            refreshing.set(false);
+        }
+    }
+
+    @Override
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "flight-snapshot-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        running = true;
+        long initialDelay = warmOnStartup ? 0 : refreshInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::refresh, initialDelay, refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        scheduler.shutdownNow();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.flightcore.service;
+
+import com.example.flightcore.model.Flight;
+import com.example.flightcore.model.FlightSnapshot;
+import com.example.flightcore.model.StringInterner;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Meters of a flight snapshot cache, shared by the blocking {@link FlightSnapshotCache} and the WebFlux one so
+ * both publish the same names: reads by outcome, refresh time and failures, the age of the snapshot served, and
+ * how much each snapshot saves through {@link StringInterner#FLIGHT_VALUES}.
+ */
+public final class FlightSnapshotMetrics {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FlightSnapshotMetrics.class);
+
+    private final Counter hits;
+    private final Counter staleHits;
+    private final Counter misses;
+    private final Counter refreshFailures;
+    private final Timer refreshTimer;
+    private final DistributionSummary internedSaved;
+
+    /**
+     * Registers the meters; {@code current} holds the snapshot being served, for its age.
+     */
+    public FlightSnapshotMetrics(MeterRegistry meterRegistry, AtomicReference<FlightSnapshot> current) {
+        this.hits = requests(meterRegistry, "hit");
+        this.staleHits = requests(meterRegistry, "stale");
+        this.misses = requests(meterRegistry, "miss");
+        this.refreshFailures = Counter.builder("flights.snapshot.refresh.failures")
+                .description("Vendor fetches that failed to produce a snapshot")
+                .register(meterRegistry);
+        this.refreshTimer = Timer.builder("flights.snapshot.refresh")
+                .description("Time to fetch a new snapshot from the vendor")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("flights.snapshot.age", current, ref -> {
+                    FlightSnapshot snapshot = ref.get();
+                    return snapshot == null ? Double.NaN : snapshot.age().toMillis() / 1000.0;
+                })
+                .baseUnit("seconds")
+                .description("Age of the snapshot currently served")
+                .register(meterRegistry);
+        this.internedSaved = DistributionSummary.builder("flights.snapshot.interned.saved")
+                .baseUnit("bytes")
+                .description("Heap saved in a snapshot by sharing interned field values")
+                .register(meterRegistry);
+        Gauge.builder("flights.intern.table.size", StringInterner.FLIGHT_VALUES, StringInterner::size)
+                .description("Distinct values held by the flight intern table")
+                .register(meterRegistry);
+        FunctionCounter.builder("flights.intern.hits", StringInterner.FLIGHT_VALUES, StringInterner::hits)
+                .description("Deserialized values replaced by an already interned instance")
+                .register(meterRegistry);
+        FunctionCounter.builder("flights.intern.overflows", StringInterner.FLIGHT_VALUES, StringInterner::overflows)
+                .description("Values left un-interned because the table was full")
+                .register(meterRegistry);
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("flights.snapshot.requests")
+                .tag("result", result)
+                .description("Snapshot reads by outcome")
+                .register(meterRegistry);
+    }
+
+    public void hit() {
+        hits.increment();
+    }
+
+    public void staleHit() {
+        staleHits.increment();
+    }
+
+    public void miss() {
+        misses.increment();
+    }
+
+    public void refreshFailed() {
+        refreshFailures.increment();
+    }
+
+    /**
+     * Records a refresh that started at {@code startNanos}, a {@link System#nanoTime()} reading.
+     */
+    public void refreshed(long startNanos) {
+        refreshTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Records how much {@code snapshot} saves through interning; a full pass over its flights.
+     */
+    public void recordInterning(FlightSnapshot snapshot) {
+        long saved = internedBytesSaved(snapshot.getFlights());
+        internedSaved.record(saved);
+        LOG.debug("Flight snapshot {}: {} flights, ~{} bytes saved by interned field values",
+                snapshot.getVersion(), snapshot.getFlights().size(), saved);
+    }
+
+    /**
+     * Bytes that one copy per flight of each interned field would take on top of the instances
+     * actually referenced: every repeat reference to an already seen {@code String} counts as saved.
+     */
+    static long internedBytesSaved(List<Flight> flights) {
+        Map<String, Boolean> seen = new IdentityHashMap<>();
+        long saved = 0;
+        for (Flight flight : flights) {
+            saved += repeatSize(seen, flight.getCabinClass())
+                    + repeatSize(seen, flight.getCovidSafety())
+                    + repeatSize(seen, flight.getMeal())
+                    + repeatSize(seen, flight.getPetPolicy())
+                    + repeatSize(seen, flight.getSeatType())
+                    + repeatSize(seen, flight.getVendor_logo())
+                    + repeatSize(seen, flight.getVendor_name())
+                    + repeatSize(seen, flight.getWifi())
+                    + (flight.getAirline() == null ? 0 : repeatSize(seen, flight.getAirline().getName()));
+        }
+        return saved;
+    }
+
+    private static long repeatSize(Map<String, Boolean> seen, String value) {
+        return value != null && seen.put(value, Boolean.TRUE) != null ? StringInterner.estimatedSize(value) : 0;
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.flightcore.service;
+
+import com.example.flightcore.model.FlightSnapshot;
+
+/**
+ * Published by {@link FlightSnapshotCache} when {@code current} replaces {@code previous}
+ * ({@code null} for the first snapshot), after its index is built.
+ */
+public record FlightSnapshotPublished(FlightSnapshot previous, FlightSnapshot current) {
+}
@@ -0,0 +1,173 @@
+package com.example.flightcore.service;
+
+import com.example.flightcore.model.ApiCallLog;
+import com.example.flightcore.model.Flight;
+import com.example.flightcore.repository.ApiCallLogSink;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.hc.core5.http.io.EofSensorInputStream;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Calls the flight vendor and records every call in {@code calls_log}.
+ */
+@Component
+public class FlightVendorClient {
+    private static final String THIRD_PARTY_URL = "http://localhost:8900/vendor/supplier/stream/flights";
+
+    private final ApiCallLogSink logSink;
+    private final RestTemplate restTemplate;
+    private final SingleFlight<List<Flight>> flightsLoad;
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public FlightVendorClient(ApiCallLogSink logSink, RestTemplate vendorRestTemplate,
+                              SingleFlight<List<Flight>> flightsLoad, AdaptiveConcurrencyLimiter limiter,
+                              ObjectMapper objectMapper) {
+        this.logSink = logSink;
+        this.restTemplate = vendorRestTemplate;
+        this.flightsLoad = flightsLoad;
+        this.limiter = limiter;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Fetches the full vendor list. Concurrent callers share one in-flight fetch and get the same list instance.
+     * {@code null} elements of the vendor array are left out.
+     */
+    public List<Flight> fetchFlights() {
+        return flightsLoad.execute(this::load);
+    }
+
+    private List<Flight> load() {
+        Flight[] flights = limiter.execute(() -> restTemplate.getForObject(THIRD_PARTY_URL, Flight[].class));
+        List<Flight> flightList = flights == null ? List.of()
+                : Arrays.stream(flights).filter(Objects::nonNull).toList();
+        ApiCallLog log = new ApiCallLog();
+        log.setEndpoint(THIRD_PARTY_URL);
+        log.setFlights(flightList);
+        logSink.submit(log);
+        return flightList;
+    }
+
+    /**
+     * Binds one element of the vendor array and derives the {@code calls_log} entry from what it bound, so a caller
+     * can ingest flights into its own representation without going through {@link Flight}.
+     */
+    public interface FlightReader<T> {
+
+        /**
+         * Reads one flight; the parser is on its {@code START_OBJECT} and must be left on its {@code END_OBJECT}.
+         */
+        T read(JsonParser parser) throws IOException;
+
+        /**
+         * The {@code calls_log} document for a call that returned {@code flights}, shaped like a mapped
+         * {@link ApiCallLog}.
+         */
+        Document callLog(String endpoint, List<T> flights);
+    }
+
+    @FunctionalInterface
+    private interface ElementReader<T> {
+        T read(JsonParser parser) throws IOException;
+    }
+
+    /**
+     * Reads the vendor array element by element and hands every flight to {@code onFlight}
+     * as soon as it is bound, instead of waiting for the whole body; {@code null} elements are skipped.
+     * An exception thrown by {@code onFlight} aborts the read and drops the vendor connection rather than
+     * draining the rest of the body; throw {@link CancellationException} when the caller has gone away, so the
+     * limiter does not count it against the vendor. Interrupting the reading thread also ends the read with a
+     * {@code CancellationException}; on a virtual thread that closes the socket even before the vendor answers.
+     */
+    public void streamFlights(Consumer<Flight> onFlight) {
+        read(parser -> objectMapper.readValue(parser, Flight.class), onFlight);
+        ApiCallLog log = new ApiCallLog();
+        log.setEndpoint(THIRD_PARTY_URL);
+        logSink.submit(log);
+    }
+
+    /**
+     * Like {@link #streamFlights(Consumer)}, but binds each element with {@code reader} and logs the call with
+     * the flights it read.
+     */
+    public <T> void streamFlights(FlightReader<T> reader, Consumer<T> onFlight) {
+        List<T> flights = new ArrayList<>();
+        read(reader::read, flight -> {
+            flights.add(flight);
+            onFlight.accept(flight);
+        });
+        logSink.submit(reader.callLog(THIRD_PARTY_URL, flights));
+    }
+
+    private <T> void read(ElementReader<T> reader, Consumer<T> onFlight) {
+        limiter.execute(call -> cancellable(() -> restTemplate.execute(THIRD_PARTY_URL, HttpMethod.GET,
+                request -> request.getHeaders().setAccept(List.of(MediaType.APPLICATION_JSON)),
+                response -> {
+                    // The rest of the read is paced by onFlight, i.e. by our client: give the limiter slot back.
+                    call.responded();
+                    InputStream body = response.getBody();
+                    JsonParser parser = objectMapper.getFactory().createParser(body);
+                    try {
+                        if (parser.nextToken() == JsonToken.START_ARRAY) {
+                            JsonToken token;
+                            while ((token = parser.nextToken()) == JsonToken.START_OBJECT || token == JsonToken.VALUE_NULL) {
+                                if (token == JsonToken.START_OBJECT) {
+                                    onFlight.accept(reader.read(parser));
+                                }
+                            }
+                        }
+                    } catch (RuntimeException | IOException e) {
+                        abort(body);
+                        throw e;
+                    } finally {
+                        parser.close();
+                    }
+                    return null;
+                })));
+    }
+
+    /**
+     * Runs {@code read}, reporting a failure caused by interrupting the reading thread (its caller went away) as a
+     * {@link CancellationException}, so the limiter does not count it against the vendor.
+     */
+    private static <T> T cancellable(Supplier<T> read) {
+        try {
+            return read.get();
+        } catch (RuntimeException e) {
+            if (e instanceof CancellationException || !Thread.currentThread().isInterrupted()) {
+                throw e;
+            }
+            CancellationException cancelled = new CancellationException("Vendor read interrupted");
+            cancelled.initCause(e);
+            throw cancelled;
+        }
+    }
+
+    /**
+     * Closing the body normally reads it to the end so the connection can be reused; discard the connection instead.
+     */
+    private static void abort(InputStream body) throws IOException {
+        if (body instanceof EofSensorInputStream stream) {
+            stream.abort();
+        }
+    }
+}
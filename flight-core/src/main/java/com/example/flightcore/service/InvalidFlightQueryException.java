@@ -0,0 +1,17 @@
+package com.example.flightcore.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown for a search with an unknown sort field, an out-of-range limit, or a cursor that is malformed
+ * or belongs to a snapshot that is no longer served.
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidFlightQueryException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public InvalidFlightQueryException(String message) {
+        super(message);
+    }
+}
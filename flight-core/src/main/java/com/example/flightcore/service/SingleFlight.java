@@ -0,0 +1,87 @@
+package com.example.flightcore.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent loads of the same value. The first caller runs the loader on its own
+ * thread; every caller that arrives while that load is in flight waits for the same result.
+ * A caller arriving after the load finished starts a new one.
+ */
+public class SingleFlight<T> {
+
+    public enum FailureMode {
+        /** Every caller attached to a failed load gets the same exception. */
+        SHARE,
+        /** Callers attached to a failed load retry once, again coalesced into a single load. */
+        RETRY
+    }
+
+    private final AtomicReference<Call<T>> inFlight = new AtomicReference<>();
+    private final FailureMode failureMode;
+    private final Counter callers;
+    private final Counter loads;
+    private final DistributionSummary fanIn;
+
+    public SingleFlight(String name, FailureMode failureMode, MeterRegistry meterRegistry) {
+        this.failureMode = failureMode;
+        this.callers = Counter.builder("flights.coalesce.callers")
+                .tag("name", name)
+                .description("Calls made through the coalescing layer")
+                .register(meterRegistry);
+        this.loads = Counter.builder("flights.coalesce.loads")
+                .tag("name", name)
+                .description("Upstream loads actually started")
+                .register(meterRegistry);
+        this.fanIn = DistributionSummary.builder("flights.coalesce.fan.in")
+                .tag("name", name)
+                .description("Callers served by one upstream load")
+                .register(meterRegistry);
+    }
+
+    public T execute(Supplier<T> loader) {
+        callers.increment();
+        return attachOrLoad(loader, failureMode == FailureMode.RETRY);
+    }
+
+    private T attachOrLoad(Supplier<T> loader, boolean retryOnFailure) {
+        Call<T> created = new Call<>();
+        Call<T> existing = inFlight.compareAndExchange(null, created);
+        if (existing != null) {
+            existing.callers.incrementAndGet();
+            try {
+                return existing.future.join();
+            } catch (CompletionException e) {
+                if (retryOnFailure) {
+                    return attachOrLoad(loader, false);
+                }
+                throw e.getCause() instanceof RuntimeException re ? re : e;
+            }
+        }
+        loads.increment();
+        try {
+            T value = loader.get();
+            inFlight.set(null);
+            created.future.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            inFlight.set(null);
+            created.future.completeExceptionally(e);
+            throw e;
+        } finally {
+            fanIn.record(created.callers.get());
+        }
+    }
+
+    private static final class Call<T> {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        final AtomicInteger callers = new AtomicInteger(1);
+    }
+}
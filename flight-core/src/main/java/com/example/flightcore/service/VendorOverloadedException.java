@@ -0,0 +1,16 @@
+package com.example.flightcore.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when the adaptive vendor limit is reached and no slot freed up within the allowed wait.
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class VendorOverloadedException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public VendorOverloadedException(String message) {
+        super(message);
+    }
+}
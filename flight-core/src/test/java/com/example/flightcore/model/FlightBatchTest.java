@@ -0,0 +1,62 @@
+package com.example.flightcore.model;
+
+import com.example.flightcore.model.FlightBatch.NumericColumn;
+import com.example.flightcore.model.FlightBatch.StringColumn;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FlightBatchTest {
+
+    private static Flight flight(int price, double rating, String duration) {
+        Flight flight = new Flight();
+        flight.setPrice(price);
+        flight.setRating(rating);
+        flight.setDuration(duration);
+        flight.setFrom("DEL");
+        return flight;
+    }
+
+    private final FlightBatch batch = FlightBatch.of(List.of(
+            flight(300, 4.5, "2h"),
+            flight(100, 3.0, null),
+            flight(300, 4.5, "1h"),
+            flight(200, -1.0, "3h")));
+
+    @Test
+    void sortsAscendingWithTiesInRowOrder() {
+        assertThat(batch.sort(batch.allRows(), NumericColumn.PRICE, false)).containsExactly(1, 3, 0, 2);
+    }
+
+    @Test
+    void sortsDescendingWithTiesInRowOrder() {
+        assertThat(batch.sort(batch.allRows(), NumericColumn.PRICE, true)).containsExactly(0, 2, 3, 1);
+    }
+
+    @Test
+    void sortsDoublesIncludingNegatives() {
+        assertThat(batch.sort(batch.allRows(), NumericColumn.RATING, false)).containsExactly(3, 1, 0, 2);
+        assertThat(batch.sort(batch.allRows(), NumericColumn.RATING, true)).containsExactly(0, 2, 1, 3);
+    }
+
+    @Test
+    void putsMissingValuesLastInBothDirections() {
+        assertThat(batch.sort(batch.allRows(), NumericColumn.DURATION, false)).containsExactly(2, 0, 3, 1);
+        assertThat(batch.sort(batch.allRows(), NumericColumn.DURATION, true)).containsExactly(3, 0, 2, 1);
+    }
+
+    @Test
+    void sortsOnlyTheCandidates() {
+        assertThat(batch.sort(new int[] {2, 3}, NumericColumn.PRICE, false)).containsExactly(3, 2);
+    }
+
+    @Test
+    void encodesStringsAsDictionaryCodes() {
+        assertThat(batch.codeOf(StringColumn.FROM, "DEL")).isEqualTo(batch.code(StringColumn.FROM, 2));
+        assertThat(batch.codeOf(StringColumn.FROM, "BOM")).isEqualTo(FlightBatch.ABSENT);
+        assertThat(batch.code(StringColumn.TO, 0)).isEqualTo(FlightBatch.ABSENT);
+        assertThat(batch.cardinality(StringColumn.FROM)).isEqualTo(1);
+    }
+}
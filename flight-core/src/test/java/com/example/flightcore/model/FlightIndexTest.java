@@ -0,0 +1,104 @@
+package com.example.flightcore.model;
+
+import com.example.flightcore.model.FlightBatch.NumericColumn;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FlightIndexTest {
+
+    private static Flight flight(String from, String to, int price, int stops, double rating, int reviews) {
+        Flight flight = new Flight();
+        flight.setFrom(from);
+        flight.setTo(to);
+        flight.setPrice(price);
+        flight.setTotalStops(stops);
+        flight.setRating(rating);
+        flight.setReviewsCount(reviews);
+        flight.setCabinClass("Economy");
+        flight.setDate("2024-03-10");
+        return flight;
+    }
+
+    private static FlightQuery query(String from, String to, Integer maxPrice, Integer maxStops, String sort) {
+        return new FlightQuery(from, to, null, null, maxPrice, maxStops, sort, null, null);
+    }
+
+    private final List<Flight> flights = List.of(
+            flight("DEL", "BOM", 300, 0, 4.0, 10),
+            flight("DEL", "BOM", 100, 1, 3.0, 10),
+            flight("DEL", "BLR", 300, 0, 5.0, 1),
+            flight("DEL", "BOM", 300, 2, 4.8, 500),
+            flight("BOM", "DEL", 200, 0, 4.2, 50));
+    private final FlightIndex index = FlightIndex.of(new FlightSnapshot(1, flights, Instant.now()));
+
+    @Test
+    void selectsByPriceWithTiesInRowOrder() {
+        assertThat(index.select(query(null, null, null, null, null), NumericColumn.PRICE, false))
+                .containsExactly(1, 4, 0, 2, 3);
+    }
+
+    @Test
+    void descendingPriceKeepsTiesInRowOrder() {
+        assertThat(index.select(query(null, null, null, null, "-price"), NumericColumn.PRICE, true))
+                .containsExactly(0, 2, 3, 4, 1);
+        assertThat(index.select(query("DEL", "BOM", null, null, "-price"), NumericColumn.PRICE, true))
+                .containsExactly(0, 3, 1);
+    }
+
+    @Test
+    void descendingPriceMatchesTheBatchSort() {
+        FlightBatch batch = FlightBatch.of(flights);
+
+        assertThat(index.select(query(null, null, null, null, "-price"), NumericColumn.PRICE, true))
+                .containsExactly(batch.sort(batch.allRows(), NumericColumn.PRICE, true));
+    }
+
+    @Test
+    void filtersByRoutePriceAndStops() {
+        assertThat(index.select(query("DEL", "BOM", null, null, null), NumericColumn.PRICE, false))
+                .containsExactly(1, 0, 3);
+        assertThat(index.select(query("DEL", null, 299, null, null), NumericColumn.PRICE, false))
+                .containsExactly(1);
+        assertThat(index.select(query("DEL", "BOM", null, 0, null), NumericColumn.PRICE, false))
+                .containsExactly(0);
+    }
+
+    @Test
+    void sortsByAnotherColumn() {
+        assertThat(index.select(query("DEL", "BOM", null, null, "-rating"), NumericColumn.RATING, true))
+                .containsExactly(3, 0, 1);
+    }
+
+    @Test
+    void unknownValuesAndDatesMatchNothing() {
+        assertThat(index.select(query("XXX", null, null, null, null), NumericColumn.PRICE, false)).isEmpty();
+        FlightQuery badDate = new FlightQuery(null, null, "someday", null, null, null, null, null, null);
+        assertThat(index.select(badDate, NumericColumn.PRICE, false)).isEmpty();
+        FlightQuery onDate = new FlightQuery(null, null, "10/03/2024", null, null, null, null, null, null);
+        assertThat(index.select(onDate, NumericColumn.PRICE, false)).hasSize(5);
+    }
+
+    @Test
+    void topCheapestStopsAtK() {
+        assertThat(index.top("DEL", null, FlightIndex.Ranking.CHEAPEST, 2))
+                .containsExactly(flights.get(1), flights.get(0));
+        assertThat(index.top("XXX", null, FlightIndex.Ranking.CHEAPEST, 2)).isEmpty();
+    }
+
+    @Test
+    void topBestRatedPullsThinlyReviewedRatingsTowardsTheMean() {
+        // Row 2's 5.0 rests on a single review and ranks below row 3's 4.8 from 500.
+        assertThat(index.top("DEL", null, FlightIndex.Ranking.BEST_RATED, 2))
+                .containsExactly(flights.get(3), flights.get(2));
+    }
+
+    @Test
+    void topIsCachedPerKey() {
+        assertThat(index.top(null, null, FlightIndex.Ranking.CHEAPEST, 3))
+                .isSameAs(index.top(null, null, FlightIndex.Ranking.CHEAPEST, 3));
+    }
+}
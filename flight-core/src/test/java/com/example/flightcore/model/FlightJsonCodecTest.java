@@ -0,0 +1,132 @@
+package com.example.flightcore.model;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.databind.introspect.NopAnnotationIntrospector;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FlightJsonCodecTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private static Flight flight() {
+        Airline airline = new Airline();
+        airline.setLogo("6e.png");
+        airline.setName("IndiGo");
+        Flight flight = new Flight();
+        flight.setAircraftType("A320");
+        flight.setAirline(airline);
+        flight.setArrivalTime("10:45");
+        flight.setBaggage("15kg");
+        flight.setBoardingTime("07:50");
+        flight.setCabinClass("Economy");
+        flight.setCancellationPolicy("Refundable");
+        flight.setChangePolicy("Free");
+        flight.setCheckInCounter("C12");
+        flight.setCovidSafety("Masks");
+        flight.setDate("2024-03-10");
+        flight.setDepartureTime("08:30");
+        flight.setDuration("2h 15m");
+        flight.setEcoFriendly("Yes");
+        flight.setEntertainment("None");
+        flight.setExtraLegroom("No");
+        flight.setFareClass("Y");
+        flight.setFlightId("F1");
+        flight.setFlightNumber("6E 201");
+        flight.setFlightType("Direct");
+        flight.setFrom("DEL");
+        flight.setGate("G4");
+        flight.setInfantPolicy("Lap");
+        flight.setLastUpdated("2024-03-09T12:00:00Z");
+        flight.setLayovers(List.of("BOM", "HYD"));
+        flight.setLoungeAccess("No");
+        flight.setMeal("Veg");
+        flight.setOnTimePerformance("92%");
+        flight.setPetPolicy("None");
+        flight.setPowerOutlet("Yes");
+        flight.setPrice(4200);
+        flight.setPriorityBoarding("No");
+        flight.setRating(4.25);
+        flight.setRecliningAngle("100");
+        flight.setReviewsCount(1234);
+        flight.setSeatPitch("30in");
+        flight.setSeatType("Standard");
+        flight.setSeatWidth("17in");
+        flight.setTerminal("T1");
+        flight.setTo("BLR");
+        flight.setTotalStops(2);
+        flight.setUsbPort("Yes");
+        flight.setVendor_logo("v.png");
+        flight.setVendor_name("Vendor");
+        flight.setWifi("Paid");
+        return flight;
+    }
+
+    @Test
+    void roundTripsEveryField() throws Exception {
+        Flight flight = flight();
+
+        assertThat(mapper.readValue(mapper.writeValueAsBytes(flight), Flight.class)).isEqualTo(flight);
+        assertThat(mapper.readValue(mapper.writeValueAsBytes(new Flight()), Flight.class)).isEqualTo(new Flight());
+    }
+
+    @Test
+    void writesWhatBeanSerializationWould() throws Exception {
+        ObjectMapper beanMapper = new ObjectMapper().setAnnotationIntrospector(NopAnnotationIntrospector.instance);
+        Flight flight = flight();
+
+        JsonNode codec = mapper.readTree(mapper.writeValueAsBytes(flight));
+        JsonNode bean = beanMapper.readTree(beanMapper.writeValueAsBytes(flight));
+
+        assertThat(codec).isEqualTo(bean);
+        assertThat(codec.size()).isEqualTo(FlightJsonCodec.FIELDS.size());
+    }
+
+    @Test
+    void readsLeniently() throws Exception {
+        Flight flight = mapper.readValue("""
+                {"price": "4200", "rating": " 4.5 ", "reviewsCount": "", "totalStops": 1.0,
+                 "flightNumber": 201, "airline": null, "layovers": null,
+                 "unknown": {"nested": [1, 2]}, "from": "DEL"}""", Flight.class);
+
+        assertThat(flight.getPrice()).isEqualTo(4200);
+        assertThat(flight.getRating()).isEqualTo(4.5);
+        assertThat(flight.getReviewsCount()).isZero();
+        assertThat(flight.getTotalStops()).isEqualTo(1);
+        assertThat(flight.getFlightNumber()).isEqualTo("201");
+        assertThat(flight.getAirline()).isNull();
+        assertThat(flight.getFrom()).isEqualTo("DEL");
+    }
+
+    @Test
+    void rejectsMalformedNumbersInsteadOfReadingZero() {
+        assertThatThrownBy(() -> mapper.readValue("{\"price\": \"cheap\"}", Flight.class))
+                .isInstanceOf(InvalidFormatException.class)
+                .hasMessageContaining("cheap");
+        assertThatThrownBy(() -> mapper.readValue("{\"rating\": \"good\"}", Flight.class))
+                .isInstanceOf(InvalidFormatException.class);
+        assertThatThrownBy(() -> mapper.readValue("{\"totalStops\": 99999999999}", Flight.class))
+                .isInstanceOf(JsonProcessingException.class);
+        assertThatThrownBy(() -> mapper.readValue("{\"reviewsCount\": 1e12}", Flight.class))
+                .isInstanceOf(JsonProcessingException.class);
+        assertThatThrownBy(() -> mapper.readValue("{\"price\": [1]}", Flight.class))
+                .isInstanceOf(JsonProcessingException.class);
+    }
+
+    @Test
+    void sharesLowCardinalityValues() throws Exception {
+        Flight[] flights = mapper.readValue("""
+                [{"cabinClass": "Premium Economy", "airline": {"name": "Air India"}},
+                 {"cabinClass": "Premium Economy", "airline": {"name": "Air India"}}]""", Flight[].class);
+
+        assertThat(flights[1].getCabinClass()).isSameAs(flights[0].getCabinClass());
+        assertThat(flights[1].getAirline().getName()).isSameAs(flights[0].getAirline().getName());
+    }
+}
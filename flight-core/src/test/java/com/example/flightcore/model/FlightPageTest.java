@@ -0,0 +1,80 @@
+package com.example.flightcore.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FlightPageTest {
+
+    private static FlightSnapshot snapshot(long version, int size) {
+        List<Flight> flights = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            Flight flight = new Flight();
+            flight.setFlightId("F" + i);
+            flights.add(flight);
+        }
+        return new FlightSnapshot(version, flights, Instant.now());
+    }
+
+    private static String encode(String text) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(text.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    void pagesThroughAllRowsWithTheCursor() {
+        FlightSnapshot snapshot = snapshot(7, 5);
+        int[] rows = {4, 3, 2, 1, 0};
+        List<String> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            int offset = FlightPage.offset(cursor, snapshot.getVersion());
+            FlightPage page = FlightPage.of(snapshot, rows, offset, 2);
+            assertThat(page.getTotal()).isEqualTo(5);
+            page.getFlights().forEach(flight -> seen.add(flight.getFlightId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertThat(seen).containsExactly("F4", "F3", "F2", "F1", "F0");
+    }
+
+    @Test
+    void lastPageHasNoCursor() {
+        FlightPage page = FlightPage.of(snapshot(1, 3), new int[] {0, 1, 2}, 0, 3);
+
+        assertThat(page.getFlights()).hasSize(3);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void offsetPastTheEndGivesAnEmptyPage() {
+        FlightPage page = FlightPage.of(snapshot(1, 3), new int[] {0, 1, 2}, 10, 2);
+
+        assertThat(page.getFlights()).isEmpty();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void noCursorStartsAtZero() {
+        assertThat(FlightPage.offset(null, 1)).isZero();
+        assertThat(FlightPage.offset("", 1)).isZero();
+    }
+
+    @Test
+    void rejectsCursorsOfAnotherSnapshotOrMalformed() {
+        String cursor = FlightPage.of(snapshot(1, 3), new int[] {0, 1, 2}, 0, 1).getNextCursor();
+
+        assertThat(FlightPage.offset(cursor, 1)).isEqualTo(1);
+        assertThat(FlightPage.offset(cursor, 2)).isEqualTo(-1);
+        assertThat(FlightPage.offset("not base64!", 1)).isEqualTo(-1);
+        assertThat(FlightPage.offset(encode("1"), 1)).isEqualTo(-1);
+        assertThat(FlightPage.offset(encode("1:x"), 1)).isEqualTo(-1);
+        assertThat(FlightPage.offset(encode("1:-4"), 1)).isEqualTo(-1);
+        assertThat(FlightPage.offset(encode("1:99999999999"), 1)).isEqualTo(-1);
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.flightcore.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static com.example.flightcore.model.FlightTimes.MISSING;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FlightTimesTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 3, 10);
+    private static final int DAY_MINUTES = (int) (DAY.toEpochDay() * 24 * 60);
+
+    @Test
+    void parsesEachDateFormat() {
+        assertThat(FlightTimes.parseDate("2024-03-10")).isEqualTo(DAY);
+        assertThat(FlightTimes.parseDate("10-03-2024")).isEqualTo(DAY);
+        assertThat(FlightTimes.parseDate("10/03/2024")).isEqualTo(DAY);
+        assertThat(FlightTimes.parseDate("10 Mar 2024")).isEqualTo(DAY);
+        assertThat(FlightTimes.parseDate("mar 10, 2024")).isEqualTo(DAY);
+        assertThat(FlightTimes.parseDate("31-02-2024")).isNull();
+        assertThat(FlightTimes.parseDate("tomorrow")).isNull();
+    }
+
+    @Test
+    void readsDateTimesAndTimesOfDay() {
+        assertThat(FlightTimes.epochMinutes("2024-03-10T08:30:00Z", null, MISSING)).isEqualTo(DAY_MINUTES + 510);
+        assertThat(FlightTimes.epochMinutes("2024-03-10T10:30:00+02:00", null, MISSING)).isEqualTo(DAY_MINUTES + 510);
+        assertThat(FlightTimes.epochMinutes("2024-03-10 08:30", null, MISSING)).isEqualTo(DAY_MINUTES + 510);
+        assertThat(FlightTimes.epochMinutes("8:30 AM", DAY, MISSING)).isEqualTo(DAY_MINUTES + 510);
+        assertThat(FlightTimes.epochMinutes("08:30", null, MISSING)).isEqualTo(MISSING);
+    }
+
+    @Test
+    void movesAnArrivalBeforeDepartureToTheNextDay() {
+        int departure = FlightTimes.epochMinutes("23:10", DAY, MISSING);
+        int arrival = FlightTimes.epochMinutes("01:05", DAY, departure);
+
+        assertThat(arrival - departure).isEqualTo(115);
+    }
+
+    @Test
+    void readsEachDurationFormat() {
+        assertThat(FlightTimes.durationMinutes("PT2H30M")).isEqualTo(150);
+        assertThat(FlightTimes.durationMinutes("2h 30m")).isEqualTo(150);
+        assertThat(FlightTimes.durationMinutes("2 hours 30 minutes")).isEqualTo(150);
+        assertThat(FlightTimes.durationMinutes("45 min")).isEqualTo(45);
+        assertThat(FlightTimes.durationMinutes("2:30")).isEqualTo(150);
+        assertThat(FlightTimes.durationMinutes("150")).isEqualTo(150);
+        assertThat(FlightTimes.durationMinutes("soon")).isEqualTo(MISSING);
+        assertThat(FlightTimes.durationMinutes(" ")).isEqualTo(MISSING);
+    }
+
+    @Test
+    void valuesOutsideTheIntRangeAreMissing() {
+        assertThat(FlightTimes.epochMinutes(LocalDate.of(9999, 12, 31))).isEqualTo(MISSING);
+        assertThat(FlightTimes.epochMinutes("9999-12-31T00:00:00Z", null, MISSING)).isEqualTo(MISSING);
+        assertThat(FlightTimes.epochMinutes("+999999999-12-31T00:00:00", null, MISSING)).isEqualTo(MISSING);
+        assertThat(FlightTimes.epochMinutes("10:00", LocalDate.of(9999, 12, 31), MISSING)).isEqualTo(MISSING);
+        assertThat(FlightTimes.durationMinutes("PT99999999999H")).isEqualTo(MISSING);
+        assertThat(FlightTimes.durationMinutes("99999999999h")).isEqualTo(MISSING);
+        assertThat(FlightTimes.durationMinutes("999999999h")).isEqualTo(MISSING);
+        assertThat(FlightTimes.durationMinutes("2h 99999999999m")).isEqualTo(MISSING);
+        assertThat(FlightTimes.durationMinutes("99999999999")).isEqualTo(MISSING);
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.flightcore.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StringInternerTest {
+
+    @Test
+    void returnsTheFirstInstanceForEqualValues() {
+        StringInterner interner = new StringInterner(10);
+        String first = new String("Economy");
+        String second = new String("Economy");
+
+        assertThat(interner.intern(first)).isSameAs(first);
+        assertThat(interner.intern(second)).isSameAs(first);
+        assertThat(interner.hits()).isEqualTo(1);
+        assertThat(interner.size()).isEqualTo(1);
+    }
+
+    @Test
+    void stopsAddingOnceFull() {
+        StringInterner interner = new StringInterner(2);
+        interner.intern("a");
+        interner.intern("b");
+        String third = new String("c");
+
+        assertThat(interner.intern(third)).isSameAs(third);
+        assertThat(interner.intern(new String("c"))).isNotSameAs(third);
+        assertThat(interner.size()).isEqualTo(2);
+        assertThat(interner.overflows()).isEqualTo(2);
+        assertThat(interner.intern(new String("a"))).isEqualTo("a");
+        assertThat(interner.hits()).isEqualTo(1);
+    }
+
+    @Test
+    void passesNullThrough() {
+        StringInterner interner = new StringInterner(2);
+
+        assertThat(interner.intern(null)).isNull();
+        assertThat(interner.size()).isZero();
+    }
+
+    @Test
+    void estimatesLatin1StringSize() {
+        assertThat(StringInterner.estimatedSize("")).isEqualTo(40);
+        assertThat(StringInterner.estimatedSize("Economy")).isEqualTo(48);
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.flightcore.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private AdaptiveConcurrencyLimiter limiter(int initialLimit, double rttTolerance) {
+        return new AdaptiveConcurrencyLimiter(registry, initialLimit, 1, 10, 0.5, rttTolerance, 100,
+                Duration.ofMillis(100));
+    }
+
+    private static String sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "ok";
+    }
+
+    @Test
+    void growsWhileAtLeastHalfTheLimitIsInUse() {
+        AdaptiveConcurrencyLimiter limiter = limiter(1, 10.0);
+
+        for (int i = 0; i < 5; i++) {
+            limiter.execute(() -> sleep(2));
+        }
+
+        // 1 -> 2 -> 2.5; from there one call at a time is less than half the limit.
+        assertThat(limiter.getLimit()).isEqualTo(2);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void backsOffOnASlowOrFailedCallButNotOnACancelledOne() {
+        AdaptiveConcurrencyLimiter limiter = limiter(8, 2.0);
+
+        limiter.execute(() -> sleep(1));
+        assertThat(limiter.getLimit()).isEqualTo(8);
+
+        limiter.execute(() -> sleep(50));
+        assertThat(limiter.getLimit()).isEqualTo(4);
+
+        assertThatThrownBy(() -> limiter.execute(() -> {
+            throw new IllegalStateException("vendor error");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(limiter.getLimit()).isEqualTo(2);
+
+        assertThatThrownBy(() -> limiter.execute(() -> {
+            throw new CancellationException("client is gone");
+        })).isInstanceOf(CancellationException.class);
+        assertThat(limiter.getLimit()).isEqualTo(2);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void rejectsACallThatWaitsLongerThanMaxWait() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = limiter(1, 10.0);
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> holder = CompletableFuture.supplyAsync(() -> limiter.execute(() -> {
+            holding.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "held";
+        }));
+        holding.await();
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> limiter.execute(() -> "waiting"))
+                .isInstanceOf(VendorOverloadedException.class);
+        long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertThat(waitedMillis).isBetween(100L, 2_000L);
+        assertThat(registry.get("flights.vendor.rejections").counter().count()).isEqualTo(1);
+        release.countDown();
+        assertThat(holder.get(5, TimeUnit.SECONDS)).isEqualTo("held");
+    }
+
+    @Test
+    void freesTheSlotOnceTheCallHasResponded() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = limiter(1, 10.0);
+        CountDownLatch responded = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> reader = CompletableFuture.supplyAsync(() -> limiter.execute(call -> {
+            call.responded();
+            responded.countDown();
+            try {
+                // The rest of a read paced by a slow client.
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "read";
+        }));
+        responded.await();
+
+        assertThat(limiter.getInFlight()).isZero();
+        assertThat(limiter.execute(() -> "next")).isEqualTo("next");
+        release.countDown();
+        assertThat(reader.get(5, TimeUnit.SECONDS)).isEqualTo("read");
+        assertThat(limiter.getInFlight()).isZero();
+    }
+}
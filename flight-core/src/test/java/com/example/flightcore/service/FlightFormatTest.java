@@ -0,0 +1,36 @@
+package com.example.flightcore.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FlightFormatTest {
+
+    @Test
+    void defaultsToJson() {
+        assertThat(FlightFormat.negotiate(null)).isEqualTo(FlightFormat.JSON);
+        assertThat(FlightFormat.negotiate(" ")).isEqualTo(FlightFormat.JSON);
+        assertThat(FlightFormat.negotiate("*/*")).isEqualTo(FlightFormat.JSON);
+        assertThat(FlightFormat.negotiate("application/*")).isEqualTo(FlightFormat.JSON);
+        assertThat(FlightFormat.negotiate("not a media type")).isEqualTo(FlightFormat.JSON);
+    }
+
+    @Test
+    void picksTheRequestedFormat() {
+        assertThat(FlightFormat.negotiate("application/cbor")).isEqualTo(FlightFormat.CBOR);
+        assertThat(FlightFormat.negotiate("application/x-jackson-smile")).isEqualTo(FlightFormat.SMILE);
+    }
+
+    @Test
+    void followsQualityValues() {
+        assertThat(FlightFormat.negotiate("application/json;q=0.5, application/cbor")).isEqualTo(FlightFormat.CBOR);
+        assertThat(FlightFormat.negotiate("application/cbor;q=0.2, application/x-jackson-smile;q=0.8"))
+                .isEqualTo(FlightFormat.SMILE);
+    }
+
+    @Test
+    void returnsNullWhenNothingIsAcceptable() {
+        assertThat(FlightFormat.negotiate("text/html")).isNull();
+        assertThat(FlightFormat.negotiate("application/json;q=0")).isNull();
+    }
+}
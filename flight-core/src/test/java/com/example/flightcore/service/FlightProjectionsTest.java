@@ -0,0 +1,67 @@
+package com.example.flightcore.service;
+
+import com.example.flightcore.model.Airline;
+import com.example.flightcore.model.Flight;
+import com.example.flightcore.model.FlightJsonCodec;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FlightProjectionsTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final FlightProjections projections = new FlightProjections(mapper, new SimpleMeterRegistry(), 4);
+
+    private static Flight flight() {
+        Airline airline = new Airline();
+        airline.setName("IndiGo");
+        Flight flight = new Flight();
+        flight.setAirline(airline);
+        flight.setFrom("DEL");
+        flight.setPrice(4200);
+        flight.setLayovers(List.of("BOM"));
+        return flight;
+    }
+
+    @Test
+    void writesTheSelectedFieldsInDeclarationOrder() throws Exception {
+        String json = projections.compile("price, layovers,airline,from").write(flight());
+
+        assertThat(json).isEqualTo(
+                "{\"airline\":{\"logo\":null,\"name\":\"IndiGo\"},\"from\":\"DEL\",\"layovers\":[\"BOM\"],\"price\":4200}");
+    }
+
+    @Test
+    void writesEachFieldLikeTheFullSerializer() throws Exception {
+        Flight flight = flight();
+        JsonNode full = mapper.readTree(mapper.writeValueAsBytes(flight));
+        for (FlightJsonCodec.Field field : FlightJsonCodec.FIELDS) {
+            String name = field.name().getValue();
+            JsonNode projected = mapper.readTree(projections.compile(name).write(List.of(flight), FlightFormat.JSON));
+
+            assertThat(projected.get(0).get(name)).as(name).isEqualTo(full.get(name));
+        }
+    }
+
+    @Test
+    void reusesCompiledSelections() {
+        assertThat(projections.compile("to,from")).isSameAs(projections.compile("from,to,from"));
+        assertThat(projections.forFields("from,to")).isSameAs(projections.compile("to,from"));
+        assertThat(projections.forFields(null)).isNull();
+    }
+
+    @Test
+    void rejectsUnknownOrEmptySelections() {
+        assertThatThrownBy(() -> projections.compile("from,seatColour"))
+                .isInstanceOf(InvalidFlightQueryException.class)
+                .hasMessageContaining("seatColour");
+        assertThatThrownBy(() -> projections.compile(" , "))
+                .isInstanceOf(InvalidFlightQueryException.class);
+    }
+}
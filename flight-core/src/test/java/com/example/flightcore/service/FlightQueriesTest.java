@@ -0,0 +1,77 @@
+package com.example.flightcore.service;
+
+import com.example.flightcore.model.Flight;
+import com.example.flightcore.model.FlightIndex;
+import com.example.flightcore.model.FlightPage;
+import com.example.flightcore.model.FlightQuery;
+import com.example.flightcore.model.FlightSnapshot;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FlightQueriesTest {
+
+    private final FlightQueries queries = new FlightQueries(2, 3, 2);
+
+    private static FlightSnapshot snapshot(long version) {
+        List<Flight> flights = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Flight flight = new Flight();
+            flight.setFlightId("F" + i);
+            flight.setFrom("DEL");
+            flight.setTo("BOM");
+            flight.setPrice(100 - i);
+            flights.add(flight);
+        }
+        return new FlightSnapshot(version, flights, Instant.now());
+    }
+
+    private static FlightQuery query(String sort, String cursor, Integer limit) {
+        return new FlightQuery(null, null, null, null, null, null, sort, cursor, limit);
+    }
+
+    @Test
+    void pagesWithTheDefaultLimit() {
+        FlightSnapshot snapshot = snapshot(1);
+
+        FlightPage first = queries.search(snapshot, query(null, null, null));
+        FlightPage second = queries.search(snapshot, query(null, first.getNextCursor(), null));
+
+        assertThat(first.getTotal()).isEqualTo(5);
+        assertThat(first.getFlights()).extracting(Flight::getFlightId).containsExactly("F4", "F3");
+        assertThat(second.getFlights()).extracting(Flight::getFlightId).containsExactly("F2", "F1");
+    }
+
+    @Test
+    void rejectsInvalidQueries() {
+        FlightSnapshot snapshot = snapshot(1);
+        String cursor = queries.search(snapshot, query(null, null, null)).getNextCursor();
+
+        assertThatThrownBy(() -> queries.search(snapshot, query("-colour", null, null)))
+                .isInstanceOf(InvalidFlightQueryException.class)
+                .hasMessageContaining("colour");
+        assertThatThrownBy(() -> queries.search(snapshot, query(null, null, 0)))
+                .isInstanceOf(InvalidFlightQueryException.class);
+        assertThatThrownBy(() -> queries.search(snapshot, query(null, null, 4)))
+                .isInstanceOf(InvalidFlightQueryException.class)
+                .hasMessage("limit must be between 1 and 3");
+        assertThatThrownBy(() -> queries.search(snapshot(2), query(null, cursor, null)))
+                .isInstanceOf(InvalidFlightQueryException.class);
+    }
+
+    @Test
+    void ranksWithinTheTopKLimit() {
+        FlightSnapshot snapshot = snapshot(1);
+
+        assertThat(queries.top(snapshot, "DEL", null, FlightIndex.Ranking.CHEAPEST, 2))
+                .extracting(Flight::getFlightId).containsExactly("F4", "F3");
+        assertThatThrownBy(() -> queries.top(snapshot, null, null, FlightIndex.Ranking.CHEAPEST, 3))
+                .isInstanceOf(InvalidFlightQueryException.class)
+                .hasMessage("k must be between 1 and 2");
+    }
+}
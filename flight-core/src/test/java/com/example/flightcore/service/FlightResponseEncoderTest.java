@@ -0,0 +1,89 @@
+package com.example.flightcore.service;
+
+import com.example.flightcore.model.Flight;
+import com.example.flightcore.model.FlightPage;
+import com.example.flightcore.model.FlightSnapshot;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FlightResponseEncoderTest {
+
+    private final FlightResponseEncoder encoder = new FlightResponseEncoder(new ObjectMapper(), new SimpleMeterRegistry());
+
+    private static FlightSnapshot snapshot() {
+        List<Flight> flights = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            Flight flight = new Flight();
+            flight.setFrom("DEL");
+            flight.setTo("BOM");
+            flights.add(flight);
+        }
+        return new FlightSnapshot(1, flights, Instant.now());
+    }
+
+    @Test
+    void acceptsGzipUnlessRefused() {
+        assertThat(FlightResponseEncoder.acceptsGzip("gzip")).isTrue();
+        assertThat(FlightResponseEncoder.acceptsGzip("deflate, GZIP;q=0.5")).isTrue();
+        assertThat(FlightResponseEncoder.acceptsGzip("br, *")).isTrue();
+        assertThat(FlightResponseEncoder.acceptsGzip(null)).isFalse();
+        assertThat(FlightResponseEncoder.acceptsGzip("br")).isFalse();
+        assertThat(FlightResponseEncoder.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(FlightResponseEncoder.acceptsGzip("*;q=0")).isFalse();
+        assertThat(FlightResponseEncoder.acceptsGzip("gzip;q=0, *")).isFalse();
+        assertThat(FlightResponseEncoder.acceptsGzip("gzip;q=high")).isFalse();
+    }
+
+    @Test
+    void servesTheGzippedVariantWithItsOwnEtag() {
+        FlightSnapshot snapshot = snapshot();
+
+        ResponseEntity<byte[]> plain = encoder.response(snapshot, FlightFormat.JSON, null);
+        ResponseEntity<byte[]> gzipped = encoder.response(snapshot, FlightFormat.JSON, "gzip");
+
+        assertThat(plain.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(gzipped.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(gzipped.getBody()).hasSizeLessThan(plain.getBody().length);
+        assertThat(gzipped.getHeaders().getETag()).isNotEqualTo(plain.getHeaders().getETag());
+    }
+
+    @Test
+    void encodesEachSnapshotOncePerFormat() {
+        FlightSnapshot snapshot = snapshot();
+
+        assertThat(encoder.encoded(snapshot, FlightFormat.CBOR)).isSameAs(encoder.encoded(snapshot, FlightFormat.CBOR));
+        assertThat(encoder.encoded(snapshot, FlightFormat.CBOR)).isNotSameAs(encoder.json(snapshot));
+    }
+
+    @Test
+    void writesThePageHeaders() {
+        FlightSnapshot snapshot = snapshot();
+
+        ResponseEntity<byte[]> first = encoder.page(FlightPage.of(snapshot, new int[]{0, 1, 2}, 0, 2), FlightFormat.JSON, null);
+        ResponseEntity<byte[]> last = encoder.page(FlightPage.of(snapshot, new int[]{0, 1, 2}, 2, 2), FlightFormat.JSON, null);
+
+        assertThat(first.getHeaders().getFirst(FlightResponseEncoder.TOTAL_COUNT)).isEqualTo("3");
+        assertThat(first.getHeaders().getFirst(FlightResponseEncoder.NEXT_CURSOR)).isNotBlank();
+        assertThat(first.getHeaders().getVary()).contains(HttpHeaders.ACCEPT);
+        assertThat(last.getHeaders().containsKey(FlightResponseEncoder.NEXT_CURSOR)).isFalse();
+    }
+
+    @Test
+    void answers406WhenNoFormatIsAcceptable() {
+        assertThatThrownBy(() -> encoder.negotiate("text/html"))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.NOT_ACCEPTABLE));
+    }
+}
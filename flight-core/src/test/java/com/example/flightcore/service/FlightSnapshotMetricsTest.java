@@ -0,0 +1,54 @@
+package com.example.flightcore.service;
+
+import com.example.flightcore.model.Flight;
+import com.example.flightcore.model.FlightSnapshot;
+import com.example.flightcore.model.StringInterner;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FlightSnapshotMetricsTest {
+
+    private static Flight flight(String cabinClass, String meal) {
+        Flight flight = new Flight();
+        flight.setCabinClass(cabinClass);
+        flight.setMeal(meal);
+        return flight;
+    }
+
+    @Test
+    void countsEveryRepeatReferenceAsSaved() {
+        String economy = "Economy";
+        String copy = new String("Economy");
+
+        long saved = FlightSnapshotMetrics.internedBytesSaved(List.of(
+                flight(economy, null), flight(economy, "Veg"), flight(economy, null), flight(copy, null)));
+
+        assertThat(saved).isEqualTo(2 * StringInterner.estimatedSize(economy));
+    }
+
+    @Test
+    void publishesTheSnapshotMeters() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AtomicReference<FlightSnapshot> current = new AtomicReference<>();
+        FlightSnapshotMetrics metrics = new FlightSnapshotMetrics(registry, current);
+
+        metrics.hit();
+        metrics.hit();
+        metrics.miss();
+        metrics.refreshed(System.nanoTime());
+        current.set(new FlightSnapshot(1, List.of(flight("Economy", null)), Instant.now().minusSeconds(10)));
+        metrics.recordInterning(current.get());
+
+        assertThat(registry.get("flights.snapshot.requests").tag("result", "hit").counter().count()).isEqualTo(2);
+        assertThat(registry.get("flights.snapshot.requests").tag("result", "miss").counter().count()).isEqualTo(1);
+        assertThat(registry.get("flights.snapshot.refresh").timer().count()).isEqualTo(1);
+        assertThat(registry.get("flights.snapshot.age").gauge().value()).isGreaterThanOrEqualTo(10);
+        assertThat(registry.get("flights.snapshot.interned.saved").summary().count()).isEqualTo(1);
+    }
+}
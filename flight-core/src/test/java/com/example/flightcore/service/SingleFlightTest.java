@@ -0,0 +1,59 @@
+package com.example.flightcore.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SingleFlightTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final SingleFlight<Object> singleFlight =
+            new SingleFlight<>("test", SingleFlight.FailureMode.SHARE, registry);
+
+    @Test
+    void concurrentCallersShareOneLoad() throws Exception {
+        int callers = 8;
+        AtomicInteger loads = new AtomicInteger();
+        List<Thread> threads = new ArrayList<>();
+        List<CompletableFuture<Object>> results = new ArrayList<>();
+        for (int i = 0; i < callers; i++) {
+            CompletableFuture<Object> result = new CompletableFuture<>();
+            results.add(result);
+            threads.add(new Thread(() -> result.complete(singleFlight.execute(() -> {
+                loads.incrementAndGet();
+                // Hold the load until every other caller is waiting on it.
+                while (!threads.stream()
+                        .filter(thread -> thread != Thread.currentThread())
+                        .allMatch(thread -> thread.getState() == Thread.State.WAITING)) {
+                    Thread.onSpinWait();
+                }
+                return new Object();
+            }))));
+        }
+        threads.forEach(Thread::start);
+
+        Object first = results.get(0).get(5, TimeUnit.SECONDS);
+        for (CompletableFuture<Object> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(first);
+        }
+        assertThat(loads).hasValue(1);
+        assertThat(registry.get("flights.coalesce.loads").counter().count()).isEqualTo(1);
+        assertThat(registry.get("flights.coalesce.fan.in").summary().max()).isEqualTo(callers);
+    }
+
+    @Test
+    void aCallerAfterTheLoadFinishedStartsANewOne() {
+        Object first = singleFlight.execute(Object::new);
+        Object second = singleFlight.execute(Object::new);
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(registry.get("flights.coalesce.loads").counter().count()).isEqualTo(2);
+    }
+}
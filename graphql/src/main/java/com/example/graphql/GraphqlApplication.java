@@ -1,9 +1,13 @@
 package com.example.graphql;
 
+import com.example.flightcore.config.FlightQueryConfig;
+import com.example.flightcore.config.FlightVendorConfig;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Import;
 
 @SpringBootApplication
+@Import({FlightVendorConfig.class, FlightQueryConfig.class})
 public class GraphqlApplication {
     public static void main(String[] args) {
         SpringApplication.run(GraphqlApplication.class, args);
@@ -1,9 +1,16 @@
 package com.example.graphql.graphql;
 
-import com.example.graphql.model.Flight;
+import com.example.flightcore.model.Flight;
+import com.example.flightcore.model.FlightIndex;
 import com.example.graphql.service.FlightService;
+import com.example.flightcore.service.InvalidFlightQueryException;
+import graphql.GraphQLError;
+import graphql.GraphqlErrorBuilder;
 import lombok.RequiredArgsConstructor;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.GraphQlExceptionHandler;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.graphql.execution.ErrorType;
 import org.springframework.stereotype.Controller;
 
 import java.util.List;
@@ -18,4 +25,17 @@ public class FlightQueryResolver {
     public List<Flight> flights() {
         return flightService.getFlights();
     }
-}
\ No newline at end of file
+
+    @QueryMapping
+    public List<Flight> topFlights(@Argument(name = "from") String from,
+                                   @Argument(name = "to") String to,
+                                   @Argument(name = "k") int k,
+                                   @Argument(name = "by") FlightIndex.Ranking by) {
+        return flightService.top(flightService.getSnapshot(), from, to, by, k);
+    }
+
+    @GraphQlExceptionHandler
+    public GraphQLError invalidQuery(InvalidFlightQueryException e) {
+        return GraphqlErrorBuilder.newError().errorType(ErrorType.BAD_REQUEST).message(e.getMessage()).build();
+    }
+}
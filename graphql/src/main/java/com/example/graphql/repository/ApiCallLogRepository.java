@@ -1,6 +1,6 @@
 package com.example.graphql.repository;
 
-import com.example.graphql.model.ApiCallLog;
+import com.example.flightcore.model.ApiCallLog;
 import org.springframework.data.mongodb.repository.MongoRepository;
 
 public interface ApiCallLogRepository extends MongoRepository<ApiCallLog, String> {
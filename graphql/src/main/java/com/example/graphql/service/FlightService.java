@@ -1,30 +1,39 @@
 package com.example.graphql.service;
 
-import com.example.graphql.model.ApiCallLog;
-import com.example.graphql.model.Flight;
-import com.example.graphql.repository.ApiCallLogRepository;
-import lombok.RequiredArgsConstructor;
+import com.example.flightcore.model.Flight;
+import com.example.flightcore.model.FlightIndex;
+import com.example.flightcore.model.FlightSnapshot;
+import com.example.flightcore.service.FlightQueries;
+import com.example.flightcore.service.FlightSnapshotCache;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
-import java.util.Arrays;
 import java.util.List;
 
 @Service
-@RequiredArgsConstructor
 public class FlightService {
-    private static final String THIRD_PARTY_URL = "http://localhost:8900/vendor/supplier/stream/flights";
 
-    private final ApiCallLogRepository logRepository;
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final FlightSnapshotCache snapshotCache;
+    private final FlightQueries queries;
+
+    @Autowired
+    public FlightService(FlightSnapshotCache snapshotCache, FlightQueries queries) {
+        this.snapshotCache = snapshotCache;
+        this.queries = queries;
+    }
 
     public List<Flight> getFlights() {
-        Flight[] flights = restTemplate.getForObject(THIRD_PARTY_URL, Flight[].class);
-        List<Flight> flightList = Arrays.asList(flights != null ? flights : new Flight[0]);
-        ApiCallLog log = new ApiCallLog();
-        log.setEndpoint(THIRD_PARTY_URL);
-        log.setFlights(flightList);
-        logRepository.save(log);
-        return flightList;
+        return snapshotCache.get().getFlights();
+    }
+
+    public FlightSnapshot getSnapshot() {
+        return snapshotCache.get();
+    }
+
+    /**
+     * Best {@code k} flights of {@code snapshot} by {@code ranking}; see {@link FlightQueries#top}.
+     */
+    public List<Flight> top(FlightSnapshot snapshot, String from, String to, FlightIndex.Ranking ranking, int k) {
+        return queries.top(snapshot, from, to, ranking, k);
     }
-}
\ No newline at end of file
+}
@@ -1,9 +1,13 @@
 package com.example.springgrpcvirtualthreads;
 
+import com.example.flightcore.config.FlightQueryConfig;
+import com.example.flightcore.config.FlightVendorConfig;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Import;
 
 @SpringBootApplication
+@Import({FlightVendorConfig.class, FlightQueryConfig.class})
 public class SpringGrpcVirtualThreadsApplication {
     public static void main(String[] args) {
         System.setProperty("spring.threads.virtual.enabled", "true"); // Enable virtual threads in Spring Boot 3.2+
@@ -0,0 +1,22 @@
+package com.example.springgrpcvirtualthreads.config;
+
+import com.example.springgrpcvirtualthreads.grpc.GrpcServerExecutor;
+import com.google.common.util.concurrent.MoreExecutors;
+import net.devh.boot.grpc.server.serverfactory.GrpcServerConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class GrpcServerConfig {
+
+    /**
+     * Dispatches every gRPC call on {@link GrpcServerExecutor} instead of grpc-java's default cached thread pool.
+     * Only the method lookup and the executor choice, where calls are admitted, run directly on the transport thread.
+     */
+    @Bean
+    public GrpcServerConfigurer grpcServerExecutorConfigurer(GrpcServerExecutor executor) {
+        return serverBuilder -> serverBuilder
+                .executor(MoreExecutors.directExecutor())
+                .callExecutor(executor);
+    }
+}
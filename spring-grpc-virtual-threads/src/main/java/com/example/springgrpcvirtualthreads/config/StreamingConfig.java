@@ -0,0 +1,22 @@
+package com.example.springgrpcvirtualthreads.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+
+@Configuration
+public class StreamingConfig {
+
+    /**
+     * Runs the vendor read behind each {@code StreamFlights} call on its own virtual thread, so waiting for a slow
+     * client or the vendor never holds a gRPC executor thread. The vendor limiter bounds the reads waiting for the
+     * vendor's response headers; once they arrive, only the vendor connection pool does.
+     */
+    @Bean
+    public TaskExecutor flightStreamExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("flight-stream-");
+        executor.setVirtualThreads(true);
+        return executor;
+    }
+}
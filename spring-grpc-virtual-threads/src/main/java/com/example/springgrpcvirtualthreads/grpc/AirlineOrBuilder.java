@@ -1,33 +0,0 @@
-// Generated by the protocol buffer compiler.  DO NOT EDIT!
-// source: flights.proto
-
-package com.example.springgrpcvirtualthreads.grpc;
-
-public interface AirlineOrBuilder extends
-    // @@protoc_insertion_point(interface_extends:flight.Airline)
-    com.google.protobuf.MessageOrBuilder {
-
-  /**
-   * <code>string logo = 1;</code>
-   * @return The logo.
-   */
-  java.lang.String getLogo();
-  /**
-   * <code>string logo = 1;</code>
-   * @return The bytes for logo.
-   */
-  com.google.protobuf.ByteString
-      getLogoBytes();
-
-  /**
-   * <code>string name = 2;</code>
-   * @return The name.
-   */
-  java.lang.String getName();
-  /**
-   * <code>string name = 2;</code>
-   * @return The bytes for name.
-   */
-  com.google.protobuf.ByteString
-      getNameBytes();
-}
@@ -1,6372 +0,0 @@
-// Generated by the protocol buffer compiler.  DO NOT EDIT!
-// source: flights.proto
-
-package com.example.springgrpcvirtualthreads.grpc;
-
-/**
- * Protobuf type {@code flight.Flight}
- */
-public final class Flight extends
-    com.google.protobuf.GeneratedMessageV3 implements
-    // @@protoc_insertion_point(message_implements:flight.Flight)
-    FlightOrBuilder {
-private static final long serialVersionUID = 0L;
-  // Use Flight.newBuilder() to construct.
-  private Flight(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
-    super(builder);
-  }
-  private Flight() {
-    aircraftType_ = "";
-    arrivalTime_ = "";
-    baggage_ = "";
-    boardingTime_ = "";
-    cabinClass_ = "";
-    cancellationPolicy_ = "";
-    changePolicy_ = "";
-    checkInCounter_ = "";
-    covidSafety_ = "";
-    date_ = "";
-    departureTime_ = "";
-    duration_ = "";
-    ecoFriendly_ = "";
-    entertainment_ = "";
-    extraLegroom_ = "";
-    fareClass_ = "";
-    flightId_ = "";
-    flightNumber_ = "";
-    flightType_ = "";
-    from_ = "";
-    gate_ = "";
-    infantPolicy_ = "";
-    lastUpdated_ = "";
-    layovers_ = com.google.protobuf.LazyStringArrayList.EMPTY;
-    loungeAccess_ = "";
-    meal_ = "";
-    onTimePerformance_ = "";
-    petPolicy_ = "";
-    powerOutlet_ = "";
-    priorityBoarding_ = "";
-    recliningAngle_ = "";
-    seatPitch_ = "";
-    seatType_ = "";
-    seatWidth_ = "";
-    terminal_ = "";
-    to_ = "";
-    usbPort_ = "";
-    vendorLogo_ = "";
-    vendorName_ = "";
-    wifi_ = "";
-  }
-
-  @java.lang.Override
-  @SuppressWarnings({"unused"})
-  protected java.lang.Object newInstance(
-      UnusedPrivateParameter unused) {
-    return new Flight();
-  }
-
-  @java.lang.Override
-  public final com.google.protobuf.UnknownFieldSet
-  getUnknownFields() {
-    return this.unknownFields;
-  }
-  public static final com.google.protobuf.Descriptors.Descriptor
-      getDescriptor() {
-    return com.example.springgrpcvirtualthreads.grpc.Flights.internal_static_flight_Flight_descriptor;
-  }
-
-  @java.lang.Override
-  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-      internalGetFieldAccessorTable() {
-    return com.example.springgrpcvirtualthreads.grpc.Flights.internal_static_flight_Flight_fieldAccessorTable
-        .ensureFieldAccessorsInitialized(
-            com.example.springgrpcvirtualthreads.grpc.Flight.class, com.example.springgrpcvirtualthreads.grpc.Flight.Builder.class);
-  }
-
-  public static final int AIRCRAFTTYPE_FIELD_NUMBER = 1;
-  private volatile java.lang.Object aircraftType_;
-  /**
-   * <code>string aircraftType = 1;</code>
-   * @return The aircraftType.
-   */
-  @java.lang.Override
-  public java.lang.String getAircraftType() {
-    java.lang.Object ref = aircraftType_;
-    if (ref instanceof java.lang.String) {
-      return (java.lang.String) ref;
-    } else {
-      com.google.protobuf.ByteString bs = 
-          (com.google.protobuf.ByteString) ref;
-      java.lang.String s = bs.toStringUtf8();
-      aircraftType_ = s;
-      return s;
-    }
-  }
-  /**
-   * <code>string aircraftType = 1;</code>
-   * @return The bytes for aircraftType.
-   */
-  @java.lang.Override
-  public com.google.protobuf.ByteString
-      getAircraftTypeBytes() {
-    java.lang.Object ref = aircraftType_;
-    if (ref instanceof java.lang.String) {
-      com.google.protobuf.ByteString b = 
-          com.google.protobuf.ByteString.copyFromUtf8(
-              (java.lang.String) ref);
-      aircraftType_ = b;
-      return b;
-    } else {
-      return (com.google.protobuf.ByteString) ref;
-    }
-  }
-
-  public static final int AIRLINE_FIELD_NUMBER = 2;
-  private com.example.springgrpcvirtualthreads.grpc.Airline airline_;
-  /**
-   * <code>.flight.Airline airline = 2;</code>
-   * @return Whether the airline field is set.
-   */
-  @java.lang.Override
-  public boolean hasAirline() {
-    return airline_ != null;
-  }
-  /**
-   * <code>.flight.Airline airline = 2;</code>
-   * @return The airline.
-   */
-  @java.lang.Override
-  public com.example.springgrpcvirtualthreads.grpc.Airline getAirline() {
-    return airline_ == null ? com.example.springgrpcvirtualthreads.grpc.Airline.getDefaultInstance() : airline_;
-  }
-  /**
-   * <code>.flight.Airline airline = 2;</code>
-   */
-  @java.lang.Override
-  public com.example.springgrpcvirtualthreads.grpc.AirlineOrBuilder getAirlineOrBuilder() {
-    return getAirline();
-  }
-
-  public static final int ARRIVALTIME_FIELD_NUMBER = 3;
-  private volatile java.lang.Object arrivalTime_;
-  /**
-   * <code>string arrivalTime = 3;</code>
-   * @return The arrivalTime.
-   */
-  @java.lang.Override
-  public java.lang.String getArrivalTime() {
-    java.lang.Object ref = arrivalTime_;
-    if (ref instanceof java.lang.String) {
-      return (java.lang.String) ref;
-    } else {
-      com.google.protobuf.ByteString bs = 
-          (com.google.protobuf.ByteString) ref;
-      java.lang.String s = bs.toStringUtf8();
-      arrivalTime_ = s;
-      return s;
-    }
-  }
-  /**
-   * <code>string arrivalTime = 3;</code>
-   * @return The bytes for arrivalTime.
-   */
-  @java.lang.Override
-  public com.google.protobuf.ByteString
-      getArrivalTimeBytes() {
-    java.lang.Object ref = arrivalTime_;
-    if (ref instanceof java.lang.String) {
-      com.google.protobuf.ByteString b = 
-          com.google.protobuf.ByteString.copyFromUtf8(
-              (java.lang.String) ref);
-      arrivalTime_ = b;
-      return b;
-    } else {
-      return (com.google.protobuf.ByteString) ref;
-    }
-  }
-
-  public static final int BAGGAGE_FIELD_NUMBER = 4;
-  private volatile java.lang.Object baggage_;
-  /**
-   * <code>string baggage = 4;</code>
-   * @return The baggage.
-   */
-  @java.lang.Override
-  public java.lang.String getBaggage() {
-    java.lang.Object ref = baggage_;
-    if (ref instanceof java.lang.String) {
-      return (java.lang.String) ref;
-    } else {
-      com.google.protobuf.ByteString bs = 
-          (com.google.protobuf.ByteString) ref;
-      java.lang.String s = bs.toStringUtf8();
-      baggage_ = s;
-      return s;
-    }
-  }
-  /**
-   * <code>string baggage = 4;</code>
-   * @return The bytes for baggage.
-   */
-  @java.lang.Override
-  public com.google.protobuf.ByteString
-      getBaggageBytes() {
-    java.lang.Object ref = baggage_;
-    if (ref instanceof java.lang.String) {
-      com.google.protobuf.ByteString b = 
-          com.google.protobuf.ByteString.copyFromUtf8(
-              (java.lang.String) ref);
-      baggage_ = b;
-      return b;
-    } else {
-      return (com.google.protobuf.ByteString) ref;
-    }
-  }
-
-  public static final int BOARDINGTIME_FIELD_NUMBER = 5;
-  private volatile java.lang.Object boardingTime_;
-  /**
-   * <code>string boardingTime = 5;</code>
-   * @return The boardingTime.
-   */
-  @java.lang.Override
-  public java.lang.String getBoardingTime() {
-    java.lang.Object ref = boardingTime_;
-    if (ref instanceof java.lang.String) {
-      return (java.lang.String) ref;
-    } else {
-      com.google.protobuf.ByteString bs = 
-          (com.google.protobuf.ByteString) ref;
-      java.lang.String s = bs.toStringUtf8();
-      boardingTime_ = s;
-      return s;
-    }
-  }
-  /**
-   * <code>string boardingTime = 5;</code>
-   * @return The bytes for boardingTime.
-   */
-  @java.lang.Override
-  public com.google.protobuf.ByteString
-      getBoardingTimeBytes() {
-    java.lang.Object ref = boardingTime_;
-    if (ref instanceof java.lang.String) {
-      com.google.protobuf.ByteString b = 
-          com.google.protobuf.ByteString.copyFromUtf8(
-              (java.lang.String) ref);
-      boardingTime_ = b;
-      return b;
-    } else {
-      return (com.google.protobuf.ByteString) ref;
-    }
-  }
-
-  public static final int CABINCLASS_FIELD_NUMBER = 6;
-  private volatile java.lang.Object cabinClass_;
-  /**
-   * <code>string cabinClass = 6;</code>
-   * @return The cabinClass.
-   */
-  @java.lang.Override
-  public java.lang.String getCabinClass() {
-    java.lang.Object ref = cabinClass_;
-    if (ref instanceof java.lang.String) {
-      return (java.lang.String) ref;
-    } else {
-      com.google.protobuf.ByteString bs = 
-          (com.google.protobuf.ByteString) ref;
-      java.lang.String s = bs.toStringUtf8();
-      cabinClass_ = s;
-      return s;
-    }
-  }
-  /**
-   * <code>string cabinClass = 6;</code>
-   * @return The bytes for cabinClass.
-   */
-  @java.lang.Override
-  public com.google.protobuf.ByteString
-      getCabinClassBytes() {
-    java.lang.Object ref = cabinClass_;
-    if (ref instanceof java.lang.String) {
-      com.google.protobuf.ByteString b = 
-          com.google.protobuf.ByteString.copyFromUtf8(
-              (java.lang.String) ref);
-      cabinClass_ = b;
-      return b;
-    } else {
-      return (com.google.protobuf.ByteString) ref;
-    }
-  }
-
-  public static final int CANCELLATIONPOLICY_FIELD_NUMBER = 7;
-  private volatile java.lang.Object cancellationPolicy_;
-  /**
-   * <code>string cancellationPolicy = 7;</code>
-   * @return The cancellationPolicy.
-   */
-  @java.lang.Override
-  public java.lang.String getCancellationPolicy() {
-    java.lang.Object ref = cancellationPolicy_;
-    if (ref instanceof java.lang.String) {
-      return (java.lang.String) ref;
-    } else {
-      com.google.protobuf.ByteString bs = 
-          (com.google.protobuf.ByteString) ref;
-      java.lang.String s = bs.toStringUtf8();
-      cancellationPolicy_ = s;
-      return s;
-    }
-  }
-  /**
-   * <code>string cancellationPolicy = 7;</code>
-   * @return The bytes for cancellationPolicy.
-   */
-  @java.lang.Override
-  public com.google.protobuf.ByteString
-      getCancellationPolicyBytes() {
-    java.lang.Object ref = cancellationPolicy_;
-    if (ref instanceof java.lang.String) {
-      com.google.protobuf.ByteString b = 
-          com.google.protobuf.ByteString.copyFromUtf8(
-              (java.lang.String) ref);
-      cancellationPolicy_ = b;
-      return b;
-    } else {
-      return (com.google.protobuf.ByteString) ref;
-    }
-  }
-
-  public static final int CHANGEPOLICY_FIELD_NUMBER = 8;
-  private volatile java.lang.Object changePolicy_;
-  /**
-   * <code>string changePolicy = 8;</code>
-   * @return The changePolicy.
-   */
-  @java.lang.Override
-  public java.lang.String getChangePolicy() {
-    java.lang.Object ref = changePolicy_;
-    if (ref instanceof java.lang.String) {
-      return (java.lang.String) ref;
-    } else {
-      com.google.protobuf.ByteString bs = 
-          (com.google.protobuf.ByteString) ref;
-      java.lang.String s = bs.toStringUtf8();
-      changePolicy_ = s;
-      return s;
-    }
-  }
-  /**
-   * <code>string changePolicy = 8;</code>
-   * @return The bytes for changePolicy.
-   */
-  @java.lang.Override
-  public com.google.protobuf.ByteString
-      getChangePolicyBytes() {
-    java.lang.Object ref = changePolicy_;
-    if (ref instanceof java.lang.String) {
-      com.google.protobuf.ByteString b = 
-          com.google.protobuf.ByteString.copyFromUtf8(
-              (java.lang.String) ref);
-      changePolicy_ = b;
-      return b;
-    } else {
-      return (com.google.protobuf.ByteString) ref;
-    }
-  }
-
-  public static final int CHECKINCOUNTER_FIELD_NUMBER = 9;
-  private volatile java.lang.Object checkInCounter_;
-  /**
-   * <code>string checkInCounter = 9;</code>
-   * @return The checkInCounter.
-   */
-  @java.lang.Override
-  public java.lang.String getCheckInCounter() {
-    java.lang.Object ref = checkInCounter_;
-    if (ref instanceof java.lang.String) {
-      return (java.lang.String) ref;
-    } else {
-      com.google.protobuf.ByteString bs = 
-          (com.google.protobuf.ByteString) ref;
-      java.lang.String s = bs.toStringUtf8();
-      checkInCounter_ = s;
-      return s;
-    }
-  }
-  /**
-   * <code>string checkInCounter = 9;</code>
-   * @return The bytes for checkInCounter.
-   */
-  @java.lang.Override
-  public com.google.protobuf.ByteString
-      getCheckInCounterBytes() {
-    java.lang.Object ref = checkInCounter_;
-    if (ref instanceof java.lang.String) {
-      com.google.protobuf.ByteString b = 
-          com.google.protobuf.ByteString.copyFromUtf8(
-              (java.lang.String) ref);
-      checkInCounter_ = b;
-      return b;
-    } else {
-      return (com.google.protobuf.ByteString) ref;
-    }
-  }
-
-  public static final int COVIDSAFETY_FIELD_NUMBER = 10;
-  private volatile java.lang.Object covidSafety_;
-  /**
-   * <code>string covidSafety = 10;</code>
-   * @return The covidSafety.
-   */
-  @java.lang.Override
-  public java.lang.String getCovidSafety() {
-    java.lang.Object ref = covidSafety_;
-    if (ref instanceof java.lang.String) {
-      return (java.lang.String) ref;
-    } else {
-      com.google.protobuf.ByteString bs = 
-          (com.google.protobuf.ByteString) ref;
-      java.lang.String s = bs.toStringUtf8();
-      covidSafety_ = s;
-      return s;
-    }
-  }
-  /**
-   * <code>string covidSafety = 10;</code>
-   * @return The bytes for covidSafety.
-   */
-  @java.lang.Override
-  public com.google.protobuf.ByteString
-      getCovidSafetyBytes() {
-    java.lang.Object ref = covidSafety_;
-    if (ref instanceof java.lang.String) {
-      com.google.protobuf.ByteString b = 
-          com.google.protobuf.ByteString.copyFromUtf8(
-              (java.lang.String) ref);
-      covidSafety_ = b;
-      return b;
-    } else {
-      return (com.google.protobuf.ByteString) ref;
-    }
-  }
-
-  public static final int DATE_FIELD_NUMBER = 11;
-  private volatile java.lang.Object date_;
-  /**
-   * <code>string date = 11;</code>
-   * @return The date.
-   */
-  @java.lang.Override
-  public java.lang.String getDate() {
-    java.lang.Object ref = date_;
-    if (ref instanceof java.lang.String) {
-      return (java.lang.String) ref;
-    } else {
-      com.google.protobuf.ByteString bs = 
-          (com.google.protobuf.ByteString) ref;
-      java.lang.String s = bs.toStringUtf8();
-      date_ = s;
-      return s;
-    }
-  }
-  /**
-   * <code>string date = 11;</code>
-   * @return The bytes for date.
-   */
-  @java.lang.Override
-  public com.google.protobuf.ByteString
-      getDateBytes() {
-    java.lang.Object ref = date_;
-    if (ref instanceof java.lang.String) {
-      com.google.protobuf.ByteString b = 
-          com.google.protobuf.ByteString.copyFromUtf8(
-              (java.lang.String) ref);
-      date_ = b;
-      return b;
-    } else {
-      return (com.google.protobuf.ByteString) ref;
-    }
-  }
-
-  public static final int DEPARTURETIME_FIELD_NUMBER = 12;
-  private volatile java.lang.Object departureTime_;
-  /**
-   * <code>string departureTime = 12;</code>
-   * @return The departureTime.
-   */
-  @java.lang.Override
-  public java.lang.String getDepartureTime() {
-    java.lang.Object ref = departureTime_;
-    if (ref instanceof java.lang.String) {
-      return (java.lang.String) ref;
-    } else {
-      com.google.protobuf.ByteString bs = 
-          (com.google.protobuf.ByteString) ref;
-      java.lang.String s = bs.toStringUtf8();
-      departureTime_ = s;
-      return s;
-    }
-  }
-  /**
-   * <code>string departureTime = 12;</code>
-   * @return The bytes for departureTime.
-   */
-  @java.lang.Override
-  public com.google.protobuf.ByteString
-      getDepartureTimeBytes() {
-    java.lang.Object ref = departureTime_;
-    if (ref instanceof java.lang.String) {
-      com.google.protobuf.ByteString b = 
-          com.google.protobuf.ByteString.copyFromUtf8(
-              (java.lang.String) ref);
-      departureTime_ = b;
-      return b;
-    } else {
-      return (com.google.protobuf.ByteString) ref;
-    }
-  }
-
-  public static final int DURATION_FIELD_NUMBER = 13;
-  private volatile java.lang.Object duration_;
-  /**
-   * <code>string duration = 13;</code>
-   * @return The duration.
-   */
-  @java.lang.Override
-  public java.lang.String getDuration() {
-    java.lang.Object ref = duration_;
-    if (ref instanceof java.lang.String) {
-      return (java.lang.String) ref;
-    } else {
-      com.google.protobuf.ByteString bs = 
-          (com.google.protobuf.ByteString) ref;
-      java.lang.String s = bs.toStringUtf8();
-      duration_ = s;
-      return s;
-    }
-  }
-  /**
-   * <code>string duration = 13;</code>
-   * @return The bytes for duration.
-   */
-  @java.lang.Override
-  public com.google.protobuf.ByteString
-      getDurationBytes() {
-    java.lang.Object ref = duration_;
-    if (ref instanceof java.lang.String) {
-      com.google.protobuf.ByteString b = 
-          com.google.protobuf.ByteString.copyFromUtf8(
-              (java.lang.String) ref);
-      duration_ = b;
-      return b;
-    } else {
-      return (com.google.protobuf.ByteString) ref;
-    }
-  }
-
-  public static final int ECOFRIENDLY_FIELD_NUMBER = 14;
-  private volatile java.lang.Object ecoFriendly_;
-  /**
-   * <code>string ecoFriendly = 14;</code>
-   * @return The ecoFriendly.
-   */
-  @java.lang.Override
-  public java.lang.String getEcoFriendly() {
-    java.lang.Object ref = ecoFriendly_;
-    if (ref instanceof java.lang.String) {
-      return (java.lang.String) ref;
-    } else {
-      com.google.protobuf.ByteString bs = 
-          (com.google.protobuf.ByteString) ref;
-      java.lang.String s = bs.toStringUtf8();
-      ecoFriendly_ = s;
-      return s;
-    }
-  }
-  /**
-   * <code>string ecoFriendly = 14;</code>
-   * @return The bytes for ecoFriendly.
-   */
-  @java.lang.Override
-  public com.google.protobuf.ByteString
-      getEcoFriendlyBytes() {
-    java.lang.Object ref = ecoFriendly_;
-    if (ref instanceof java.lang.String) {
-      com.google.protobuf.ByteString b = 
-          com.google.protobuf.ByteString.copyFromUtf8(
-              (java.lang.String) ref);
-      ecoFriendly_ = b;
-      return b;
-    } else {
-      return (com.google.protobuf.ByteString) ref;
-    }
-  }
-
-  public static final int ENTERTAINMENT_FIELD_NUMBER = 15;
-  private volatile java.lang.Object entertainment_;
-  /**
-   * <code>string entertainment = 15;</code>
-   * @return The entertainment.
-   */
-  @java.lang.Override
-  public java.lang.String getEntertainment() {
-    java.lang.Object ref = entertainment_;
-    if (ref instanceof java.lang.String) {
-      return (java.lang.String) ref;
-    } else {
-      com.google.protobuf.ByteString bs = 
-          (com.google.protobuf.ByteString) ref;
-      java.lang.String s = bs.toStringUtf8();
-      entertainment_ = s;
-      return s;
-    }
-  }
-  /**
-   * <code>string entertainment = 15;</code>
-   * @return The bytes for entertainment.
-   */
-  @java.lang.Override
-  public com.google.protobuf.ByteString
-      getEntertainmentBytes() {
-    java.lang.Object ref = entertainment_;
-    if (ref instanceof java.lang.String) {
-      com.google.protobuf.ByteString b = 
-          com.google.protobuf.ByteString.copyFromUtf8(
-              (java.lang.String) ref);
-      entertainment_ = b;
-      return b;
-    } else {
-      return (com.google.protobuf.ByteString) ref;
-    }
-  }
-
-  public static final int EXTRALEGROOM_FIELD_NUMBER = 16;
-  private volatile java.lang.Object extraLegroom_;
-  /**
-   * <code>string extraLegroom = 16;</code>
-   * @return The extraLegroom.
-   */
-  @java.lang.Override
-  public java.lang.String getExtraLegroom() {
-    java.lang.Object ref = extraLegroom_;
-    if (ref instanceof java.lang.String) {
-      return (java.lang.String) ref;
-    } else {
-      com.google.protobuf.ByteString bs = 
-          (com.google.protobuf.ByteString) ref;
-      java.lang.String s = bs.toStringUtf8();
-      extraLegroom_ = s;
-      return s;
-    }
-  }
-  /**
-   * <code>string extraLegroom = 16;</code>
-   * @return The bytes for extraLegroom.
-   */
-  @java.lang.Override
-  public com.google.protobuf.ByteString
-      getExtraLegroomBytes() {
-    java.lang.Object ref = extraLegroom_;
-    if (ref instanceof java.lang.String) {
-      com.google.protobuf.ByteString b = 
-          com.google.protobuf.ByteString.copyFromUtf8(
-              (java.lang.String) ref);
-      extraLegroom_ = b;
-      return b;
-    } else {
-      return (com.google.protobuf.ByteString) ref;
-    }
-  }
-
-  public static final int FARECLASS_FIELD_NUMBER = 17;
-  private volatile java.lang.Object fareClass_;
-  /**
-   * <code>string fareClass = 17;</code>
-   * @return The fareClass.
-   */
-  @java.lang.Override
-  public java.lang.String getFareClass() {
-    java.lang.Object ref = fareClass_;
-    if (ref instanceof java.lang.String) {
-      return (java.lang.String) ref;
-    } else {
-      com.google.protobuf.ByteString bs = 
-          (com.google.protobuf.ByteString) ref;
-      java.lang.String s = bs.toStringUtf8();
-      fareClass_ = s;
-      return s;
-    }
-  }
-  /**
-   * <code>string fareClass = 17;</code>
-   * @return The bytes for fareClass.
-   */
-  @java.lang.Override
-  public com.google.protobuf.ByteString
-      getFareClassBytes() {
-    java.lang.Object ref = fareClass_;
-    if (ref instanceof java.lang.String) {
-      com.google.protobuf.ByteString b = 
-          com.google.protobuf.ByteString.copyFromUtf8(
-              (java.lang.String) ref);
-      fareClass_ = b;
-      return b;
-    } else {
-      return (com.google.protobuf.ByteString) ref;
-    }
-  }
-
-  public static final int FLIGHTID_FIELD_NUMBER = 18;
-  private volatile java.lang.Object flightId_;
-  /**
-   * <code>string flightId = 18;</code>
-   * @return The flightId.
-   */
-  @java.lang.Override
-  public java.lang.String getFlightId() {
-    java.lang.Object ref = flightId_;
-    if (ref instanceof java.lang.String) {
-      return (java.lang.String) ref;
-    } else {
-      com.google.protobuf.ByteString bs = 
-          (com.google.protobuf.ByteString) ref;
-      java.lang.String s = bs.toStringUtf8();
-      flightId_ = s;
-      return s;
-    }
-  }
-  /**
-   * <code>string flightId = 18;</code>
-   * @return The bytes for flightId.
-   */
-  @java.lang.Override
-  public com.google.protobuf.ByteString
-      getFlightIdBytes() {
-    java.lang.Object ref = flightId_;
-    if (ref instanceof java.lang.String) {
-      com.google.protobuf.ByteString b = 
-          com.google.protobuf.ByteString.copyFromUtf8(
-              (java.lang.String) ref);
-      flightId_ = b;
-      return b;
-    } else {
-      return (com.google.protobuf.ByteString) ref;
-    }
-  }
-
-  public static final int FLIGHTNUMBER_FIELD_NUMBER = 19;
-  private volatile java.lang.Object flightNumber_;
-  /**
-   * <code>string flightNumber = 19;</code>
-   * @return The flightNumber.
-   */
-  @java.lang.Override
-  public java.lang.String getFlightNumber() {
-    java.lang.Object ref = flightNumber_;
-    if (ref instanceof java.lang.String) {
-      return (java.lang.String) ref;
-    } else {
-      com.google.protobuf.ByteString bs = 
-          (com.google.protobuf.ByteString) ref;
-      java.lang.String s = bs.toStringUtf8();
-      flightNumber_ = s;
-      return s;
-    }
-  }
-  /**
-   * <code>string flightNumber = 19;</code>
-   * @return The bytes for flightNumber.
-   */
-  @java.lang.Override
-  public com.google.protobuf.ByteString
-      getFlightNumberBytes() {
-    java.lang.Object ref = flightNumber_;
-    if (ref instanceof java.lang.String) {
-      com.google.protobuf.ByteString b = 
-          com.google.protobuf.ByteString.copyFromUtf8(
-              (java.lang.String) ref);
-      flightNumber_ = b;
-      return b;
-    } else {
-      return (com.google.protobuf.ByteString) ref;
-    }
-  }
-
-  public static final int FLIGHTTYPE_FIELD_NUMBER = 20;
-  private volatile java.lang.Object flightType_;
-  /**
-   * <code>string flightType = 20;</code>
-   * @return The flightType.
-   */
-  @java.lang.Override
-  public java.lang.String getFlightType() {
-    java.lang.Object ref = flightType_;
-    if (ref instanceof java.lang.String) {
-      return (java.lang.String) ref;
-    } else {
-      com.google.protobuf.ByteString bs = 
-          (com.google.protobuf.ByteString) ref;
-      java.lang.String s = bs.toStringUtf8();
-      flightType_ = s;
-      return s;
-    }
-  }
-  /**
-   * <code>string flightType = 20;</code>
-   * @return The bytes for flightType.
-   */
-  @java.lang.Override
-  public com.google.protobuf.ByteString
-      getFlightTypeBytes() {
-    java.lang.Object ref = flightType_;
-    if (ref instanceof java.lang.String) {
-      com.google.protobuf.ByteString b = 
-          com.google.protobuf.ByteString.copyFromUtf8(
-              (java.lang.String) ref);
-      flightType_ = b;
-      return b;
-    } else {
-      return (com.google.protobuf.ByteString) ref;
-    }
-  }
-
-  public static final int FROM_FIELD_NUMBER = 21;
-  private volatile java.lang.Object from_;
-  /**
-   * <code>string from = 21;</code>
-   * @return The from.
-   */
-  @java.lang.Override
-  public java.lang.String getFrom() {
-    java.lang.Object ref = from_;
-    if (ref instanceof java.lang.String) {
-      return (java.lang.String) ref;
-    } else {
-      com.google.protobuf.ByteString bs = 
-          (com.google.protobuf.ByteString) ref;
-      java.lang.String s = bs.toStringUtf8();
-      from_ = s;
-      return s;
-    }
-  }
-  /**
-   * <code>string from = 21;</code>
-   * @return The bytes for from.
-   */
-  @java.lang.Override
-  public com.google.protobuf.ByteString
-      getFromBytes() {
-    java.lang.Object ref = from_;
-    if (ref instanceof java.lang.String) {
-      com.google.protobuf.ByteString b = 
-          com.google.protobuf.ByteString.copyFromUtf8(
-              (java.lang.String) ref);
-      from_ = b;
-      return b;
-    } else {
-      return (com.google.protobuf.ByteString) ref;
-    }
-  }
-
-  public static final int GATE_FIELD_NUMBER = 22;
-  private volatile java.lang.Object gate_;
-  /**
-   * <code>string gate = 22;</code>
-   * @return The gate.
-   */
-  @java.lang.Override
-  public java.lang.String getGate() {
-    java.lang.Object ref = gate_;
-    if (ref instanceof java.lang.String) {
-      return (java.lang.String) ref;
-    } else {
-      com.google.protobuf.ByteString bs = 
-          (com.google.protobuf.ByteString) ref;
-      java.lang.String s = bs.toStringUtf8();
-      gate_ = s;
-      return s;
-    }
-  }
-  /**
-   * <code>string gate = 22;</code>
-   * @return The bytes for gate.
-   */
-  @java.lang.Override
-  public com.google.protobuf.ByteString
-      getGateBytes() {
-    java.lang.Object ref = gate_;
-    if (ref instanceof java.lang.String) {
-      com.google.protobuf.ByteString b = 
-          com.google.protobuf.ByteString.copyFromUtf8(
-              (java.lang.String) ref);
-      gate_ = b;
-      return b;
-    } else {
-      return (com.google.protobuf.ByteString) ref;
-    }
-  }
-
-  public static final int INFANTPOLICY_FIELD_NUMBER = 23;
-  private volatile java.lang.Object infantPolicy_;
-  /**
-   * <code>string infantPolicy = 23;</code>
-   * @return The infantPolicy.
-   */
-  @java.lang.Override
-  public java.lang.String getInfantPolicy() {
-    java.lang.Object ref = infantPolicy_;
-    if (ref instanceof java.lang.String) {
-      return (java.lang.String) ref;
-    } else {
-      com.google.protobuf.ByteString bs = 
-          (com.google.protobuf.ByteString) ref;
-      java.lang.String s = bs.toStringUtf8();
-      infantPolicy_ = s;
-      return s;
-    }
-  }
-  /**
-   * <code>string infantPolicy = 23;</code>
-   * @return The bytes for infantPolicy.
-   */
-  @java.lang.Override
-  public com.google.protobuf.ByteString
-      getInfantPolicyBytes() {
-    java.lang.Object ref = infantPolicy_;
-    if (ref instanceof java.lang.String) {
-      com.google.protobuf.ByteString b = 
-          com.google.protobuf.ByteString.copyFromUtf8(
-              (java.lang.String) ref);
-      infantPolicy_ = b;
-      return b;
-    } else {
-      return (com.google.protobuf.ByteString) ref;
-    }
-  }
-
-  public static final int LASTUPDATED_FIELD_NUMBER = 24;
-  private volatile java.lang.Object lastUpdated_;
-  /**
-   * <code>string lastUpdated = 24;</code>
-   * @return The lastUpdated.
-   */
-  @java.lang.Override
-  public java.lang.String getLastUpdated() {
-    java.lang.Object ref = lastUpdated_;
-    if (ref instanceof java.lang.String) {
-      return (java.lang.String) ref;
-    } else {
-      com.google.protobuf.ByteString bs = 
-          (com.google.protobuf.ByteString) ref;
-      java.lang.String s = bs.toStringUtf8();
-      lastUpdated_ = s;
-      return s;
-    }
-  }
-  /**
-   * <code>string lastUpdated = 24;</code>
-   * @return The bytes for lastUpdated.
-   */
-  @java.lang.Override
-  public com.google.protobuf.ByteString
-      getLastUpdatedBytes() {
-    java.lang.Object ref = lastUpdated_;
-    if (ref instanceof java.lang.String) {
-      com.google.protobuf.ByteString b = 
-          com.google.protobuf.ByteString.copyFromUtf8(
-              (java.lang.String) ref);
-      lastUpdated_ = b;
-      return b;
-    } else {
-      return (com.google.protobuf.ByteString) ref;
-    }
-  }
-
-  public static final int LAYOVERS_FIELD_NUMBER = 25;
-  private com.google.protobuf.LazyStringList layovers_;
-  /**
-   * <code>repeated string layovers = 25;</code>
-   * @return A list containing the layovers.
-   */
-  public com.google.protobuf.ProtocolStringList
-      getLayoversList() {
-    return layovers_;
-  }
-  /**
-   * <code>repeated string layovers = 25;</code>
-   * @return The count of layovers.
-   */
-  public int getLayoversCount() {
-    return layovers_.size();
-  }
-  /**
-   * <code>repeated string layovers = 25;</code>
-   * @param index The index of the element to return.
-   * @return The layovers at the given index.
-   */
-  public java.lang.String getLayovers(int index) {
-    return layovers_.get(index);
-  }
-  /**
-   * <code>repeated string layovers = 25;</code>
-   * @param index The index of the value to return.
-   * @return The bytes of the layovers at the given index.
-   */
-  public com.google.protobuf.ByteString
-      getLayoversBytes(int index) {
-    return layovers_.getByteString(index);
-  }
-
-  public static final int LOUNGEACCESS_FIELD_NUMBER = 26;
-  private volatile java.lang.Object loungeAccess_;
-  /**
-   * <code>string loungeAccess = 26;</code>
-   * @return The loungeAccess.
-   */
-  @java.lang.Override
-  public java.lang.String getLoungeAccess() {
-    java.lang.Object ref = loungeAccess_;
-    if (ref instanceof java.lang.String) {
-      return (java.lang.String) ref;
-    } else {
-      com.google.protobuf.ByteString bs = 
-          (com.google.protobuf.ByteString) ref;
-      java.lang.String s = bs.toStringUtf8();
-      loungeAccess_ = s;
-      return s;
-    }
-  }
-  /**
-   * <code>string loungeAccess = 26;</code>
-   * @return The bytes for loungeAccess.
-   */
-  @java.lang.Override
-  public com.google.protobuf.ByteString
-      getLoungeAccessBytes() {
-    java.lang.Object ref = loungeAccess_;
-    if (ref instanceof java.lang.String) {
-      com.google.protobuf.ByteString b = 
-          com.google.protobuf.ByteString.copyFromUtf8(
-              (java.lang.String) ref);
-      loungeAccess_ = b;
-      return b;
-    } else {
-      return (com.google.protobuf.ByteString) ref;
-    }
-  }
-
-  public static final int MEAL_FIELD_NUMBER = 27;
-  private volatile java.lang.Object meal_;
-  /**
-   * <code>string meal = 27;</code>
-   * @return The meal.
-   */
-  @java.lang.Override
-  public java.lang.String getMeal() {
-    java.lang.Object ref = meal_;
-    if (ref instanceof java.lang.String) {
-      return (java.lang.String) ref;
-    } else {
-      com.google.protobuf.ByteString bs = 
-          (com.google.protobuf.ByteString) ref;
-      java.lang.String s = bs.toStringUtf8();
-      meal_ = s;
-      return s;
-    }
-  }
-  /**
-   * <code>string meal = 27;</code>
-   * @return The bytes for meal.
-   */
-  @java.lang.Override
-  public com.google.protobuf.ByteString
-      getMealBytes() {
-    java.lang.Object ref = meal_;
-    if (ref instanceof java.lang.String) {
-      com.google.protobuf.ByteString b = 
-          com.google.protobuf.ByteString.copyFromUtf8(
-              (java.lang.String) ref);
-      meal_ = b;
-      return b;
-    } else {
-      return (com.google.protobuf.ByteString) ref;
-    }
-  }
-
-  public static final int ONTIMEPERFORMANCE_FIELD_NUMBER = 28;
-  private volatile java.lang.Object onTimePerformance_;
-  /**
-   * <code>string onTimePerformance = 28;</code>
-   * @return The onTimePerformance.
-   */
-  @java.lang.Override
-  public java.lang.String getOnTimePerformance() {
-    java.lang.Object ref = onTimePerformance_;
-    if (ref instanceof java.lang.String) {
-      return (java.lang.String) ref;
-    } else {
-      com.google.protobuf.ByteString bs = 
-          (com.google.protobuf.ByteString) ref;
-      java.lang.String s = bs.toStringUtf8();
-      onTimePerformance_ = s;
-      return s;
-    }
-  }
-  /**
-   * <code>string onTimePerformance = 28;</code>
-   * @return The bytes for onTimePerformance.
-   */
-  @java.lang.Override
-  public com.google.protobuf.ByteString
-      getOnTimePerformanceBytes() {
-    java.lang.Object ref = onTimePerformance_;
-    if (ref instanceof java.lang.String) {
-      com.google.protobuf.ByteString b = 
-          com.google.protobuf.ByteString.copyFromUtf8(
-              (java.lang.String) ref);
-      onTimePerformance_ = b;
-      return b;
-    } else {
-      return (com.google.protobuf.ByteString) ref;
-    }
-  }
-
-  public static final int PETPOLICY_FIELD_NUMBER = 29;
-  private volatile java.lang.Object petPolicy_;
-  /**
-   * <code>string petPolicy = 29;</code>
-   * @return The petPolicy.
-   */
-  @java.lang.Override
-  public java.lang.String getPetPolicy() {
-    java.lang.Object ref = petPolicy_;
-    if (ref instanceof java.lang.String) {
-      return (java.lang.String) ref;
-    } else {
-      com.google.protobuf.ByteString bs = 
-          (com.google.protobuf.ByteString) ref;
-      java.lang.String s = bs.toStringUtf8();
-      petPolicy_ = s;
-      return s;
-    }
-  }
-  /**
-   * <code>string petPolicy = 29;</code>
-   * @return The bytes for petPolicy.
-   */
-  @java.lang.Override
-  public com.google.protobuf.ByteString
-      getPetPolicyBytes() {
-    java.lang.Object ref = petPolicy_;
-    if (ref instanceof java.lang.String) {
-      com.google.protobuf.ByteString b = 
-          com.google.protobuf.ByteString.copyFromUtf8(
-              (java.lang.String) ref);
-      petPolicy_ = b;
-      return b;
-    } else {
-      return (com.google.protobuf.ByteString) ref;
-    }
-  }
-
-  public static final int POWEROUTLET_FIELD_NUMBER = 30;
-  private volatile java.lang.Object powerOutlet_;
-  /**
-   * <code>string powerOutlet = 30;</code>
-   * @return The powerOutlet.
-   */
-  @java.lang.Override
-  public java.lang.String getPowerOutlet() {
-    java.lang.Object ref = powerOutlet_;
-    if (ref instanceof java.lang.String) {
-      return (java.lang.String) ref;
-    } else {
-      com.google.protobuf.ByteString bs = 
-          (com.google.protobuf.ByteString) ref;
-      java.lang.String s = bs.toStringUtf8();
-      powerOutlet_ = s;
-      return s;
-    }
-  }
-  /**
-   * <code>string powerOutlet = 30;</code>
-   * @return The bytes for powerOutlet.
-   */
-  @java.lang.Override
-  public com.google.protobuf.ByteString
-      getPowerOutletBytes() {
-    java.lang.Object ref = powerOutlet_;
-    if (ref instanceof java.lang.String) {
-      com.google.protobuf.ByteString b = 
-          com.google.protobuf.ByteString.copyFromUtf8(
-              (java.lang.String) ref);
-      powerOutlet_ = b;
-      return b;
-    } else {
-      return (com.google.protobuf.ByteString) ref;
-    }
-  }
-
-  public static final int PRICE_FIELD_NUMBER = 31;
-  private int price_;
-  /**
-   * <code>int32 price = 31;</code>
-   * @return The price.
-   */
-  @java.lang.Override
-  public int getPrice() {
-    return price_;
-  }
-
-  public static final int PRIORITYBOARDING_FIELD_NUMBER = 32;
-  private volatile java.lang.Object priorityBoarding_;
-  /**
-   * <code>string priorityBoarding = 32;</code>
-   * @return The priorityBoarding.
-   */
-  @java.lang.Override
-  public java.lang.String getPriorityBoarding() {
-    java.lang.Object ref = priorityBoarding_;
-    if (ref instanceof java.lang.String) {
-      return (java.lang.String) ref;
-    } else {
-      com.google.protobuf.ByteString bs = 
-          (com.google.protobuf.ByteString) ref;
-      java.lang.String s = bs.toStringUtf8();
-      priorityBoarding_ = s;
-      return s;
-    }
-  }
-  /**
-   * <code>string priorityBoarding = 32;</code>
-   * @return The bytes for priorityBoarding.
-   */
-  @java.lang.Override
-  public com.google.protobuf.ByteString
-      getPriorityBoardingBytes() {
-    java.lang.Object ref = priorityBoarding_;
-    if (ref instanceof java.lang.String) {
-      com.google.protobuf.ByteString b = 
-          com.google.protobuf.ByteString.copyFromUtf8(
-              (java.lang.String) ref);
-      priorityBoarding_ = b;
-      return b;
-    } else {
-      return (com.google.protobuf.ByteString) ref;
-    }
-  }
-
-  public static final int RATING_FIELD_NUMBER = 33;
-  private double rating_;
-  /**
-   * <code>double rating = 33;</code>
-   * @return The rating.
-   */
-  @java.lang.Override
-  public double getRating() {
-    return rating_;
-  }
-
-  public static final int RECLININGANGLE_FIELD_NUMBER = 34;
-  private volatile java.lang.Object recliningAngle_;
-  /**
-   * <code>string recliningAngle = 34;</code>
-   * @return The recliningAngle.
-   */
-  @java.lang.Override
-  public java.lang.String getRecliningAngle() {
-    java.lang.Object ref = recliningAngle_;
-    if (ref instanceof java.lang.String) {
-      return (java.lang.String) ref;
-    } else {
-      com.google.protobuf.ByteString bs = 
-          (com.google.protobuf.ByteString) ref;
-      java.lang.String s = bs.toStringUtf8();
-      recliningAngle_ = s;
-      return s;
-    }
-  }
-  /**
-   * <code>string recliningAngle = 34;</code>
-   * @return The bytes for recliningAngle.
-   */
-  @java.lang.Override
-  public com.google.protobuf.ByteString
-      getRecliningAngleBytes() {
-    java.lang.Object ref = recliningAngle_;
-    if (ref instanceof java.lang.String) {
-      com.google.protobuf.ByteString b = 
-          com.google.protobuf.ByteString.copyFromUtf8(
-              (java.lang.String) ref);
-      recliningAngle_ = b;
-      return b;
-    } else {
-      return (com.google.protobuf.ByteString) ref;
-    }
-  }
-
-  public static final int REVIEWSCOUNT_FIELD_NUMBER = 35;
-  private int reviewsCount_;
-  /**
-   * <code>int32 reviewsCount = 35;</code>
-   * @return The reviewsCount.
-   */
-  @java.lang.Override
-  public int getReviewsCount() {
-    return reviewsCount_;
-  }
-
-  public static final int SEATPITCH_FIELD_NUMBER = 36;
-  private volatile java.lang.Object seatPitch_;
-  /**
-   * <code>string seatPitch = 36;</code>
-   * @return The seatPitch.
-   */
-  @java.lang.Override
-  public java.lang.String getSeatPitch() {
-    java.lang.Object ref = seatPitch_;
-    if (ref instanceof java.lang.String) {
-      return (java.lang.String) ref;
-    } else {
-      com.google.protobuf.ByteString bs = 
-          (com.google.protobuf.ByteString) ref;
-      java.lang.String s = bs.toStringUtf8();
-      seatPitch_ = s;
-      return s;
-    }
-  }
-  /**
-   * <code>string seatPitch = 36;</code>
-   * @return The bytes for seatPitch.
-   */
-  @java.lang.Override
-  public com.google.protobuf.ByteString
-      getSeatPitchBytes() {
-    java.lang.Object ref = seatPitch_;
-    if (ref instanceof java.lang.String) {
-      com.google.protobuf.ByteString b = 
-          com.google.protobuf.ByteString.copyFromUtf8(
-              (java.lang.String) ref);
-      seatPitch_ = b;
-      return b;
-    } else {
-      return (com.google.protobuf.ByteString) ref;
-    }
-  }
-
-  public static final int SEATTYPE_FIELD_NUMBER = 37;
-  private volatile java.lang.Object seatType_;
-  /**
-   * <code>string seatType = 37;</code>
-   * @return The seatType.
-   */
-  @java.lang.Override
-  public java.lang.String getSeatType() {
-    java.lang.Object ref = seatType_;
-    if (ref instanceof java.lang.String) {
-      return (java.lang.String) ref;
-    } else {
-      com.google.protobuf.ByteString bs = 
-          (com.google.protobuf.ByteString) ref;
-      java.lang.String s = bs.toStringUtf8();
-      seatType_ = s;
-      return s;
-    }
-  }
-  /**
-   * <code>string seatType = 37;</code>
-   * @return The bytes for seatType.
-   */
-  @java.lang.Override
-  public com.google.protobuf.ByteString
-      getSeatTypeBytes() {
-    java.lang.Object ref = seatType_;
-    if (ref instanceof java.lang.String) {
-      com.google.protobuf.ByteString b = 
-          com.google.protobuf.ByteString.copyFromUtf8(
-              (java.lang.String) ref);
-      seatType_ = b;
-      return b;
-    } else {
-      return (com.google.protobuf.ByteString) ref;
-    }
-  }
-
-  public static final int SEATWIDTH_FIELD_NUMBER = 38;
-  private volatile java.lang.Object seatWidth_;
-  /**
-   * <code>string seatWidth = 38;</code>
-   * @return The seatWidth.
-   */
-  @java.lang.Override
-  public java.lang.String getSeatWidth() {
-    java.lang.Object ref = seatWidth_;
-    if (ref instanceof java.lang.String) {
-      return (java.lang.String) ref;
-    } else {
-      com.google.protobuf.ByteString bs = 
-          (com.google.protobuf.ByteString) ref;
-      java.lang.String s = bs.toStringUtf8();
-      seatWidth_ = s;
-      return s;
-    }
-  }
-  /**
-   * <code>string seatWidth = 38;</code>
-   * @return The bytes for seatWidth.
-   */
-  @java.lang.Override
-  public com.google.protobuf.ByteString
-      getSeatWidthBytes() {
-    java.lang.Object ref = seatWidth_;
-    if (ref instanceof java.lang.String) {
-      com.google.protobuf.ByteString b = 
-          com.google.protobuf.ByteString.copyFromUtf8(
-              (java.lang.String) ref);
-      seatWidth_ = b;
-      return b;
-    } else {
-      return (com.google.protobuf.ByteString) ref;
-    }
-  }
-
-  public static final int TERMINAL_FIELD_NUMBER = 39;
-  private volatile java.lang.Object terminal_;
-  /**
-   * <code>string terminal = 39;</code>
-   * @return The terminal.
-   */
-  @java.lang.Override
-  public java.lang.String getTerminal() {
-    java.lang.Object ref = terminal_;
-    if (ref instanceof java.lang.String) {
-      return (java.lang.String) ref;
-    } else {
-      com.google.protobuf.ByteString bs = 
-          (com.google.protobuf.ByteString) ref;
-      java.lang.String s = bs.toStringUtf8();
-      terminal_ = s;
-      return s;
-    }
-  }
-  /**
-   * <code>string terminal = 39;</code>
-   * @return The bytes for terminal.
-   */
-  @java.lang.Override
-  public com.google.protobuf.ByteString
-      getTerminalBytes() {
-    java.lang.Object ref = terminal_;
-    if (ref instanceof java.lang.String) {
-      com.google.protobuf.ByteString b = 
-          com.google.protobuf.ByteString.copyFromUtf8(
-              (java.lang.String) ref);
-      terminal_ = b;
-      return b;
-    } else {
-      return (com.google.protobuf.ByteString) ref;
-    }
-  }
-
-  public static final int TO_FIELD_NUMBER = 40;
-  private volatile java.lang.Object to_;
-  /**
-   * <code>string to = 40;</code>
-   * @return The to.
-   */
-  @java.lang.Override
-  public java.lang.String getTo() {
-    java.lang.Object ref = to_;
-    if (ref instanceof java.lang.String) {
-      return (java.lang.String) ref;
-    } else {
-      com.google.protobuf.ByteString bs = 
-          (com.google.protobuf.ByteString) ref;
-      java.lang.String s = bs.toStringUtf8();
-      to_ = s;
-      return s;
-    }
-  }
-  /**
-   * <code>string to = 40;</code>
-   * @return The bytes for to.
-   */
-  @java.lang.Override
-  public com.google.protobuf.ByteString
-      getToBytes() {
-    java.lang.Object ref = to_;
-    if (ref instanceof java.lang.String) {
-      com.google.protobuf.ByteString b = 
-          com.google.protobuf.ByteString.copyFromUtf8(
-              (java.lang.String) ref);
-      to_ = b;
-      return b;
-    } else {
-      return (com.google.protobuf.ByteString) ref;
-    }
-  }
-
-  public static final int TOTALSTOPS_FIELD_NUMBER = 41;
-  private int totalStops_;
-  /**
-   * <code>int32 totalStops = 41;</code>
-   * @return The totalStops.
-   */
-  @java.lang.Override
-  public int getTotalStops() {
-    return totalStops_;
-  }
-
-  public static final int USBPORT_FIELD_NUMBER = 42;
-  private volatile java.lang.Object usbPort_;
-  /**
-   * <code>string usbPort = 42;</code>
-   * @return The usbPort.
-   */
-  @java.lang.Override
-  public java.lang.String getUsbPort() {
-    java.lang.Object ref = usbPort_;
-    if (ref instanceof java.lang.String) {
-      return (java.lang.String) ref;
-    } else {
-      com.google.protobuf.ByteString bs = 
-          (com.google.protobuf.ByteString) ref;
-      java.lang.String s = bs.toStringUtf8();
-      usbPort_ = s;
-      return s;
-    }
-  }
-  /**
-   * <code>string usbPort = 42;</code>
-   * @return The bytes for usbPort.
-   */
-  @java.lang.Override
-  public com.google.protobuf.ByteString
-      getUsbPortBytes() {
-    java.lang.Object ref = usbPort_;
-    if (ref instanceof java.lang.String) {
-      com.google.protobuf.ByteString b = 
-          com.google.protobuf.ByteString.copyFromUtf8(
-              (java.lang.String) ref);
-      usbPort_ = b;
-      return b;
-    } else {
-      return (com.google.protobuf.ByteString) ref;
-    }
-  }
-
-  public static final int VENDOR_LOGO_FIELD_NUMBER = 43;
-  private volatile java.lang.Object vendorLogo_;
-  /**
-   * <code>string vendor_logo = 43;</code>
-   * @return The vendorLogo.
-   */
-  @java.lang.Override
-  public java.lang.String getVendorLogo() {
-    java.lang.Object ref = vendorLogo_;
-    if (ref instanceof java.lang.String) {
-      return (java.lang.String) ref;
-    } else {
-      com.google.protobuf.ByteString bs = 
-          (com.google.protobuf.ByteString) ref;
-      java.lang.String s = bs.toStringUtf8();
-      vendorLogo_ = s;
-      return s;
-    }
-  }
-  /**
-   * <code>string vendor_logo = 43;</code>
-   * @return The bytes for vendorLogo.
-   */
-  @java.lang.Override
-  public com.google.protobuf.ByteString
-      getVendorLogoBytes() {
-    java.lang.Object ref = vendorLogo_;
-    if (ref instanceof java.lang.String) {
-      com.google.protobuf.ByteString b = 
-          com.google.protobuf.ByteString.copyFromUtf8(
-              (java.lang.String) ref);
-      vendorLogo_ = b;
-      return b;
-    } else {
-      return (com.google.protobuf.ByteString) ref;
-    }
-  }
-
-  public static final int VENDOR_NAME_FIELD_NUMBER = 44;
-  private volatile java.lang.Object vendorName_;
-  /**
-   * <code>string vendor_name = 44;</code>
-   * @return The vendorName.
-   */
-  @java.lang.Override
-  public java.lang.String getVendorName() {
-    java.lang.Object ref = vendorName_;
-    if (ref instanceof java.lang.String) {
-      return (java.lang.String) ref;
-    } else {
-      com.google.protobuf.ByteString bs = 
-          (com.google.protobuf.ByteString) ref;
-      java.lang.String s = bs.toStringUtf8();
-      vendorName_ = s;
-      return s;
-    }
-  }
-  /**
-   * <code>string vendor_name = 44;</code>
-   * @return The bytes for vendorName.
-   */
-  @java.lang.Override
-  public com.google.protobuf.ByteString
-      getVendorNameBytes() {
-    java.lang.Object ref = vendorName_;
-    if (ref instanceof java.lang.String) {
-      com.google.protobuf.ByteString b = 
-          com.google.protobuf.ByteString.copyFromUtf8(
-              (java.lang.String) ref);
-      vendorName_ = b;
-      return b;
-    } else {
-      return (com.google.protobuf.ByteString) ref;
-    }
-  }
-
-  public static final int WIFI_FIELD_NUMBER = 45;
-  private volatile java.lang.Object wifi_;
-  /**
-   * <code>string wifi = 45;</code>
-   * @return The wifi.
-   */
-  @java.lang.Override
-  public java.lang.String getWifi() {
-    java.lang.Object ref = wifi_;
-    if (ref instanceof java.lang.String) {
-      return (java.lang.String) ref;
-    } else {
-      com.google.protobuf.ByteString bs = 
-          (com.google.protobuf.ByteString) ref;
-      java.lang.String s = bs.toStringUtf8();
-      wifi_ = s;
-      return s;
-    }
-  }
-  /**
-   * <code>string wifi = 45;</code>
-   * @return The bytes for wifi.
-   */
-  @java.lang.Override
-  public com.google.protobuf.ByteString
-      getWifiBytes() {
-    java.lang.Object ref = wifi_;
-    if (ref instanceof java.lang.String) {
-      com.google.protobuf.ByteString b = 
-          com.google.protobuf.ByteString.copyFromUtf8(
-              (java.lang.String) ref);
-      wifi_ = b;
-      return b;
-    } else {
-      return (com.google.protobuf.ByteString) ref;
-    }
-  }
-
-  private byte memoizedIsInitialized = -1;
-  @java.lang.Override
-  public final boolean isInitialized() {
-    byte isInitialized = memoizedIsInitialized;
-    if (isInitialized == 1) return true;
-    if (isInitialized == 0) return false;
-
-    memoizedIsInitialized = 1;
-    return true;
-  }
-
-  @java.lang.Override
-  public void writeTo(com.google.protobuf.CodedOutputStream output)
-                      throws java.io.IOException {
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(aircraftType_)) {
-      com.google.protobuf.GeneratedMessageV3.writeString(output, 1, aircraftType_);
-    }
-    if (airline_ != null) {
-      output.writeMessage(2, getAirline());
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(arrivalTime_)) {
-      com.google.protobuf.GeneratedMessageV3.writeString(output, 3, arrivalTime_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(baggage_)) {
-      com.google.protobuf.GeneratedMessageV3.writeString(output, 4, baggage_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(boardingTime_)) {
-      com.google.protobuf.GeneratedMessageV3.writeString(output, 5, boardingTime_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(cabinClass_)) {
-      com.google.protobuf.GeneratedMessageV3.writeString(output, 6, cabinClass_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(cancellationPolicy_)) {
-      com.google.protobuf.GeneratedMessageV3.writeString(output, 7, cancellationPolicy_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(changePolicy_)) {
-      com.google.protobuf.GeneratedMessageV3.writeString(output, 8, changePolicy_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(checkInCounter_)) {
-      com.google.protobuf.GeneratedMessageV3.writeString(output, 9, checkInCounter_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(covidSafety_)) {
-      com.google.protobuf.GeneratedMessageV3.writeString(output, 10, covidSafety_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(date_)) {
-      com.google.protobuf.GeneratedMessageV3.writeString(output, 11, date_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(departureTime_)) {
-      com.google.protobuf.GeneratedMessageV3.writeString(output, 12, departureTime_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(duration_)) {
-      com.google.protobuf.GeneratedMessageV3.writeString(output, 13, duration_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(ecoFriendly_)) {
-      com.google.protobuf.GeneratedMessageV3.writeString(output, 14, ecoFriendly_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(entertainment_)) {
-      com.google.protobuf.GeneratedMessageV3.writeString(output, 15, entertainment_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(extraLegroom_)) {
-      com.google.protobuf.GeneratedMessageV3.writeString(output, 16, extraLegroom_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(fareClass_)) {
-      com.google.protobuf.GeneratedMessageV3.writeString(output, 17, fareClass_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(flightId_)) {
-      com.google.protobuf.GeneratedMessageV3.writeString(output, 18, flightId_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(flightNumber_)) {
-      com.google.protobuf.GeneratedMessageV3.writeString(output, 19, flightNumber_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(flightType_)) {
-      com.google.protobuf.GeneratedMessageV3.writeString(output, 20, flightType_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(from_)) {
-      com.google.protobuf.GeneratedMessageV3.writeString(output, 21, from_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(gate_)) {
-      com.google.protobuf.GeneratedMessageV3.writeString(output, 22, gate_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(infantPolicy_)) {
-      com.google.protobuf.GeneratedMessageV3.writeString(output, 23, infantPolicy_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(lastUpdated_)) {
-      com.google.protobuf.GeneratedMessageV3.writeString(output, 24, lastUpdated_);
-    }
-    for (int i = 0; i < layovers_.size(); i++) {
-      com.google.protobuf.GeneratedMessageV3.writeString(output, 25, layovers_.getRaw(i));
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(loungeAccess_)) {
-      com.google.protobuf.GeneratedMessageV3.writeString(output, 26, loungeAccess_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(meal_)) {
-      com.google.protobuf.GeneratedMessageV3.writeString(output, 27, meal_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(onTimePerformance_)) {
-      com.google.protobuf.GeneratedMessageV3.writeString(output, 28, onTimePerformance_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(petPolicy_)) {
-      com.google.protobuf.GeneratedMessageV3.writeString(output, 29, petPolicy_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(powerOutlet_)) {
-      com.google.protobuf.GeneratedMessageV3.writeString(output, 30, powerOutlet_);
-    }
-    if (price_ != 0) {
-      output.writeInt32(31, price_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(priorityBoarding_)) {
-      com.google.protobuf.GeneratedMessageV3.writeString(output, 32, priorityBoarding_);
-    }
-    if (java.lang.Double.doubleToRawLongBits(rating_) != 0) {
-      output.writeDouble(33, rating_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(recliningAngle_)) {
-      com.google.protobuf.GeneratedMessageV3.writeString(output, 34, recliningAngle_);
-    }
-    if (reviewsCount_ != 0) {
-      output.writeInt32(35, reviewsCount_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(seatPitch_)) {
-      com.google.protobuf.GeneratedMessageV3.writeString(output, 36, seatPitch_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(seatType_)) {
-      com.google.protobuf.GeneratedMessageV3.writeString(output, 37, seatType_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(seatWidth_)) {
-      com.google.protobuf.GeneratedMessageV3.writeString(output, 38, seatWidth_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(terminal_)) {
-      com.google.protobuf.GeneratedMessageV3.writeString(output, 39, terminal_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(to_)) {
-      com.google.protobuf.GeneratedMessageV3.writeString(output, 40, to_);
-    }
-    if (totalStops_ != 0) {
-      output.writeInt32(41, totalStops_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(usbPort_)) {
-      com.google.protobuf.GeneratedMessageV3.writeString(output, 42, usbPort_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(vendorLogo_)) {
-      com.google.protobuf.GeneratedMessageV3.writeString(output, 43, vendorLogo_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(vendorName_)) {
-      com.google.protobuf.GeneratedMessageV3.writeString(output, 44, vendorName_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(wifi_)) {
-      com.google.protobuf.GeneratedMessageV3.writeString(output, 45, wifi_);
-    }
-    getUnknownFields().writeTo(output);
-  }
-
-  @java.lang.Override
-  public int getSerializedSize() {
-    int size = memoizedSize;
-    if (size != -1) return size;
-
-    size = 0;
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(aircraftType_)) {
-      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, aircraftType_);
-    }
-    if (airline_ != null) {
-      size += com.google.protobuf.CodedOutputStream
-        .computeMessageSize(2, getAirline());
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(arrivalTime_)) {
-      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, arrivalTime_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(baggage_)) {
-      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(4, baggage_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(boardingTime_)) {
-      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(5, boardingTime_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(cabinClass_)) {
-      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(6, cabinClass_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(cancellationPolicy_)) {
-      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(7, cancellationPolicy_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(changePolicy_)) {
-      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(8, changePolicy_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(checkInCounter_)) {
-      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(9, checkInCounter_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(covidSafety_)) {
-      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(10, covidSafety_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(date_)) {
-      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(11, date_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(departureTime_)) {
-      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(12, departureTime_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(duration_)) {
-      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(13, duration_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(ecoFriendly_)) {
-      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(14, ecoFriendly_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(entertainment_)) {
-      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(15, entertainment_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(extraLegroom_)) {
-      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(16, extraLegroom_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(fareClass_)) {
-      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(17, fareClass_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(flightId_)) {
-      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(18, flightId_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(flightNumber_)) {
-      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(19, flightNumber_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(flightType_)) {
-      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(20, flightType_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(from_)) {
-      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(21, from_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(gate_)) {
-      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(22, gate_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(infantPolicy_)) {
-      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(23, infantPolicy_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(lastUpdated_)) {
-      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(24, lastUpdated_);
-    }
-    {
-      int dataSize = 0;
-      for (int i = 0; i < layovers_.size(); i++) {
-        dataSize += computeStringSizeNoTag(layovers_.getRaw(i));
-      }
-      size += dataSize;
-      size += 2 * getLayoversList().size();
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(loungeAccess_)) {
-      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(26, loungeAccess_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(meal_)) {
-      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(27, meal_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(onTimePerformance_)) {
-      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(28, onTimePerformance_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(petPolicy_)) {
-      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(29, petPolicy_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(powerOutlet_)) {
-      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(30, powerOutlet_);
-    }
-    if (price_ != 0) {
-      size += com.google.protobuf.CodedOutputStream
-        .computeInt32Size(31, price_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(priorityBoarding_)) {
-      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(32, priorityBoarding_);
-    }
-    if (java.lang.Double.doubleToRawLongBits(rating_) != 0) {
-      size += com.google.protobuf.CodedOutputStream
-        .computeDoubleSize(33, rating_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(recliningAngle_)) {
-      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(34, recliningAngle_);
-    }
-    if (reviewsCount_ != 0) {
-      size += com.google.protobuf.CodedOutputStream
-        .computeInt32Size(35, reviewsCount_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(seatPitch_)) {
-      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(36, seatPitch_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(seatType_)) {
-      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(37, seatType_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(seatWidth_)) {
-      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(38, seatWidth_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(terminal_)) {
-      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(39, terminal_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(to_)) {
-      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(40, to_);
-    }
-    if (totalStops_ != 0) {
-      size += com.google.protobuf.CodedOutputStream
-        .computeInt32Size(41, totalStops_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(usbPort_)) {
-      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(42, usbPort_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(vendorLogo_)) {
-      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(43, vendorLogo_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(vendorName_)) {
-      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(44, vendorName_);
-    }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(wifi_)) {
-      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(45, wifi_);
-    }
-    size += getUnknownFields().getSerializedSize();
-    memoizedSize = size;
-    return size;
-  }
-
-  @java.lang.Override
-  public boolean equals(final java.lang.Object obj) {
-    if (obj == this) {
-     return true;
-    }
-    if (!(obj instanceof com.example.springgrpcvirtualthreads.grpc.Flight)) {
-      return super.equals(obj);
-    }
-    com.example.springgrpcvirtualthreads.grpc.Flight other = (com.example.springgrpcvirtualthreads.grpc.Flight) obj;
-
-    if (!getAircraftType()
-        .equals(other.getAircraftType())) return false;
-    if (hasAirline() != other.hasAirline()) return false;
-    if (hasAirline()) {
-      if (!getAirline()
-          .equals(other.getAirline())) return false;
-    }
-    if (!getArrivalTime()
-        .equals(other.getArrivalTime())) return false;
-    if (!getBaggage()
-        .equals(other.getBaggage())) return false;
-    if (!getBoardingTime()
-        .equals(other.getBoardingTime())) return false;
-    if (!getCabinClass()
-        .equals(other.getCabinClass())) return false;
-    if (!getCancellationPolicy()
-        .equals(other.getCancellationPolicy())) return false;
-    if (!getChangePolicy()
-        .equals(other.getChangePolicy())) return false;
-    if (!getCheckInCounter()
-        .equals(other.getCheckInCounter())) return false;
-    if (!getCovidSafety()
-        .equals(other.getCovidSafety())) return false;
-    if (!getDate()
-        .equals(other.getDate())) return false;
-    if (!getDepartureTime()
-        .equals(other.getDepartureTime())) return false;
-    if (!getDuration()
-        .equals(other.getDuration())) return false;
-    if (!getEcoFriendly()
-        .equals(other.getEcoFriendly())) return false;
-    if (!getEntertainment()
-        .equals(other.getEntertainment())) return false;
-    if (!getExtraLegroom()
-        .equals(other.getExtraLegroom())) return false;
-    if (!getFareClass()
-        .equals(other.getFareClass())) return false;
-    if (!getFlightId()
-        .equals(other.getFlightId())) return false;
-    if (!getFlightNumber()
-        .equals(other.getFlightNumber())) return false;
-    if (!getFlightType()
-        .equals(other.getFlightType())) return false;
-    if (!getFrom()
-        .equals(other.getFrom())) return false;
-    if (!getGate()
-        .equals(other.getGate())) return false;
-    if (!getInfantPolicy()
-        .equals(other.getInfantPolicy())) return false;
-    if (!getLastUpdated()
-        .equals(other.getLastUpdated())) return false;
-    if (!getLayoversList()
-        .equals(other.getLayoversList())) return false;
-    if (!getLoungeAccess()
-        .equals(other.getLoungeAccess())) return false;
-    if (!getMeal()
-        .equals(other.getMeal())) return false;
-    if (!getOnTimePerformance()
-        .equals(other.getOnTimePerformance())) return false;
-    if (!getPetPolicy()
-        .equals(other.getPetPolicy())) return false;
-    if (!getPowerOutlet()
-        .equals(other.getPowerOutlet())) return false;
-    if (getPrice()
-        != other.getPrice()) return false;
-    if (!getPriorityBoarding()
-        .equals(other.getPriorityBoarding())) return false;
-    if (java.lang.Double.doubleToLongBits(getRating())
-        != java.lang.Double.doubleToLongBits(
-            other.getRating())) return false;
-    if (!getRecliningAngle()
-        .equals(other.getRecliningAngle())) return false;
-    if (getReviewsCount()
-        != other.getReviewsCount()) return false;
-    if (!getSeatPitch()
-        .equals(other.getSeatPitch())) return false;
-    if (!getSeatType()
-        .equals(other.getSeatType())) return false;
-    if (!getSeatWidth()
-        .equals(other.getSeatWidth())) return false;
-    if (!getTerminal()
-        .equals(other.getTerminal())) return false;
-    if (!getTo()
-        .equals(other.getTo())) return false;
-    if (getTotalStops()
-        != other.getTotalStops()) return false;
-    if (!getUsbPort()
-        .equals(other.getUsbPort())) return false;
-    if (!getVendorLogo()
-        .equals(other.getVendorLogo())) return false;
-    if (!getVendorName()
-        .equals(other.getVendorName())) return false;
-    if (!getWifi()
-        .equals(other.getWifi())) return false;
-    if (!getUnknownFields().equals(other.getUnknownFields())) return false;
-    return true;
-  }
-
-  @java.lang.Override
-  public int hashCode() {
-    if (memoizedHashCode != 0) {
-      return memoizedHashCode;
-    }
-    int hash = 41;
-    hash = (19 * hash) + getDescriptor().hashCode();
-    hash = (37 * hash) + AIRCRAFTTYPE_FIELD_NUMBER;
-    hash = (53 * hash) + getAircraftType().hashCode();
-    if (hasAirline()) {
-      hash = (37 * hash) + AIRLINE_FIELD_NUMBER;
-      hash = (53 * hash) + getAirline().hashCode();
-    }
-    hash = (37 * hash) + ARRIVALTIME_FIELD_NUMBER;
-    hash = (53 * hash) + getArrivalTime().hashCode();
-    hash = (37 * hash) + BAGGAGE_FIELD_NUMBER;
-    hash = (53 * hash) + getBaggage().hashCode();
-    hash = (37 * hash) + BOARDINGTIME_FIELD_NUMBER;
-    hash = (53 * hash) + getBoardingTime().hashCode();
-    hash = (37 * hash) + CABINCLASS_FIELD_NUMBER;
-    hash = (53 * hash) + getCabinClass().hashCode();
-    hash = (37 * hash) + CANCELLATIONPOLICY_FIELD_NUMBER;
-    hash = (53 * hash) + getCancellationPolicy().hashCode();
-    hash = (37 * hash) + CHANGEPOLICY_FIELD_NUMBER;
-    hash = (53 * hash) + getChangePolicy().hashCode();
-    hash = (37 * hash) + CHECKINCOUNTER_FIELD_NUMBER;
-    hash = (53 * hash) + getCheckInCounter().hashCode();
-    hash = (37 * hash) + COVIDSAFETY_FIELD_NUMBER;
-    hash = (53 * hash) + getCovidSafety().hashCode();
-    hash = (37 * hash) + DATE_FIELD_NUMBER;
-    hash = (53 * hash) + getDate().hashCode();
-    hash = (37 * hash) + DEPARTURETIME_FIELD_NUMBER;
-    hash = (53 * hash) + getDepartureTime().hashCode();
-    hash = (37 * hash) + DURATION_FIELD_NUMBER;
-    hash = (53 * hash) + getDuration().hashCode();
-    hash = (37 * hash) + ECOFRIENDLY_FIELD_NUMBER;
-    hash = (53 * hash) + getEcoFriendly().hashCode();
-    hash = (37 * hash) + ENTERTAINMENT_FIELD_NUMBER;
-    hash = (53 * hash) + getEntertainment().hashCode();
-    hash = (37 * hash) + EXTRALEGROOM_FIELD_NUMBER;
-    hash = (53 * hash) + getExtraLegroom().hashCode();
-    hash = (37 * hash) + FARECLASS_FIELD_NUMBER;
-    hash = (53 * hash) + getFareClass().hashCode();
-    hash = (37 * hash) + FLIGHTID_FIELD_NUMBER;
-    hash = (53 * hash) + getFlightId().hashCode();
-    hash = (37 * hash) + FLIGHTNUMBER_FIELD_NUMBER;
-    hash = (53 * hash) + getFlightNumber().hashCode();
-    hash = (37 * hash) + FLIGHTTYPE_FIELD_NUMBER;
-    hash = (53 * hash) + getFlightType().hashCode();
-    hash = (37 * hash) + FROM_FIELD_NUMBER;
-    hash = (53 * hash) + getFrom().hashCode();
-    hash = (37 * hash) + GATE_FIELD_NUMBER;
-    hash = (53 * hash) + getGate().hashCode();
-    hash = (37 * hash) + INFANTPOLICY_FIELD_NUMBER;
-    hash = (53 * hash) + getInfantPolicy().hashCode();
-    hash = (37 * hash) + LASTUPDATED_FIELD_NUMBER;
-    hash = (53 * hash) + getLastUpdated().hashCode();
-    if (getLayoversCount() > 0) {
-      hash = (37 * hash) + LAYOVERS_FIELD_NUMBER;
-      hash = (53 * hash) + getLayoversList().hashCode();
-    }
-    hash = (37 * hash) + LOUNGEACCESS_FIELD_NUMBER;
-    hash = (53 * hash) + getLoungeAccess().hashCode();
-    hash = (37 * hash) + MEAL_FIELD_NUMBER;
-    hash = (53 * hash) + getMeal().hashCode();
-    hash = (37 * hash) + ONTIMEPERFORMANCE_FIELD_NUMBER;
-    hash = (53 * hash) + getOnTimePerformance().hashCode();
-    hash = (37 * hash) + PETPOLICY_FIELD_NUMBER;
-    hash = (53 * hash) + getPetPolicy().hashCode();
-    hash = (37 * hash) + POWEROUTLET_FIELD_NUMBER;
-    hash = (53 * hash) + getPowerOutlet().hashCode();
-    hash = (37 * hash) + PRICE_FIELD_NUMBER;
-    hash = (53 * hash) + getPrice();
-    hash = (37 * hash) + PRIORITYBOARDING_FIELD_NUMBER;
-    hash = (53 * hash) + getPriorityBoarding().hashCode();
-    hash = (37 * hash) + RATING_FIELD_NUMBER;
-    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-        java.lang.Double.doubleToLongBits(getRating()));
-    hash = (37 * hash) + RECLININGANGLE_FIELD_NUMBER;
-    hash = (53 * hash) + getRecliningAngle().hashCode();
-    hash = (37 * hash) + REVIEWSCOUNT_FIELD_NUMBER;
-    hash = (53 * hash) + getReviewsCount();
-    hash = (37 * hash) + SEATPITCH_FIELD_NUMBER;
-    hash = (53 * hash) + getSeatPitch().hashCode();
-    hash = (37 * hash) + SEATTYPE_FIELD_NUMBER;
-    hash = (53 * hash) + getSeatType().hashCode();
-    hash = (37 * hash) + SEATWIDTH_FIELD_NUMBER;
-    hash = (53 * hash) + getSeatWidth().hashCode();
-    hash = (37 * hash) + TERMINAL_FIELD_NUMBER;
-    hash = (53 * hash) + getTerminal().hashCode();
-    hash = (37 * hash) + TO_FIELD_NUMBER;
-    hash = (53 * hash) + getTo().hashCode();
-    hash = (37 * hash) + TOTALSTOPS_FIELD_NUMBER;
-    hash = (53 * hash) + getTotalStops();
-    hash = (37 * hash) + USBPORT_FIELD_NUMBER;
-    hash = (53 * hash) + getUsbPort().hashCode();
-    hash = (37 * hash) + VENDOR_LOGO_FIELD_NUMBER;
-    hash = (53 * hash) + getVendorLogo().hashCode();
-    hash = (37 * hash) + VENDOR_NAME_FIELD_NUMBER;
-    hash = (53 * hash) + getVendorName().hashCode();
-    hash = (37 * hash) + WIFI_FIELD_NUMBER;
-    hash = (53 * hash) + getWifi().hashCode();
-    hash = (29 * hash) + getUnknownFields().hashCode();
-    memoizedHashCode = hash;
-    return hash;
-  }
-
-  public static com.example.springgrpcvirtualthreads.grpc.Flight parseFrom(
-      java.nio.ByteBuffer data)
-      throws com.google.protobuf.InvalidProtocolBufferException {
-    return PARSER.parseFrom(data);
-  }
-  public static com.example.springgrpcvirtualthreads.grpc.Flight parseFrom(
-      java.nio.ByteBuffer data,
-      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-      throws com.google.protobuf.InvalidProtocolBufferException {
-    return PARSER.parseFrom(data, extensionRegistry);
-  }
-  public static com.example.springgrpcvirtualthreads.grpc.Flight parseFrom(
-      com.google.protobuf.ByteString data)
-      throws com.google.protobuf.InvalidProtocolBufferException {
-    return PARSER.parseFrom(data);
-  }
-  public static com.example.springgrpcvirtualthreads.grpc.Flight parseFrom(
-      com.google.protobuf.ByteString data,
-      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-      throws com.google.protobuf.InvalidProtocolBufferException {
-    return PARSER.parseFrom(data, extensionRegistry);
-  }
-  public static com.example.springgrpcvirtualthreads.grpc.Flight parseFrom(byte[] data)
-      throws com.google.protobuf.InvalidProtocolBufferException {
-    return PARSER.parseFrom(data);
-  }
-  public static com.example.springgrpcvirtualthreads.grpc.Flight parseFrom(
-      byte[] data,
-      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-      throws com.google.protobuf.InvalidProtocolBufferException {
-    return PARSER.parseFrom(data, extensionRegistry);
-  }
-  public static com.example.springgrpcvirtualthreads.grpc.Flight parseFrom(java.io.InputStream input)
-      throws java.io.IOException {
-    return com.google.protobuf.GeneratedMessageV3
-        .parseWithIOException(PARSER, input);
-  }
-  public static com.example.springgrpcvirtualthreads.grpc.Flight parseFrom(
-      java.io.InputStream input,
-      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-      throws java.io.IOException {
-    return com.google.protobuf.GeneratedMessageV3
-        .parseWithIOException(PARSER, input, extensionRegistry);
-  }
-  public static com.example.springgrpcvirtualthreads.grpc.Flight parseDelimitedFrom(java.io.InputStream input)
-      throws java.io.IOException {
-    return com.google.protobuf.GeneratedMessageV3
-        .parseDelimitedWithIOException(PARSER, input);
-  }
-  public static com.example.springgrpcvirtualthreads.grpc.Flight parseDelimitedFrom(
-      java.io.InputStream input,
-      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-      throws java.io.IOException {
-    return com.google.protobuf.GeneratedMessageV3
-        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
-  }
-  public static com.example.springgrpcvirtualthreads.grpc.Flight parseFrom(
-      com.google.protobuf.CodedInputStream input)
-      throws java.io.IOException {
-    return com.google.protobuf.GeneratedMessageV3
-        .parseWithIOException(PARSER, input);
-  }
-  public static com.example.springgrpcvirtualthreads.grpc.Flight parseFrom(
-      com.google.protobuf.CodedInputStream input,
-      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-      throws java.io.IOException {
-    return com.google.protobuf.GeneratedMessageV3
-        .parseWithIOException(PARSER, input, extensionRegistry);
-  }
-
-  @java.lang.Override
-  public Builder newBuilderForType() { return newBuilder(); }
-  public static Builder newBuilder() {
-    return DEFAULT_INSTANCE.toBuilder();
-  }
-  public static Builder newBuilder(com.example.springgrpcvirtualthreads.grpc.Flight prototype) {
-    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
-  }
-  @java.lang.Override
-  public Builder toBuilder() {
-    return this == DEFAULT_INSTANCE
-        ? new Builder() : new Builder().mergeFrom(this);
-  }
-
-  @java.lang.Override
-  protected Builder newBuilderForType(
-      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
-    Builder builder = new Builder(parent);
-    return builder;
-  }
-  /**
-   * Protobuf type {@code flight.Flight}
-   */
-  public static final class Builder extends
-      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-      // @@protoc_insertion_point(builder_implements:flight.Flight)
-      com.example.springgrpcvirtualthreads.grpc.FlightOrBuilder {
-    public static final com.google.protobuf.Descriptors.Descriptor
-        getDescriptor() {
-      return com.example.springgrpcvirtualthreads.grpc.Flights.internal_static_flight_Flight_descriptor;
-    }
-
-    @java.lang.Override
-    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-        internalGetFieldAccessorTable() {
-      return com.example.springgrpcvirtualthreads.grpc.Flights.internal_static_flight_Flight_fieldAccessorTable
-          .ensureFieldAccessorsInitialized(
-              com.example.springgrpcvirtualthreads.grpc.Flight.class, com.example.springgrpcvirtualthreads.grpc.Flight.Builder.class);
-    }
-
-    // Construct using com.example.springgrpcvirtualthreads.grpc.Flight.newBuilder()
-    private Builder() {
-
-    }
-
-    private Builder(
-        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
-      super(parent);
-
-    }
-    @java.lang.Override
-    public Builder clear() {
-      super.clear();
-      aircraftType_ = "";
-
-      if (airlineBuilder_ == null) {
-        airline_ = null;
-      } else {
-        airline_ = null;
-        airlineBuilder_ = null;
-      }
-      arrivalTime_ = "";
-
-      baggage_ = "";
-
-      boardingTime_ = "";
-
-      cabinClass_ = "";
-
-      cancellationPolicy_ = "";
-
-      changePolicy_ = "";
-
-      checkInCounter_ = "";
-
-      covidSafety_ = "";
-
-      date_ = "";
-
-      departureTime_ = "";
-
-      duration_ = "";
-
-      ecoFriendly_ = "";
-
-      entertainment_ = "";
-
-      extraLegroom_ = "";
-
-      fareClass_ = "";
-
-      flightId_ = "";
-
-      flightNumber_ = "";
-
-      flightType_ = "";
-
-      from_ = "";
-
-      gate_ = "";
-
-      infantPolicy_ = "";
-
-      lastUpdated_ = "";
-
-      layovers_ = com.google.protobuf.LazyStringArrayList.EMPTY;
-      bitField0_ = (bitField0_ & ~0x00000001);
-      loungeAccess_ = "";
-
-      meal_ = "";
-
-      onTimePerformance_ = "";
-
-      petPolicy_ = "";
-
-      powerOutlet_ = "";
-
-      price_ = 0;
-
-      priorityBoarding_ = "";
-
-      rating_ = 0D;
-
-      recliningAngle_ = "";
-
-      reviewsCount_ = 0;
-
-      seatPitch_ = "";
-
-      seatType_ = "";
-
-      seatWidth_ = "";
-
-      terminal_ = "";
-
-      to_ = "";
-
-      totalStops_ = 0;
-
-      usbPort_ = "";
-
-      vendorLogo_ = "";
-
-      vendorName_ = "";
-
-      wifi_ = "";
-
-      return this;
-    }
-
-    @java.lang.Override
-    public com.google.protobuf.Descriptors.Descriptor
-        getDescriptorForType() {
-      return com.example.springgrpcvirtualthreads.grpc.Flights.internal_static_flight_Flight_descriptor;
-    }
-
-    @java.lang.Override
-    public com.example.springgrpcvirtualthreads.grpc.Flight getDefaultInstanceForType() {
-      return com.example.springgrpcvirtualthreads.grpc.Flight.getDefaultInstance();
-    }
-
-    @java.lang.Override
-    public com.example.springgrpcvirtualthreads.grpc.Flight build() {
-      com.example.springgrpcvirtualthreads.grpc.Flight result = buildPartial();
-      if (!result.isInitialized()) {
-        throw newUninitializedMessageException(result);
-      }
-      return result;
-    }
-
-    @java.lang.Override
-    public com.example.springgrpcvirtualthreads.grpc.Flight buildPartial() {
-      com.example.springgrpcvirtualthreads.grpc.Flight result = new com.example.springgrpcvirtualthreads.grpc.Flight(this);
-      int from_bitField0_ = bitField0_;
-      result.aircraftType_ = aircraftType_;
-      if (airlineBuilder_ == null) {
-        result.airline_ = airline_;
-      } else {
-        result.airline_ = airlineBuilder_.build();
-      }
-      result.arrivalTime_ = arrivalTime_;
-      result.baggage_ = baggage_;
-      result.boardingTime_ = boardingTime_;
-      result.cabinClass_ = cabinClass_;
-      result.cancellationPolicy_ = cancellationPolicy_;
-      result.changePolicy_ = changePolicy_;
-      result.checkInCounter_ = checkInCounter_;
-      result.covidSafety_ = covidSafety_;
-      result.date_ = date_;
-      result.departureTime_ = departureTime_;
-      result.duration_ = duration_;
-      result.ecoFriendly_ = ecoFriendly_;
-      result.entertainment_ = entertainment_;
-      result.extraLegroom_ = extraLegroom_;
-      result.fareClass_ = fareClass_;
-      result.flightId_ = flightId_;
-      result.flightNumber_ = flightNumber_;
-      result.flightType_ = flightType_;
-      result.from_ = from_;
-      result.gate_ = gate_;
-      result.infantPolicy_ = infantPolicy_;
-      result.lastUpdated_ = lastUpdated_;
-      if (((bitField0_ & 0x00000001) != 0)) {
-        layovers_ = layovers_.getUnmodifiableView();
-        bitField0_ = (bitField0_ & ~0x00000001);
-      }
-      result.layovers_ = layovers_;
-      result.loungeAccess_ = loungeAccess_;
-      result.meal_ = meal_;
-      result.onTimePerformance_ = onTimePerformance_;
-      result.petPolicy_ = petPolicy_;
-      result.powerOutlet_ = powerOutlet_;
-      result.price_ = price_;
-      result.priorityBoarding_ = priorityBoarding_;
-      result.rating_ = rating_;
-      result.recliningAngle_ = recliningAngle_;
-      result.reviewsCount_ = reviewsCount_;
-      result.seatPitch_ = seatPitch_;
-      result.seatType_ = seatType_;
-      result.seatWidth_ = seatWidth_;
-      result.terminal_ = terminal_;
-      result.to_ = to_;
-      result.totalStops_ = totalStops_;
-      result.usbPort_ = usbPort_;
-      result.vendorLogo_ = vendorLogo_;
-      result.vendorName_ = vendorName_;
-      result.wifi_ = wifi_;
-      onBuilt();
-      return result;
-    }
-
-    @java.lang.Override
-    public Builder clone() {
-      return super.clone();
-    }
-    @java.lang.Override
-    public Builder setField(
-        com.google.protobuf.Descriptors.FieldDescriptor field,
-        java.lang.Object value) {
-      return super.setField(field, value);
-    }
-    @java.lang.Override
-    public Builder clearField(
-        com.google.protobuf.Descriptors.FieldDescriptor field) {
-      return super.clearField(field);
-    }
-    @java.lang.Override
-    public Builder clearOneof(
-        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
-      return super.clearOneof(oneof);
-    }
-    @java.lang.Override
-    public Builder setRepeatedField(
-        com.google.protobuf.Descriptors.FieldDescriptor field,
-        int index, java.lang.Object value) {
-      return super.setRepeatedField(field, index, value);
-    }
-    @java.lang.Override
-    public Builder addRepeatedField(
-        com.google.protobuf.Descriptors.FieldDescriptor field,
-        java.lang.Object value) {
-      return super.addRepeatedField(field, value);
-    }
-    @java.lang.Override
-    public Builder mergeFrom(com.google.protobuf.Message other) {
-      if (other instanceof com.example.springgrpcvirtualthreads.grpc.Flight) {
-        return mergeFrom((com.example.springgrpcvirtualthreads.grpc.Flight)other);
-      } else {
-        super.mergeFrom(other);
-        return this;
-      }
-    }
-
-    public Builder mergeFrom(com.example.springgrpcvirtualthreads.grpc.Flight other) {
-      if (other == com.example.springgrpcvirtualthreads.grpc.Flight.getDefaultInstance()) return this;
-      if (!other.getAircraftType().isEmpty()) {
-        aircraftType_ = other.aircraftType_;
-        onChanged();
-      }
-      if (other.hasAirline()) {
-        mergeAirline(other.getAirline());
-      }
-      if (!other.getArrivalTime().isEmpty()) {
-        arrivalTime_ = other.arrivalTime_;
-        onChanged();
-      }
-      if (!other.getBaggage().isEmpty()) {
-        baggage_ = other.baggage_;
-        onChanged();
-      }
-      if (!other.getBoardingTime().isEmpty()) {
-        boardingTime_ = other.boardingTime_;
-        onChanged();
-      }
-      if (!other.getCabinClass().isEmpty()) {
-        cabinClass_ = other.cabinClass_;
-        onChanged();
-      }
-      if (!other.getCancellationPolicy().isEmpty()) {
-        cancellationPolicy_ = other.cancellationPolicy_;
-        onChanged();
-      }
-      if (!other.getChangePolicy().isEmpty()) {
-        changePolicy_ = other.changePolicy_;
-        onChanged();
-      }
-      if (!other.getCheckInCounter().isEmpty()) {
-        checkInCounter_ = other.checkInCounter_;
-        onChanged();
-      }
-      if (!other.getCovidSafety().isEmpty()) {
-        covidSafety_ = other.covidSafety_;
-        onChanged();
-      }
-      if (!other.getDate().isEmpty()) {
-        date_ = other.date_;
-        onChanged();
-      }
-      if (!other.getDepartureTime().isEmpty()) {
-        departureTime_ = other.departureTime_;
-        onChanged();
-      }
-      if (!other.getDuration().isEmpty()) {
-        duration_ = other.duration_;
-        onChanged();
-      }
-      if (!other.getEcoFriendly().isEmpty()) {
-        ecoFriendly_ = other.ecoFriendly_;
-        onChanged();
-      }
-      if (!other.getEntertainment().isEmpty()) {
-        entertainment_ = other.entertainment_;
-        onChanged();
-      }
-      if (!other.getExtraLegroom().isEmpty()) {
-        extraLegroom_ = other.extraLegroom_;
-        onChanged();
-      }
-      if (!other.getFareClass().isEmpty()) {
-        fareClass_ = other.fareClass_;
-        onChanged();
-      }
-      if (!other.getFlightId().isEmpty()) {
-        flightId_ = other.flightId_;
-        onChanged();
-      }
-      if (!other.getFlightNumber().isEmpty()) {
-        flightNumber_ = other.flightNumber_;
-        onChanged();
-      }
-      if (!other.getFlightType().isEmpty()) {
-        flightType_ = other.flightType_;
-        onChanged();
-      }
-      if (!other.getFrom().isEmpty()) {
-        from_ = other.from_;
-        onChanged();
-      }
-      if (!other.getGate().isEmpty()) {
-        gate_ = other.gate_;
-        onChanged();
-      }
-      if (!other.getInfantPolicy().isEmpty()) {
-        infantPolicy_ = other.infantPolicy_;
-        onChanged();
-      }
-      if (!other.getLastUpdated().isEmpty()) {
-        lastUpdated_ = other.lastUpdated_;
-        onChanged();
-      }
-      if (!other.layovers_.isEmpty()) {
-        if (layovers_.isEmpty()) {
-          layovers_ = other.layovers_;
-          bitField0_ = (bitField0_ & ~0x00000001);
-        } else {
-          ensureLayoversIsMutable();
-          layovers_.addAll(other.layovers_);
-        }
-        onChanged();
-      }
-      if (!other.getLoungeAccess().isEmpty()) {
-        loungeAccess_ = other.loungeAccess_;
-        onChanged();
-      }
-      if (!other.getMeal().isEmpty()) {
-        meal_ = other.meal_;
-        onChanged();
-      }
-      if (!other.getOnTimePerformance().isEmpty()) {
-        onTimePerformance_ = other.onTimePerformance_;
-        onChanged();
-      }
-      if (!other.getPetPolicy().isEmpty()) {
-        petPolicy_ = other.petPolicy_;
-        onChanged();
-      }
-      if (!other.getPowerOutlet().isEmpty()) {
-        powerOutlet_ = other.powerOutlet_;
-        onChanged();
-      }
-      if (other.getPrice() != 0) {
-        setPrice(other.getPrice());
-      }
-      if (!other.getPriorityBoarding().isEmpty()) {
-        priorityBoarding_ = other.priorityBoarding_;
-        onChanged();
-      }
-      if (other.getRating() != 0D) {
-        setRating(other.getRating());
-      }
-      if (!other.getRecliningAngle().isEmpty()) {
-        recliningAngle_ = other.recliningAngle_;
-        onChanged();
-      }
-      if (other.getReviewsCount() != 0) {
-        setReviewsCount(other.getReviewsCount());
-      }
-      if (!other.getSeatPitch().isEmpty()) {
-        seatPitch_ = other.seatPitch_;
-        onChanged();
-      }
-      if (!other.getSeatType().isEmpty()) {
-        seatType_ = other.seatType_;
-        onChanged();
-      }
-      if (!other.getSeatWidth().isEmpty()) {
-        seatWidth_ = other.seatWidth_;
-        onChanged();
-      }
-      if (!other.getTerminal().isEmpty()) {
-        terminal_ = other.terminal_;
-        onChanged();
-      }
-      if (!other.getTo().isEmpty()) {
-        to_ = other.to_;
-        onChanged();
-      }
-      if (other.getTotalStops() != 0) {
-        setTotalStops(other.getTotalStops());
-      }
-      if (!other.getUsbPort().isEmpty()) {
-        usbPort_ = other.usbPort_;
-        onChanged();
-      }
-      if (!other.getVendorLogo().isEmpty()) {
-        vendorLogo_ = other.vendorLogo_;
-        onChanged();
-      }
-      if (!other.getVendorName().isEmpty()) {
-        vendorName_ = other.vendorName_;
-        onChanged();
-      }
-      if (!other.getWifi().isEmpty()) {
-        wifi_ = other.wifi_;
-        onChanged();
-      }
-      this.mergeUnknownFields(other.getUnknownFields());
-      onChanged();
-      return this;
-    }
-
-    @java.lang.Override
-    public final boolean isInitialized() {
-      return true;
-    }
-
-    @java.lang.Override
-    public Builder mergeFrom(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      if (extensionRegistry == null) {
-        throw new java.lang.NullPointerException();
-      }
-      try {
-        boolean done = false;
-        while (!done) {
-          int tag = input.readTag();
-          switch (tag) {
-            case 0:
-              done = true;
-              break;
-            case 10: {
-              aircraftType_ = input.readStringRequireUtf8();
-
-              break;
-            } // case 10
-            case 18: {
-              input.readMessage(
-                  getAirlineFieldBuilder().getBuilder(),
-                  extensionRegistry);
-
-              break;
-            } // case 18
-            case 26: {
-              arrivalTime_ = input.readStringRequireUtf8();
-
-              break;
-            } // case 26
-            case 34: {
-              baggage_ = input.readStringRequireUtf8();
-
-              break;
-            } // case 34
-            case 42: {
-              boardingTime_ = input.readStringRequireUtf8();
-
-              break;
-            } // case 42
-            case 50: {
-              cabinClass_ = input.readStringRequireUtf8();
-
-              break;
-            } // case 50
-            case 58: {
-              cancellationPolicy_ = input.readStringRequireUtf8();
-
-              break;
-            } // case 58
-            case 66: {
-              changePolicy_ = input.readStringRequireUtf8();
-
-              break;
-            } // case 66
-            case 74: {
-              checkInCounter_ = input.readStringRequireUtf8();
-
-              break;
-            } // case 74
-            case 82: {
-              covidSafety_ = input.readStringRequireUtf8();
-
-              break;
-            } // case 82
-            case 90: {
-              date_ = input.readStringRequireUtf8();
-
-              break;
-            } // case 90
-            case 98: {
-              departureTime_ = input.readStringRequireUtf8();
-
-              break;
-            } // case 98
-            case 106: {
-              duration_ = input.readStringRequireUtf8();
-
-              break;
-            } // case 106
-            case 114: {
-              ecoFriendly_ = input.readStringRequireUtf8();
-
-              break;
-            } // case 114
-            case 122: {
-              entertainment_ = input.readStringRequireUtf8();
-
-              break;
-            } // case 122
-            case 130: {
-              extraLegroom_ = input.readStringRequireUtf8();
-
-              break;
-            } // case 130
-            case 138: {
-              fareClass_ = input.readStringRequireUtf8();
-
-              break;
-            } // case 138
-            case 146: {
-              flightId_ = input.readStringRequireUtf8();
-
-              break;
-            } // case 146
-            case 154: {
-              flightNumber_ = input.readStringRequireUtf8();
-
-              break;
-            } // case 154
-            case 162: {
-              flightType_ = input.readStringRequireUtf8();
-
-              break;
-            } // case 162
-            case 170: {
-              from_ = input.readStringRequireUtf8();
-
-              break;
-            } // case 170
-            case 178: {
-              gate_ = input.readStringRequireUtf8();
-
-              break;
-            } // case 178
-            case 186: {
-              infantPolicy_ = input.readStringRequireUtf8();
-
-              break;
-            } // case 186
-            case 194: {
-              lastUpdated_ = input.readStringRequireUtf8();
-
-              break;
-            } // case 194
-            case 202: {
-              java.lang.String s = input.readStringRequireUtf8();
-              ensureLayoversIsMutable();
-              layovers_.add(s);
-              break;
-            } // case 202
-            case 210: {
-              loungeAccess_ = input.readStringRequireUtf8();
-
-              break;
-            } // case 210
-            case 218: {
-              meal_ = input.readStringRequireUtf8();
-
-              break;
-            } // case 218
-            case 226: {
-              onTimePerformance_ = input.readStringRequireUtf8();
-
-              break;
-            } // case 226
-            case 234: {
-              petPolicy_ = input.readStringRequireUtf8();
-
-              break;
-            } // case 234
-            case 242: {
-              powerOutlet_ = input.readStringRequireUtf8();
-
-              break;
-            } // case 242
-            case 248: {
-              price_ = input.readInt32();
-
-              break;
-            } // case 248
-            case 258: {
-              priorityBoarding_ = input.readStringRequireUtf8();
-
-              break;
-            } // case 258
-            case 265: {
-              rating_ = input.readDouble();
-
-              break;
-            } // case 265
-            case 274: {
-              recliningAngle_ = input.readStringRequireUtf8();
-
-              break;
-            } // case 274
-            case 280: {
-              reviewsCount_ = input.readInt32();
-
-              break;
-            } // case 280
-            case 290: {
-              seatPitch_ = input.readStringRequireUtf8();
-
-              break;
-            } // case 290
-            case 298: {
-              seatType_ = input.readStringRequireUtf8();
-
-              break;
-            } // case 298
-            case 306: {
-              seatWidth_ = input.readStringRequireUtf8();
-
-              break;
-            } // case 306
-            case 314: {
-              terminal_ = input.readStringRequireUtf8();
-
-              break;
-            } // case 314
-            case 322: {
-              to_ = input.readStringRequireUtf8();
-
-              break;
-            } // case 322
-            case 328: {
-              totalStops_ = input.readInt32();
-
-              break;
-            } // case 328
-            case 338: {
-              usbPort_ = input.readStringRequireUtf8();
-
-              break;
-            } // case 338
-            case 346: {
-              vendorLogo_ = input.readStringRequireUtf8();
-
-              break;
-            } // case 346
-            case 354: {
-              vendorName_ = input.readStringRequireUtf8();
-
-              break;
-            } // case 354
-            case 362: {
-              wifi_ = input.readStringRequireUtf8();
-
-              break;
-            } // case 362
-            default: {
-              if (!super.parseUnknownField(input, extensionRegistry, tag)) {
-                done = true; // was an endgroup tag
-              }
-              break;
-            } // default:
-          } // switch (tag)
-        } // while (!done)
-      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-        throw e.unwrapIOException();
-      } finally {
-        onChanged();
-      } // finally
-      return this;
-    }
-    private int bitField0_;
-
-    private java.lang.Object aircraftType_ = "";
-    /**
-     * <code>string aircraftType = 1;</code>
-     * @return The aircraftType.
-     */
-    public java.lang.String getAircraftType() {
-      java.lang.Object ref = aircraftType_;
-      if (!(ref instanceof java.lang.String)) {
-        com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        aircraftType_ = s;
-        return s;
-      } else {
-        return (java.lang.String) ref;
-      }
-    }
-    /**
-     * <code>string aircraftType = 1;</code>
-     * @return The bytes for aircraftType.
-     */
-    public com.google.protobuf.ByteString
-        getAircraftTypeBytes() {
-      java.lang.Object ref = aircraftType_;
-      if (ref instanceof String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        aircraftType_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-    /**
-     * <code>string aircraftType = 1;</code>
-     * @param value The aircraftType to set.
-     * @return This builder for chaining.
-     */
-    public Builder setAircraftType(
-        java.lang.String value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  
-      aircraftType_ = value;
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string aircraftType = 1;</code>
-     * @return This builder for chaining.
-     */
-    public Builder clearAircraftType() {
-      
-      aircraftType_ = getDefaultInstance().getAircraftType();
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string aircraftType = 1;</code>
-     * @param value The bytes for aircraftType to set.
-     * @return This builder for chaining.
-     */
-    public Builder setAircraftTypeBytes(
-        com.google.protobuf.ByteString value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-      
-      aircraftType_ = value;
-      onChanged();
-      return this;
-    }
-
-    private com.example.springgrpcvirtualthreads.grpc.Airline airline_;
-    private com.google.protobuf.SingleFieldBuilderV3<
-        com.example.springgrpcvirtualthreads.grpc.Airline, com.example.springgrpcvirtualthreads.grpc.Airline.Builder, com.example.springgrpcvirtualthreads.grpc.AirlineOrBuilder> airlineBuilder_;
-    /**
-     * <code>.flight.Airline airline = 2;</code>
-     * @return Whether the airline field is set.
-     */
-    public boolean hasAirline() {
-      return airlineBuilder_ != null || airline_ != null;
-    }
-    /**
-     * <code>.flight.Airline airline = 2;</code>
-     * @return The airline.
-     */
-    public com.example.springgrpcvirtualthreads.grpc.Airline getAirline() {
-      if (airlineBuilder_ == null) {
-        return airline_ == null ? com.example.springgrpcvirtualthreads.grpc.Airline.getDefaultInstance() : airline_;
-      } else {
-        return airlineBuilder_.getMessage();
-      }
-    }
-    /**
-     * <code>.flight.Airline airline = 2;</code>
-     */
-    public Builder setAirline(com.example.springgrpcvirtualthreads.grpc.Airline value) {
-      if (airlineBuilder_ == null) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
-        airline_ = value;
-        onChanged();
-      } else {
-        airlineBuilder_.setMessage(value);
-      }
-
-      return this;
-    }
-    /**
-     * <code>.flight.Airline airline = 2;</code>
-     */
-    public Builder setAirline(
-        com.example.springgrpcvirtualthreads.grpc.Airline.Builder builderForValue) {
-      if (airlineBuilder_ == null) {
-        airline_ = builderForValue.build();
-        onChanged();
-      } else {
-        airlineBuilder_.setMessage(builderForValue.build());
-      }
-
-      return this;
-    }
-    /**
-     * <code>.flight.Airline airline = 2;</code>
-     */
-    public Builder mergeAirline(com.example.springgrpcvirtualthreads.grpc.Airline value) {
-      if (airlineBuilder_ == null) {
-        if (airline_ != null) {
-          airline_ =
-            com.example.springgrpcvirtualthreads.grpc.Airline.newBuilder(airline_).mergeFrom(value).buildPartial();
-        } else {
-          airline_ = value;
-        }
-        onChanged();
-      } else {
-        airlineBuilder_.mergeFrom(value);
-      }
-
-      return this;
-    }
-    /**
-     * <code>.flight.Airline airline = 2;</code>
-     */
-    public Builder clearAirline() {
-      if (airlineBuilder_ == null) {
-        airline_ = null;
-        onChanged();
-      } else {
-        airline_ = null;
-        airlineBuilder_ = null;
-      }
-
-      return this;
-    }
-    /**
-     * <code>.flight.Airline airline = 2;</code>
-     */
-    public com.example.springgrpcvirtualthreads.grpc.Airline.Builder getAirlineBuilder() {
-      
-      onChanged();
-      return getAirlineFieldBuilder().getBuilder();
-    }
-    /**
-     * <code>.flight.Airline airline = 2;</code>
-     */
-    public com.example.springgrpcvirtualthreads.grpc.AirlineOrBuilder getAirlineOrBuilder() {
-      if (airlineBuilder_ != null) {
-        return airlineBuilder_.getMessageOrBuilder();
-      } else {
-        return airline_ == null ?
-            com.example.springgrpcvirtualthreads.grpc.Airline.getDefaultInstance() : airline_;
-      }
-    }
-    /**
-     * <code>.flight.Airline airline = 2;</code>
-     */
-    private com.google.protobuf.SingleFieldBuilderV3<
-        com.example.springgrpcvirtualthreads.grpc.Airline, com.example.springgrpcvirtualthreads.grpc.Airline.Builder, com.example.springgrpcvirtualthreads.grpc.AirlineOrBuilder> 
-        getAirlineFieldBuilder() {
-      if (airlineBuilder_ == null) {
-        airlineBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
-            com.example.springgrpcvirtualthreads.grpc.Airline, com.example.springgrpcvirtualthreads.grpc.Airline.Builder, com.example.springgrpcvirtualthreads.grpc.AirlineOrBuilder>(
-                getAirline(),
-                getParentForChildren(),
-                isClean());
-        airline_ = null;
-      }
-      return airlineBuilder_;
-    }
-
-    private java.lang.Object arrivalTime_ = "";
-    /**
-     * <code>string arrivalTime = 3;</code>
-     * @return The arrivalTime.
-     */
-    public java.lang.String getArrivalTime() {
-      java.lang.Object ref = arrivalTime_;
-      if (!(ref instanceof java.lang.String)) {
-        com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        arrivalTime_ = s;
-        return s;
-      } else {
-        return (java.lang.String) ref;
-      }
-    }
-    /**
-     * <code>string arrivalTime = 3;</code>
-     * @return The bytes for arrivalTime.
-     */
-    public com.google.protobuf.ByteString
-        getArrivalTimeBytes() {
-      java.lang.Object ref = arrivalTime_;
-      if (ref instanceof String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        arrivalTime_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-    /**
-     * <code>string arrivalTime = 3;</code>
-     * @param value The arrivalTime to set.
-     * @return This builder for chaining.
-     */
-    public Builder setArrivalTime(
-        java.lang.String value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  
-      arrivalTime_ = value;
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string arrivalTime = 3;</code>
-     * @return This builder for chaining.
-     */
-    public Builder clearArrivalTime() {
-      
-      arrivalTime_ = getDefaultInstance().getArrivalTime();
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string arrivalTime = 3;</code>
-     * @param value The bytes for arrivalTime to set.
-     * @return This builder for chaining.
-     */
-    public Builder setArrivalTimeBytes(
-        com.google.protobuf.ByteString value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-      
-      arrivalTime_ = value;
-      onChanged();
-      return this;
-    }
-
-    private java.lang.Object baggage_ = "";
-    /**
-     * <code>string baggage = 4;</code>
-     * @return The baggage.
-     */
-    public java.lang.String getBaggage() {
-      java.lang.Object ref = baggage_;
-      if (!(ref instanceof java.lang.String)) {
-        com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        baggage_ = s;
-        return s;
-      } else {
-        return (java.lang.String) ref;
-      }
-    }
-    /**
-     * <code>string baggage = 4;</code>
-     * @return The bytes for baggage.
-     */
-    public com.google.protobuf.ByteString
-        getBaggageBytes() {
-      java.lang.Object ref = baggage_;
-      if (ref instanceof String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        baggage_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-    /**
-     * <code>string baggage = 4;</code>
-     * @param value The baggage to set.
-     * @return This builder for chaining.
-     */
-    public Builder setBaggage(
-        java.lang.String value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  
-      baggage_ = value;
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string baggage = 4;</code>
-     * @return This builder for chaining.
-     */
-    public Builder clearBaggage() {
-      
-      baggage_ = getDefaultInstance().getBaggage();
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string baggage = 4;</code>
-     * @param value The bytes for baggage to set.
-     * @return This builder for chaining.
-     */
-    public Builder setBaggageBytes(
-        com.google.protobuf.ByteString value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-      
-      baggage_ = value;
-      onChanged();
-      return this;
-    }
-
-    private java.lang.Object boardingTime_ = "";
-    /**
-     * <code>string boardingTime = 5;</code>
-     * @return The boardingTime.
-     */
-    public java.lang.String getBoardingTime() {
-      java.lang.Object ref = boardingTime_;
-      if (!(ref instanceof java.lang.String)) {
-        com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        boardingTime_ = s;
-        return s;
-      } else {
-        return (java.lang.String) ref;
-      }
-    }
-    /**
-     * <code>string boardingTime = 5;</code>
-     * @return The bytes for boardingTime.
-     */
-    public com.google.protobuf.ByteString
-        getBoardingTimeBytes() {
-      java.lang.Object ref = boardingTime_;
-      if (ref instanceof String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        boardingTime_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-    /**
-     * <code>string boardingTime = 5;</code>
-     * @param value The boardingTime to set.
-     * @return This builder for chaining.
-     */
-    public Builder setBoardingTime(
-        java.lang.String value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  
-      boardingTime_ = value;
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string boardingTime = 5;</code>
-     * @return This builder for chaining.
-     */
-    public Builder clearBoardingTime() {
-      
-      boardingTime_ = getDefaultInstance().getBoardingTime();
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string boardingTime = 5;</code>
-     * @param value The bytes for boardingTime to set.
-     * @return This builder for chaining.
-     */
-    public Builder setBoardingTimeBytes(
-        com.google.protobuf.ByteString value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-      
-      boardingTime_ = value;
-      onChanged();
-      return this;
-    }
-
-    private java.lang.Object cabinClass_ = "";
-    /**
-     * <code>string cabinClass = 6;</code>
-     * @return The cabinClass.
-     */
-    public java.lang.String getCabinClass() {
-      java.lang.Object ref = cabinClass_;
-      if (!(ref instanceof java.lang.String)) {
-        com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        cabinClass_ = s;
-        return s;
-      } else {
-        return (java.lang.String) ref;
-      }
-    }
-    /**
-     * <code>string cabinClass = 6;</code>
-     * @return The bytes for cabinClass.
-     */
-    public com.google.protobuf.ByteString
-        getCabinClassBytes() {
-      java.lang.Object ref = cabinClass_;
-      if (ref instanceof String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        cabinClass_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-    /**
-     * <code>string cabinClass = 6;</code>
-     * @param value The cabinClass to set.
-     * @return This builder for chaining.
-     */
-    public Builder setCabinClass(
-        java.lang.String value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  
-      cabinClass_ = value;
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string cabinClass = 6;</code>
-     * @return This builder for chaining.
-     */
-    public Builder clearCabinClass() {
-      
-      cabinClass_ = getDefaultInstance().getCabinClass();
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string cabinClass = 6;</code>
-     * @param value The bytes for cabinClass to set.
-     * @return This builder for chaining.
-     */
-    public Builder setCabinClassBytes(
-        com.google.protobuf.ByteString value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-      
-      cabinClass_ = value;
-      onChanged();
-      return this;
-    }
-
-    private java.lang.Object cancellationPolicy_ = "";
-    /**
-     * <code>string cancellationPolicy = 7;</code>
-     * @return The cancellationPolicy.
-     */
-    public java.lang.String getCancellationPolicy() {
-      java.lang.Object ref = cancellationPolicy_;
-      if (!(ref instanceof java.lang.String)) {
-        com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        cancellationPolicy_ = s;
-        return s;
-      } else {
-        return (java.lang.String) ref;
-      }
-    }
-    /**
-     * <code>string cancellationPolicy = 7;</code>
-     * @return The bytes for cancellationPolicy.
-     */
-    public com.google.protobuf.ByteString
-        getCancellationPolicyBytes() {
-      java.lang.Object ref = cancellationPolicy_;
-      if (ref instanceof String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        cancellationPolicy_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-    /**
-     * <code>string cancellationPolicy = 7;</code>
-     * @param value The cancellationPolicy to set.
-     * @return This builder for chaining.
-     */
-    public Builder setCancellationPolicy(
-        java.lang.String value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  
-      cancellationPolicy_ = value;
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string cancellationPolicy = 7;</code>
-     * @return This builder for chaining.
-     */
-    public Builder clearCancellationPolicy() {
-      
-      cancellationPolicy_ = getDefaultInstance().getCancellationPolicy();
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string cancellationPolicy = 7;</code>
-     * @param value The bytes for cancellationPolicy to set.
-     * @return This builder for chaining.
-     */
-    public Builder setCancellationPolicyBytes(
-        com.google.protobuf.ByteString value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-      
-      cancellationPolicy_ = value;
-      onChanged();
-      return this;
-    }
-
-    private java.lang.Object changePolicy_ = "";
-    /**
-     * <code>string changePolicy = 8;</code>
-     * @return The changePolicy.
-     */
-    public java.lang.String getChangePolicy() {
-      java.lang.Object ref = changePolicy_;
-      if (!(ref instanceof java.lang.String)) {
-        com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        changePolicy_ = s;
-        return s;
-      } else {
-        return (java.lang.String) ref;
-      }
-    }
-    /**
-     * <code>string changePolicy = 8;</code>
-     * @return The bytes for changePolicy.
-     */
-    public com.google.protobuf.ByteString
-        getChangePolicyBytes() {
-      java.lang.Object ref = changePolicy_;
-      if (ref instanceof String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        changePolicy_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-    /**
-     * <code>string changePolicy = 8;</code>
-     * @param value The changePolicy to set.
-     * @return This builder for chaining.
-     */
-    public Builder setChangePolicy(
-        java.lang.String value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  
-      changePolicy_ = value;
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string changePolicy = 8;</code>
-     * @return This builder for chaining.
-     */
-    public Builder clearChangePolicy() {
-      
-      changePolicy_ = getDefaultInstance().getChangePolicy();
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string changePolicy = 8;</code>
-     * @param value The bytes for changePolicy to set.
-     * @return This builder for chaining.
-     */
-    public Builder setChangePolicyBytes(
-        com.google.protobuf.ByteString value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-      
-      changePolicy_ = value;
-      onChanged();
-      return this;
-    }
-
-    private java.lang.Object checkInCounter_ = "";
-    /**
-     * <code>string checkInCounter = 9;</code>
-     * @return The checkInCounter.
-     */
-    public java.lang.String getCheckInCounter() {
-      java.lang.Object ref = checkInCounter_;
-      if (!(ref instanceof java.lang.String)) {
-        com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        checkInCounter_ = s;
-        return s;
-      } else {
-        return (java.lang.String) ref;
-      }
-    }
-    /**
-     * <code>string checkInCounter = 9;</code>
-     * @return The bytes for checkInCounter.
-     */
-    public com.google.protobuf.ByteString
-        getCheckInCounterBytes() {
-      java.lang.Object ref = checkInCounter_;
-      if (ref instanceof String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        checkInCounter_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-    /**
-     * <code>string checkInCounter = 9;</code>
-     * @param value The checkInCounter to set.
-     * @return This builder for chaining.
-     */
-    public Builder setCheckInCounter(
-        java.lang.String value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  
-      checkInCounter_ = value;
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string checkInCounter = 9;</code>
-     * @return This builder for chaining.
-     */
-    public Builder clearCheckInCounter() {
-      
-      checkInCounter_ = getDefaultInstance().getCheckInCounter();
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string checkInCounter = 9;</code>
-     * @param value The bytes for checkInCounter to set.
-     * @return This builder for chaining.
-     */
-    public Builder setCheckInCounterBytes(
-        com.google.protobuf.ByteString value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-      
-      checkInCounter_ = value;
-      onChanged();
-      return this;
-    }
-
-    private java.lang.Object covidSafety_ = "";
-    /**
-     * <code>string covidSafety = 10;</code>
-     * @return The covidSafety.
-     */
-    public java.lang.String getCovidSafety() {
-      java.lang.Object ref = covidSafety_;
-      if (!(ref instanceof java.lang.String)) {
-        com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        covidSafety_ = s;
-        return s;
-      } else {
-        return (java.lang.String) ref;
-      }
-    }
-    /**
-     * <code>string covidSafety = 10;</code>
-     * @return The bytes for covidSafety.
-     */
-    public com.google.protobuf.ByteString
-        getCovidSafetyBytes() {
-      java.lang.Object ref = covidSafety_;
-      if (ref instanceof String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        covidSafety_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-    /**
-     * <code>string covidSafety = 10;</code>
-     * @param value The covidSafety to set.
-     * @return This builder for chaining.
-     */
-    public Builder setCovidSafety(
-        java.lang.String value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  
-      covidSafety_ = value;
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string covidSafety = 10;</code>
-     * @return This builder for chaining.
-     */
-    public Builder clearCovidSafety() {
-      
-      covidSafety_ = getDefaultInstance().getCovidSafety();
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string covidSafety = 10;</code>
-     * @param value The bytes for covidSafety to set.
-     * @return This builder for chaining.
-     */
-    public Builder setCovidSafetyBytes(
-        com.google.protobuf.ByteString value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-      
-      covidSafety_ = value;
-      onChanged();
-      return this;
-    }
-
-    private java.lang.Object date_ = "";
-    /**
-     * <code>string date = 11;</code>
-     * @return The date.
-     */
-    public java.lang.String getDate() {
-      java.lang.Object ref = date_;
-      if (!(ref instanceof java.lang.String)) {
-        com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        date_ = s;
-        return s;
-      } else {
-        return (java.lang.String) ref;
-      }
-    }
-    /**
-     * <code>string date = 11;</code>
-     * @return The bytes for date.
-     */
-    public com.google.protobuf.ByteString
-        getDateBytes() {
-      java.lang.Object ref = date_;
-      if (ref instanceof String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        date_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-    /**
-     * <code>string date = 11;</code>
-     * @param value The date to set.
-     * @return This builder for chaining.
-     */
-    public Builder setDate(
-        java.lang.String value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  
-      date_ = value;
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string date = 11;</code>
-     * @return This builder for chaining.
-     */
-    public Builder clearDate() {
-      
-      date_ = getDefaultInstance().getDate();
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string date = 11;</code>
-     * @param value The bytes for date to set.
-     * @return This builder for chaining.
-     */
-    public Builder setDateBytes(
-        com.google.protobuf.ByteString value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-      
-      date_ = value;
-      onChanged();
-      return this;
-    }
-
-    private java.lang.Object departureTime_ = "";
-    /**
-     * <code>string departureTime = 12;</code>
-     * @return The departureTime.
-     */
-    public java.lang.String getDepartureTime() {
-      java.lang.Object ref = departureTime_;
-      if (!(ref instanceof java.lang.String)) {
-        com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        departureTime_ = s;
-        return s;
-      } else {
-        return (java.lang.String) ref;
-      }
-    }
-    /**
-     * <code>string departureTime = 12;</code>
-     * @return The bytes for departureTime.
-     */
-    public com.google.protobuf.ByteString
-        getDepartureTimeBytes() {
-      java.lang.Object ref = departureTime_;
-      if (ref instanceof String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        departureTime_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-    /**
-     * <code>string departureTime = 12;</code>
-     * @param value The departureTime to set.
-     * @return This builder for chaining.
-     */
-    public Builder setDepartureTime(
-        java.lang.String value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  
-      departureTime_ = value;
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string departureTime = 12;</code>
-     * @return This builder for chaining.
-     */
-    public Builder clearDepartureTime() {
-      
-      departureTime_ = getDefaultInstance().getDepartureTime();
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string departureTime = 12;</code>
-     * @param value The bytes for departureTime to set.
-     * @return This builder for chaining.
-     */
-    public Builder setDepartureTimeBytes(
-        com.google.protobuf.ByteString value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-      
-      departureTime_ = value;
-      onChanged();
-      return this;
-    }
-
-    private java.lang.Object duration_ = "";
-    /**
-     * <code>string duration = 13;</code>
-     * @return The duration.
-     */
-    public java.lang.String getDuration() {
-      java.lang.Object ref = duration_;
-      if (!(ref instanceof java.lang.String)) {
-        com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        duration_ = s;
-        return s;
-      } else {
-        return (java.lang.String) ref;
-      }
-    }
-    /**
-     * <code>string duration = 13;</code>
-     * @return The bytes for duration.
-     */
-    public com.google.protobuf.ByteString
-        getDurationBytes() {
-      java.lang.Object ref = duration_;
-      if (ref instanceof String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        duration_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-    /**
-     * <code>string duration = 13;</code>
-     * @param value The duration to set.
-     * @return This builder for chaining.
-     */
-    public Builder setDuration(
-        java.lang.String value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  
-      duration_ = value;
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string duration = 13;</code>
-     * @return This builder for chaining.
-     */
-    public Builder clearDuration() {
-      
-      duration_ = getDefaultInstance().getDuration();
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string duration = 13;</code>
-     * @param value The bytes for duration to set.
-     * @return This builder for chaining.
-     */
-    public Builder setDurationBytes(
-        com.google.protobuf.ByteString value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-      
-      duration_ = value;
-      onChanged();
-      return this;
-    }
-
-    private java.lang.Object ecoFriendly_ = "";
-    /**
-     * <code>string ecoFriendly = 14;</code>
-     * @return The ecoFriendly.
-     */
-    public java.lang.String getEcoFriendly() {
-      java.lang.Object ref = ecoFriendly_;
-      if (!(ref instanceof java.lang.String)) {
-        com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        ecoFriendly_ = s;
-        return s;
-      } else {
-        return (java.lang.String) ref;
-      }
-    }
-    /**
-     * <code>string ecoFriendly = 14;</code>
-     * @return The bytes for ecoFriendly.
-     */
-    public com.google.protobuf.ByteString
-        getEcoFriendlyBytes() {
-      java.lang.Object ref = ecoFriendly_;
-      if (ref instanceof String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        ecoFriendly_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-    /**
-     * <code>string ecoFriendly = 14;</code>
-     * @param value The ecoFriendly to set.
-     * @return This builder for chaining.
-     */
-    public Builder setEcoFriendly(
-        java.lang.String value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  
-      ecoFriendly_ = value;
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string ecoFriendly = 14;</code>
-     * @return This builder for chaining.
-     */
-    public Builder clearEcoFriendly() {
-      
-      ecoFriendly_ = getDefaultInstance().getEcoFriendly();
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string ecoFriendly = 14;</code>
-     * @param value The bytes for ecoFriendly to set.
-     * @return This builder for chaining.
-     */
-    public Builder setEcoFriendlyBytes(
-        com.google.protobuf.ByteString value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-      
-      ecoFriendly_ = value;
-      onChanged();
-      return this;
-    }
-
-    private java.lang.Object entertainment_ = "";
-    /**
-     * <code>string entertainment = 15;</code>
-     * @return The entertainment.
-     */
-    public java.lang.String getEntertainment() {
-      java.lang.Object ref = entertainment_;
-      if (!(ref instanceof java.lang.String)) {
-        com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        entertainment_ = s;
-        return s;
-      } else {
-        return (java.lang.String) ref;
-      }
-    }
-    /**
-     * <code>string entertainment = 15;</code>
-     * @return The bytes for entertainment.
-     */
-    public com.google.protobuf.ByteString
-        getEntertainmentBytes() {
-      java.lang.Object ref = entertainment_;
-      if (ref instanceof String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        entertainment_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-    /**
-     * <code>string entertainment = 15;</code>
-     * @param value The entertainment to set.
-     * @return This builder for chaining.
-     */
-    public Builder setEntertainment(
-        java.lang.String value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  
-      entertainment_ = value;
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string entertainment = 15;</code>
-     * @return This builder for chaining.
-     */
-    public Builder clearEntertainment() {
-      
-      entertainment_ = getDefaultInstance().getEntertainment();
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string entertainment = 15;</code>
-     * @param value The bytes for entertainment to set.
-     * @return This builder for chaining.
-     */
-    public Builder setEntertainmentBytes(
-        com.google.protobuf.ByteString value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-      
-      entertainment_ = value;
-      onChanged();
-      return this;
-    }
-
-    private java.lang.Object extraLegroom_ = "";
-    /**
-     * <code>string extraLegroom = 16;</code>
-     * @return The extraLegroom.
-     */
-    public java.lang.String getExtraLegroom() {
-      java.lang.Object ref = extraLegroom_;
-      if (!(ref instanceof java.lang.String)) {
-        com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        extraLegroom_ = s;
-        return s;
-      } else {
-        return (java.lang.String) ref;
-      }
-    }
-    /**
-     * <code>string extraLegroom = 16;</code>
-     * @return The bytes for extraLegroom.
-     */
-    public com.google.protobuf.ByteString
-        getExtraLegroomBytes() {
-      java.lang.Object ref = extraLegroom_;
-      if (ref instanceof String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        extraLegroom_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-    /**
-     * <code>string extraLegroom = 16;</code>
-     * @param value The extraLegroom to set.
-     * @return This builder for chaining.
-     */
-    public Builder setExtraLegroom(
-        java.lang.String value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  
-      extraLegroom_ = value;
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string extraLegroom = 16;</code>
-     * @return This builder for chaining.
-     */
-    public Builder clearExtraLegroom() {
-      
-      extraLegroom_ = getDefaultInstance().getExtraLegroom();
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string extraLegroom = 16;</code>
-     * @param value The bytes for extraLegroom to set.
-     * @return This builder for chaining.
-     */
-    public Builder setExtraLegroomBytes(
-        com.google.protobuf.ByteString value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-      
-      extraLegroom_ = value;
-      onChanged();
-      return this;
-    }
-
-    private java.lang.Object fareClass_ = "";
-    /**
-     * <code>string fareClass = 17;</code>
-     * @return The fareClass.
-     */
-    public java.lang.String getFareClass() {
-      java.lang.Object ref = fareClass_;
-      if (!(ref instanceof java.lang.String)) {
-        com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        fareClass_ = s;
-        return s;
-      } else {
-        return (java.lang.String) ref;
-      }
-    }
-    /**
-     * <code>string fareClass = 17;</code>
-     * @return The bytes for fareClass.
-     */
-    public com.google.protobuf.ByteString
-        getFareClassBytes() {
-      java.lang.Object ref = fareClass_;
-      if (ref instanceof String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        fareClass_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-    /**
-     * <code>string fareClass = 17;</code>
-     * @param value The fareClass to set.
-     * @return This builder for chaining.
-     */
-    public Builder setFareClass(
-        java.lang.String value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  
-      fareClass_ = value;
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string fareClass = 17;</code>
-     * @return This builder for chaining.
-     */
-    public Builder clearFareClass() {
-      
-      fareClass_ = getDefaultInstance().getFareClass();
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string fareClass = 17;</code>
-     * @param value The bytes for fareClass to set.
-     * @return This builder for chaining.
-     */
-    public Builder setFareClassBytes(
-        com.google.protobuf.ByteString value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-      
-      fareClass_ = value;
-      onChanged();
-      return this;
-    }
-
-    private java.lang.Object flightId_ = "";
-    /**
-     * <code>string flightId = 18;</code>
-     * @return The flightId.
-     */
-    public java.lang.String getFlightId() {
-      java.lang.Object ref = flightId_;
-      if (!(ref instanceof java.lang.String)) {
-        com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        flightId_ = s;
-        return s;
-      } else {
-        return (java.lang.String) ref;
-      }
-    }
-    /**
-     * <code>string flightId = 18;</code>
-     * @return The bytes for flightId.
-     */
-    public com.google.protobuf.ByteString
-        getFlightIdBytes() {
-      java.lang.Object ref = flightId_;
-      if (ref instanceof String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        flightId_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-    /**
-     * <code>string flightId = 18;</code>
-     * @param value The flightId to set.
-     * @return This builder for chaining.
-     */
-    public Builder setFlightId(
-        java.lang.String value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  
-      flightId_ = value;
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string flightId = 18;</code>
-     * @return This builder for chaining.
-     */
-    public Builder clearFlightId() {
-      
-      flightId_ = getDefaultInstance().getFlightId();
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string flightId = 18;</code>
-     * @param value The bytes for flightId to set.
-     * @return This builder for chaining.
-     */
-    public Builder setFlightIdBytes(
-        com.google.protobuf.ByteString value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-      
-      flightId_ = value;
-      onChanged();
-      return this;
-    }
-
-    private java.lang.Object flightNumber_ = "";
-    /**
-     * <code>string flightNumber = 19;</code>
-     * @return The flightNumber.
-     */
-    public java.lang.String getFlightNumber() {
-      java.lang.Object ref = flightNumber_;
-      if (!(ref instanceof java.lang.String)) {
-        com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        flightNumber_ = s;
-        return s;
-      } else {
-        return (java.lang.String) ref;
-      }
-    }
-    /**
-     * <code>string flightNumber = 19;</code>
-     * @return The bytes for flightNumber.
-     */
-    public com.google.protobuf.ByteString
-        getFlightNumberBytes() {
-      java.lang.Object ref = flightNumber_;
-      if (ref instanceof String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        flightNumber_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-    /**
-     * <code>string flightNumber = 19;</code>
-     * @param value The flightNumber to set.
-     * @return This builder for chaining.
-     */
-    public Builder setFlightNumber(
-        java.lang.String value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  
-      flightNumber_ = value;
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string flightNumber = 19;</code>
-     * @return This builder for chaining.
-     */
-    public Builder clearFlightNumber() {
-      
-      flightNumber_ = getDefaultInstance().getFlightNumber();
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string flightNumber = 19;</code>
-     * @param value The bytes for flightNumber to set.
-     * @return This builder for chaining.
-     */
-    public Builder setFlightNumberBytes(
-        com.google.protobuf.ByteString value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-      
-      flightNumber_ = value;
-      onChanged();
-      return this;
-    }
-
-    private java.lang.Object flightType_ = "";
-    /**
-     * <code>string flightType = 20;</code>
-     * @return The flightType.
-     */
-    public java.lang.String getFlightType() {
-      java.lang.Object ref = flightType_;
-      if (!(ref instanceof java.lang.String)) {
-        com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        flightType_ = s;
-        return s;
-      } else {
-        return (java.lang.String) ref;
-      }
-    }
-    /**
-     * <code>string flightType = 20;</code>
-     * @return The bytes for flightType.
-     */
-    public com.google.protobuf.ByteString
-        getFlightTypeBytes() {
-      java.lang.Object ref = flightType_;
-      if (ref instanceof String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        flightType_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-    /**
-     * <code>string flightType = 20;</code>
-     * @param value The flightType to set.
-     * @return This builder for chaining.
-     */
-    public Builder setFlightType(
-        java.lang.String value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  
-      flightType_ = value;
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string flightType = 20;</code>
-     * @return This builder for chaining.
-     */
-    public Builder clearFlightType() {
-      
-      flightType_ = getDefaultInstance().getFlightType();
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string flightType = 20;</code>
-     * @param value The bytes for flightType to set.
-     * @return This builder for chaining.
-     */
-    public Builder setFlightTypeBytes(
-        com.google.protobuf.ByteString value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-      
-      flightType_ = value;
-      onChanged();
-      return this;
-    }
-
-    private java.lang.Object from_ = "";
-    /**
-     * <code>string from = 21;</code>
-     * @return The from.
-     */
-    public java.lang.String getFrom() {
-      java.lang.Object ref = from_;
-      if (!(ref instanceof java.lang.String)) {
-        com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        from_ = s;
-        return s;
-      } else {
-        return (java.lang.String) ref;
-      }
-    }
-    /**
-     * <code>string from = 21;</code>
-     * @return The bytes for from.
-     */
-    public com.google.protobuf.ByteString
-        getFromBytes() {
-      java.lang.Object ref = from_;
-      if (ref instanceof String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        from_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-    /**
-     * <code>string from = 21;</code>
-     * @param value The from to set.
-     * @return This builder for chaining.
-     */
-    public Builder setFrom(
-        java.lang.String value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  
-      from_ = value;
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string from = 21;</code>
-     * @return This builder for chaining.
-     */
-    public Builder clearFrom() {
-      
-      from_ = getDefaultInstance().getFrom();
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string from = 21;</code>
-     * @param value The bytes for from to set.
-     * @return This builder for chaining.
-     */
-    public Builder setFromBytes(
-        com.google.protobuf.ByteString value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-      
-      from_ = value;
-      onChanged();
-      return this;
-    }
-
-    private java.lang.Object gate_ = "";
-    /**
-     * <code>string gate = 22;</code>
-     * @return The gate.
-     */
-    public java.lang.String getGate() {
-      java.lang.Object ref = gate_;
-      if (!(ref instanceof java.lang.String)) {
-        com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        gate_ = s;
-        return s;
-      } else {
-        return (java.lang.String) ref;
-      }
-    }
-    /**
-     * <code>string gate = 22;</code>
-     * @return The bytes for gate.
-     */
-    public com.google.protobuf.ByteString
-        getGateBytes() {
-      java.lang.Object ref = gate_;
-      if (ref instanceof String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        gate_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-    /**
-     * <code>string gate = 22;</code>
-     * @param value The gate to set.
-     * @return This builder for chaining.
-     */
-    public Builder setGate(
-        java.lang.String value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  
-      gate_ = value;
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string gate = 22;</code>
-     * @return This builder for chaining.
-     */
-    public Builder clearGate() {
-      
-      gate_ = getDefaultInstance().getGate();
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string gate = 22;</code>
-     * @param value The bytes for gate to set.
-     * @return This builder for chaining.
-     */
-    public Builder setGateBytes(
-        com.google.protobuf.ByteString value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-      
-      gate_ = value;
-      onChanged();
-      return this;
-    }
-
-    private java.lang.Object infantPolicy_ = "";
-    /**
-     * <code>string infantPolicy = 23;</code>
-     * @return The infantPolicy.
-     */
-    public java.lang.String getInfantPolicy() {
-      java.lang.Object ref = infantPolicy_;
-      if (!(ref instanceof java.lang.String)) {
-        com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        infantPolicy_ = s;
-        return s;
-      } else {
-        return (java.lang.String) ref;
-      }
-    }
-    /**
-     * <code>string infantPolicy = 23;</code>
-     * @return The bytes for infantPolicy.
-     */
-    public com.google.protobuf.ByteString
-        getInfantPolicyBytes() {
-      java.lang.Object ref = infantPolicy_;
-      if (ref instanceof String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        infantPolicy_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-    /**
-     * <code>string infantPolicy = 23;</code>
-     * @param value The infantPolicy to set.
-     * @return This builder for chaining.
-     */
-    public Builder setInfantPolicy(
-        java.lang.String value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  
-      infantPolicy_ = value;
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string infantPolicy = 23;</code>
-     * @return This builder for chaining.
-     */
-    public Builder clearInfantPolicy() {
-      
-      infantPolicy_ = getDefaultInstance().getInfantPolicy();
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string infantPolicy = 23;</code>
-     * @param value The bytes for infantPolicy to set.
-     * @return This builder for chaining.
-     */
-    public Builder setInfantPolicyBytes(
-        com.google.protobuf.ByteString value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-      
-      infantPolicy_ = value;
-      onChanged();
-      return this;
-    }
-
-    private java.lang.Object lastUpdated_ = "";
-    /**
-     * <code>string lastUpdated = 24;</code>
-     * @return The lastUpdated.
-     */
-    public java.lang.String getLastUpdated() {
-      java.lang.Object ref = lastUpdated_;
-      if (!(ref instanceof java.lang.String)) {
-        com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        lastUpdated_ = s;
-        return s;
-      } else {
-        return (java.lang.String) ref;
-      }
-    }
-    /**
-     * <code>string lastUpdated = 24;</code>
-     * @return The bytes for lastUpdated.
-     */
-    public com.google.protobuf.ByteString
-        getLastUpdatedBytes() {
-      java.lang.Object ref = lastUpdated_;
-      if (ref instanceof String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        lastUpdated_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-    /**
-     * <code>string lastUpdated = 24;</code>
-     * @param value The lastUpdated to set.
-     * @return This builder for chaining.
-     */
-    public Builder setLastUpdated(
-        java.lang.String value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  
-      lastUpdated_ = value;
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string lastUpdated = 24;</code>
-     * @return This builder for chaining.
-     */
-    public Builder clearLastUpdated() {
-      
-      lastUpdated_ = getDefaultInstance().getLastUpdated();
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string lastUpdated = 24;</code>
-     * @param value The bytes for lastUpdated to set.
-     * @return This builder for chaining.
-     */
-    public Builder setLastUpdatedBytes(
-        com.google.protobuf.ByteString value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-      
-      lastUpdated_ = value;
-      onChanged();
-      return this;
-    }
-
-    private com.google.protobuf.LazyStringList layovers_ = com.google.protobuf.LazyStringArrayList.EMPTY;
-    private void ensureLayoversIsMutable() {
-      if (!((bitField0_ & 0x00000001) != 0)) {
-        layovers_ = new com.google.protobuf.LazyStringArrayList(layovers_);
-        bitField0_ |= 0x00000001;
-       }
-    }
-    /**
-     * <code>repeated string layovers = 25;</code>
-     * @return A list containing the layovers.
-     */
-    public com.google.protobuf.ProtocolStringList
-        getLayoversList() {
-      return layovers_.getUnmodifiableView();
-    }
-    /**
-     * <code>repeated string layovers = 25;</code>
-     * @return The count of layovers.
-     */
-    public int getLayoversCount() {
-      return layovers_.size();
-    }
-    /**
-     * <code>repeated string layovers = 25;</code>
-     * @param index The index of the element to return.
-     * @return The layovers at the given index.
-     */
-    public java.lang.String getLayovers(int index) {
-      return layovers_.get(index);
-    }
-    /**
-     * <code>repeated string layovers = 25;</code>
-     * @param index The index of the value to return.
-     * @return The bytes of the layovers at the given index.
-     */
-    public com.google.protobuf.ByteString
-        getLayoversBytes(int index) {
-      return layovers_.getByteString(index);
-    }
-    /**
-     * <code>repeated string layovers = 25;</code>
-     * @param index The index to set the value at.
-     * @param value The layovers to set.
-     * @return This builder for chaining.
-     */
-    public Builder setLayovers(
-        int index, java.lang.String value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  ensureLayoversIsMutable();
-      layovers_.set(index, value);
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>repeated string layovers = 25;</code>
-     * @param value The layovers to add.
-     * @return This builder for chaining.
-     */
-    public Builder addLayovers(
-        java.lang.String value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  ensureLayoversIsMutable();
-      layovers_.add(value);
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>repeated string layovers = 25;</code>
-     * @param values The layovers to add.
-     * @return This builder for chaining.
-     */
-    public Builder addAllLayovers(
-        java.lang.Iterable<java.lang.String> values) {
-      ensureLayoversIsMutable();
-      com.google.protobuf.AbstractMessageLite.Builder.addAll(
-          values, layovers_);
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>repeated string layovers = 25;</code>
-     * @return This builder for chaining.
-     */
-    public Builder clearLayovers() {
-      layovers_ = com.google.protobuf.LazyStringArrayList.EMPTY;
-      bitField0_ = (bitField0_ & ~0x00000001);
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>repeated string layovers = 25;</code>
-     * @param value The bytes of the layovers to add.
-     * @return This builder for chaining.
-     */
-    public Builder addLayoversBytes(
-        com.google.protobuf.ByteString value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-      ensureLayoversIsMutable();
-      layovers_.add(value);
-      onChanged();
-      return this;
-    }
-
-    private java.lang.Object loungeAccess_ = "";
-    /**
-     * <code>string loungeAccess = 26;</code>
-     * @return The loungeAccess.
-     */
-    public java.lang.String getLoungeAccess() {
-      java.lang.Object ref = loungeAccess_;
-      if (!(ref instanceof java.lang.String)) {
-        com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        loungeAccess_ = s;
-        return s;
-      } else {
-        return (java.lang.String) ref;
-      }
-    }
-    /**
-     * <code>string loungeAccess = 26;</code>
-     * @return The bytes for loungeAccess.
-     */
-    public com.google.protobuf.ByteString
-        getLoungeAccessBytes() {
-      java.lang.Object ref = loungeAccess_;
-      if (ref instanceof String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        loungeAccess_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-    /**
-     * <code>string loungeAccess = 26;</code>
-     * @param value The loungeAccess to set.
-     * @return This builder for chaining.
-     */
-    public Builder setLoungeAccess(
-        java.lang.String value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  
-      loungeAccess_ = value;
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string loungeAccess = 26;</code>
-     * @return This builder for chaining.
-     */
-    public Builder clearLoungeAccess() {
-      
-      loungeAccess_ = getDefaultInstance().getLoungeAccess();
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string loungeAccess = 26;</code>
-     * @param value The bytes for loungeAccess to set.
-     * @return This builder for chaining.
-     */
-    public Builder setLoungeAccessBytes(
-        com.google.protobuf.ByteString value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-      
-      loungeAccess_ = value;
-      onChanged();
-      return this;
-    }
-
-    private java.lang.Object meal_ = "";
-    /**
-     * <code>string meal = 27;</code>
-     * @return The meal.
-     */
-    public java.lang.String getMeal() {
-      java.lang.Object ref = meal_;
-      if (!(ref instanceof java.lang.String)) {
-        com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        meal_ = s;
-        return s;
-      } else {
-        return (java.lang.String) ref;
-      }
-    }
-    /**
-     * <code>string meal = 27;</code>
-     * @return The bytes for meal.
-     */
-    public com.google.protobuf.ByteString
-        getMealBytes() {
-      java.lang.Object ref = meal_;
-      if (ref instanceof String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        meal_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-    /**
-     * <code>string meal = 27;</code>
-     * @param value The meal to set.
-     * @return This builder for chaining.
-     */
-    public Builder setMeal(
-        java.lang.String value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  
-      meal_ = value;
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string meal = 27;</code>
-     * @return This builder for chaining.
-     */
-    public Builder clearMeal() {
-      
-      meal_ = getDefaultInstance().getMeal();
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string meal = 27;</code>
-     * @param value The bytes for meal to set.
-     * @return This builder for chaining.
-     */
-    public Builder setMealBytes(
-        com.google.protobuf.ByteString value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-      
-      meal_ = value;
-      onChanged();
-      return this;
-    }
-
-    private java.lang.Object onTimePerformance_ = "";
-    /**
-     * <code>string onTimePerformance = 28;</code>
-     * @return The onTimePerformance.
-     */
-    public java.lang.String getOnTimePerformance() {
-      java.lang.Object ref = onTimePerformance_;
-      if (!(ref instanceof java.lang.String)) {
-        com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        onTimePerformance_ = s;
-        return s;
-      } else {
-        return (java.lang.String) ref;
-      }
-    }
-    /**
-     * <code>string onTimePerformance = 28;</code>
-     * @return The bytes for onTimePerformance.
-     */
-    public com.google.protobuf.ByteString
-        getOnTimePerformanceBytes() {
-      java.lang.Object ref = onTimePerformance_;
-      if (ref instanceof String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        onTimePerformance_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-    /**
-     * <code>string onTimePerformance = 28;</code>
-     * @param value The onTimePerformance to set.
-     * @return This builder for chaining.
-     */
-    public Builder setOnTimePerformance(
-        java.lang.String value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  
-      onTimePerformance_ = value;
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string onTimePerformance = 28;</code>
-     * @return This builder for chaining.
-     */
-    public Builder clearOnTimePerformance() {
-      
-      onTimePerformance_ = getDefaultInstance().getOnTimePerformance();
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string onTimePerformance = 28;</code>
-     * @param value The bytes for onTimePerformance to set.
-     * @return This builder for chaining.
-     */
-    public Builder setOnTimePerformanceBytes(
-        com.google.protobuf.ByteString value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-      
-      onTimePerformance_ = value;
-      onChanged();
-      return this;
-    }
-
-    private java.lang.Object petPolicy_ = "";
-    /**
-     * <code>string petPolicy = 29;</code>
-     * @return The petPolicy.
-     */
-    public java.lang.String getPetPolicy() {
-      java.lang.Object ref = petPolicy_;
-      if (!(ref instanceof java.lang.String)) {
-        com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        petPolicy_ = s;
-        return s;
-      } else {
-        return (java.lang.String) ref;
-      }
-    }
-    /**
-     * <code>string petPolicy = 29;</code>
-     * @return The bytes for petPolicy.
-     */
-    public com.google.protobuf.ByteString
-        getPetPolicyBytes() {
-      java.lang.Object ref = petPolicy_;
-      if (ref instanceof String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        petPolicy_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-    /**
-     * <code>string petPolicy = 29;</code>
-     * @param value The petPolicy to set.
-     * @return This builder for chaining.
-     */
-    public Builder setPetPolicy(
-        java.lang.String value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  
-      petPolicy_ = value;
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string petPolicy = 29;</code>
-     * @return This builder for chaining.
-     */
-    public Builder clearPetPolicy() {
-      
-      petPolicy_ = getDefaultInstance().getPetPolicy();
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string petPolicy = 29;</code>
-     * @param value The bytes for petPolicy to set.
-     * @return This builder for chaining.
-     */
-    public Builder setPetPolicyBytes(
-        com.google.protobuf.ByteString value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-      
-      petPolicy_ = value;
-      onChanged();
-      return this;
-    }
-
-    private java.lang.Object powerOutlet_ = "";
-    /**
-     * <code>string powerOutlet = 30;</code>
-     * @return The powerOutlet.
-     */
-    public java.lang.String getPowerOutlet() {
-      java.lang.Object ref = powerOutlet_;
-      if (!(ref instanceof java.lang.String)) {
-        com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        powerOutlet_ = s;
-        return s;
-      } else {
-        return (java.lang.String) ref;
-      }
-    }
-    /**
-     * <code>string powerOutlet = 30;</code>
-     * @return The bytes for powerOutlet.
-     */
-    public com.google.protobuf.ByteString
-        getPowerOutletBytes() {
-      java.lang.Object ref = powerOutlet_;
-      if (ref instanceof String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        powerOutlet_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-    /**
-     * <code>string powerOutlet = 30;</code>
-     * @param value The powerOutlet to set.
-     * @return This builder for chaining.
-     */
-    public Builder setPowerOutlet(
-        java.lang.String value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  
-      powerOutlet_ = value;
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string powerOutlet = 30;</code>
-     * @return This builder for chaining.
-     */
-    public Builder clearPowerOutlet() {
-      
-      powerOutlet_ = getDefaultInstance().getPowerOutlet();
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string powerOutlet = 30;</code>
-     * @param value The bytes for powerOutlet to set.
-     * @return This builder for chaining.
-     */
-    public Builder setPowerOutletBytes(
-        com.google.protobuf.ByteString value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-      
-      powerOutlet_ = value;
-      onChanged();
-      return this;
-    }
-
-    private int price_ ;
-    /**
-     * <code>int32 price = 31;</code>
-     * @return The price.
-     */
-    @java.lang.Override
-    public int getPrice() {
-      return price_;
-    }
-    /**
-     * <code>int32 price = 31;</code>
-     * @param value The price to set.
-     * @return This builder for chaining.
-     */
-    public Builder setPrice(int value) {
-      
-      price_ = value;
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>int32 price = 31;</code>
-     * @return This builder for chaining.
-     */
-    public Builder clearPrice() {
-      
-      price_ = 0;
-      onChanged();
-      return this;
-    }
-
-    private java.lang.Object priorityBoarding_ = "";
-    /**
-     * <code>string priorityBoarding = 32;</code>
-     * @return The priorityBoarding.
-     */
-    public java.lang.String getPriorityBoarding() {
-      java.lang.Object ref = priorityBoarding_;
-      if (!(ref instanceof java.lang.String)) {
-        com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        priorityBoarding_ = s;
-        return s;
-      } else {
-        return (java.lang.String) ref;
-      }
-    }
-    /**
-     * <code>string priorityBoarding = 32;</code>
-     * @return The bytes for priorityBoarding.
-     */
-    public com.google.protobuf.ByteString
-        getPriorityBoardingBytes() {
-      java.lang.Object ref = priorityBoarding_;
-      if (ref instanceof String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        priorityBoarding_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-    /**
-     * <code>string priorityBoarding = 32;</code>
-     * @param value The priorityBoarding to set.
-     * @return This builder for chaining.
-     */
-    public Builder setPriorityBoarding(
-        java.lang.String value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  
-      priorityBoarding_ = value;
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string priorityBoarding = 32;</code>
-     * @return This builder for chaining.
-     */
-    public Builder clearPriorityBoarding() {
-      
-      priorityBoarding_ = getDefaultInstance().getPriorityBoarding();
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string priorityBoarding = 32;</code>
-     * @param value The bytes for priorityBoarding to set.
-     * @return This builder for chaining.
-     */
-    public Builder setPriorityBoardingBytes(
-        com.google.protobuf.ByteString value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-      
-      priorityBoarding_ = value;
-      onChanged();
-      return this;
-    }
-
-    private double rating_ ;
-    /**
-     * <code>double rating = 33;</code>
-     * @return The rating.
-     */
-    @java.lang.Override
-    public double getRating() {
-      return rating_;
-    }
-    /**
-     * <code>double rating = 33;</code>
-     * @param value The rating to set.
-     * @return This builder for chaining.
-     */
-    public Builder setRating(double value) {
-      
-      rating_ = value;
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>double rating = 33;</code>
-     * @return This builder for chaining.
-     */
-    public Builder clearRating() {
-      
-      rating_ = 0D;
-      onChanged();
-      return this;
-    }
-
-    private java.lang.Object recliningAngle_ = "";
-    /**
-     * <code>string recliningAngle = 34;</code>
-     * @return The recliningAngle.
-     */
-    public java.lang.String getRecliningAngle() {
-      java.lang.Object ref = recliningAngle_;
-      if (!(ref instanceof java.lang.String)) {
-        com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        recliningAngle_ = s;
-        return s;
-      } else {
-        return (java.lang.String) ref;
-      }
-    }
-    /**
-     * <code>string recliningAngle = 34;</code>
-     * @return The bytes for recliningAngle.
-     */
-    public com.google.protobuf.ByteString
-        getRecliningAngleBytes() {
-      java.lang.Object ref = recliningAngle_;
-      if (ref instanceof String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        recliningAngle_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-    /**
-     * <code>string recliningAngle = 34;</code>
-     * @param value The recliningAngle to set.
-     * @return This builder for chaining.
-     */
-    public Builder setRecliningAngle(
-        java.lang.String value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  
-      recliningAngle_ = value;
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string recliningAngle = 34;</code>
-     * @return This builder for chaining.
-     */
-    public Builder clearRecliningAngle() {
-      
-      recliningAngle_ = getDefaultInstance().getRecliningAngle();
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string recliningAngle = 34;</code>
-     * @param value The bytes for recliningAngle to set.
-     * @return This builder for chaining.
-     */
-    public Builder setRecliningAngleBytes(
-        com.google.protobuf.ByteString value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-      
-      recliningAngle_ = value;
-      onChanged();
-      return this;
-    }
-
-    private int reviewsCount_ ;
-    /**
-     * <code>int32 reviewsCount = 35;</code>
-     * @return The reviewsCount.
-     */
-    @java.lang.Override
-    public int getReviewsCount() {
-      return reviewsCount_;
-    }
-    /**
-     * <code>int32 reviewsCount = 35;</code>
-     * @param value The reviewsCount to set.
-     * @return This builder for chaining.
-     */
-    public Builder setReviewsCount(int value) {
-      
-      reviewsCount_ = value;
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>int32 reviewsCount = 35;</code>
-     * @return This builder for chaining.
-     */
-    public Builder clearReviewsCount() {
-      
-      reviewsCount_ = 0;
-      onChanged();
-      return this;
-    }
-
-    private java.lang.Object seatPitch_ = "";
-    /**
-     * <code>string seatPitch = 36;</code>
-     * @return The seatPitch.
-     */
-    public java.lang.String getSeatPitch() {
-      java.lang.Object ref = seatPitch_;
-      if (!(ref instanceof java.lang.String)) {
-        com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        seatPitch_ = s;
-        return s;
-      } else {
-        return (java.lang.String) ref;
-      }
-    }
-    /**
-     * <code>string seatPitch = 36;</code>
-     * @return The bytes for seatPitch.
-     */
-    public com.google.protobuf.ByteString
-        getSeatPitchBytes() {
-      java.lang.Object ref = seatPitch_;
-      if (ref instanceof String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        seatPitch_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-    /**
-     * <code>string seatPitch = 36;</code>
-     * @param value The seatPitch to set.
-     * @return This builder for chaining.
-     */
-    public Builder setSeatPitch(
-        java.lang.String value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  
-      seatPitch_ = value;
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string seatPitch = 36;</code>
-     * @return This builder for chaining.
-     */
-    public Builder clearSeatPitch() {
-      
-      seatPitch_ = getDefaultInstance().getSeatPitch();
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string seatPitch = 36;</code>
-     * @param value The bytes for seatPitch to set.
-     * @return This builder for chaining.
-     */
-    public Builder setSeatPitchBytes(
-        com.google.protobuf.ByteString value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-      
-      seatPitch_ = value;
-      onChanged();
-      return this;
-    }
-
-    private java.lang.Object seatType_ = "";
-    /**
-     * <code>string seatType = 37;</code>
-     * @return The seatType.
-     */
-    public java.lang.String getSeatType() {
-      java.lang.Object ref = seatType_;
-      if (!(ref instanceof java.lang.String)) {
-        com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        seatType_ = s;
-        return s;
-      } else {
-        return (java.lang.String) ref;
-      }
-    }
-    /**
-     * <code>string seatType = 37;</code>
-     * @return The bytes for seatType.
-     */
-    public com.google.protobuf.ByteString
-        getSeatTypeBytes() {
-      java.lang.Object ref = seatType_;
-      if (ref instanceof String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        seatType_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-    /**
-     * <code>string seatType = 37;</code>
-     * @param value The seatType to set.
-     * @return This builder for chaining.
-     */
-    public Builder setSeatType(
-        java.lang.String value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  
-      seatType_ = value;
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string seatType = 37;</code>
-     * @return This builder for chaining.
-     */
-    public Builder clearSeatType() {
-      
-      seatType_ = getDefaultInstance().getSeatType();
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string seatType = 37;</code>
-     * @param value The bytes for seatType to set.
-     * @return This builder for chaining.
-     */
-    public Builder setSeatTypeBytes(
-        com.google.protobuf.ByteString value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-      
-      seatType_ = value;
-      onChanged();
-      return this;
-    }
-
-    private java.lang.Object seatWidth_ = "";
-    /**
-     * <code>string seatWidth = 38;</code>
-     * @return The seatWidth.
-     */
-    public java.lang.String getSeatWidth() {
-      java.lang.Object ref = seatWidth_;
-      if (!(ref instanceof java.lang.String)) {
-        com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        seatWidth_ = s;
-        return s;
-      } else {
-        return (java.lang.String) ref;
-      }
-    }
-    /**
-     * <code>string seatWidth = 38;</code>
-     * @return The bytes for seatWidth.
-     */
-    public com.google.protobuf.ByteString
-        getSeatWidthBytes() {
-      java.lang.Object ref = seatWidth_;
-      if (ref instanceof String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        seatWidth_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-    /**
-     * <code>string seatWidth = 38;</code>
-     * @param value The seatWidth to set.
-     * @return This builder for chaining.
-     */
-    public Builder setSeatWidth(
-        java.lang.String value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  
-      seatWidth_ = value;
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string seatWidth = 38;</code>
-     * @return This builder for chaining.
-     */
-    public Builder clearSeatWidth() {
-      
-      seatWidth_ = getDefaultInstance().getSeatWidth();
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string seatWidth = 38;</code>
-     * @param value The bytes for seatWidth to set.
-     * @return This builder for chaining.
-     */
-    public Builder setSeatWidthBytes(
-        com.google.protobuf.ByteString value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-      
-      seatWidth_ = value;
-      onChanged();
-      return this;
-    }
-
-    private java.lang.Object terminal_ = "";
-    /**
-     * <code>string terminal = 39;</code>
-     * @return The terminal.
-     */
-    public java.lang.String getTerminal() {
-      java.lang.Object ref = terminal_;
-      if (!(ref instanceof java.lang.String)) {
-        com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        terminal_ = s;
-        return s;
-      } else {
-        return (java.lang.String) ref;
-      }
-    }
-    /**
-     * <code>string terminal = 39;</code>
-     * @return The bytes for terminal.
-     */
-    public com.google.protobuf.ByteString
-        getTerminalBytes() {
-      java.lang.Object ref = terminal_;
-      if (ref instanceof String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        terminal_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-    /**
-     * <code>string terminal = 39;</code>
-     * @param value The terminal to set.
-     * @return This builder for chaining.
-     */
-    public Builder setTerminal(
-        java.lang.String value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  
-      terminal_ = value;
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string terminal = 39;</code>
-     * @return This builder for chaining.
-     */
-    public Builder clearTerminal() {
-      
-      terminal_ = getDefaultInstance().getTerminal();
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string terminal = 39;</code>
-     * @param value The bytes for terminal to set.
-     * @return This builder for chaining.
-     */
-    public Builder setTerminalBytes(
-        com.google.protobuf.ByteString value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-      
-      terminal_ = value;
-      onChanged();
-      return this;
-    }
-
-    private java.lang.Object to_ = "";
-    /**
-     * <code>string to = 40;</code>
-     * @return The to.
-     */
-    public java.lang.String getTo() {
-      java.lang.Object ref = to_;
-      if (!(ref instanceof java.lang.String)) {
-        com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        to_ = s;
-        return s;
-      } else {
-        return (java.lang.String) ref;
-      }
-    }
-    /**
-     * <code>string to = 40;</code>
-     * @return The bytes for to.
-     */
-    public com.google.protobuf.ByteString
-        getToBytes() {
-      java.lang.Object ref = to_;
-      if (ref instanceof String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        to_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-    /**
-     * <code>string to = 40;</code>
-     * @param value The to to set.
-     * @return This builder for chaining.
-     */
-    public Builder setTo(
-        java.lang.String value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  
-      to_ = value;
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string to = 40;</code>
-     * @return This builder for chaining.
-     */
-    public Builder clearTo() {
-      
-      to_ = getDefaultInstance().getTo();
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string to = 40;</code>
-     * @param value The bytes for to to set.
-     * @return This builder for chaining.
-     */
-    public Builder setToBytes(
-        com.google.protobuf.ByteString value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-      
-      to_ = value;
-      onChanged();
-      return this;
-    }
-
-    private int totalStops_ ;
-    /**
-     * <code>int32 totalStops = 41;</code>
-     * @return The totalStops.
-     */
-    @java.lang.Override
-    public int getTotalStops() {
-      return totalStops_;
-    }
-    /**
-     * <code>int32 totalStops = 41;</code>
-     * @param value The totalStops to set.
-     * @return This builder for chaining.
-     */
-    public Builder setTotalStops(int value) {
-      
-      totalStops_ = value;
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>int32 totalStops = 41;</code>
-     * @return This builder for chaining.
-     */
-    public Builder clearTotalStops() {
-      
-      totalStops_ = 0;
-      onChanged();
-      return this;
-    }
-
-    private java.lang.Object usbPort_ = "";
-    /**
-     * <code>string usbPort = 42;</code>
-     * @return The usbPort.
-     */
-    public java.lang.String getUsbPort() {
-      java.lang.Object ref = usbPort_;
-      if (!(ref instanceof java.lang.String)) {
-        com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        usbPort_ = s;
-        return s;
-      } else {
-        return (java.lang.String) ref;
-      }
-    }
-    /**
-     * <code>string usbPort = 42;</code>
-     * @return The bytes for usbPort.
-     */
-    public com.google.protobuf.ByteString
-        getUsbPortBytes() {
-      java.lang.Object ref = usbPort_;
-      if (ref instanceof String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        usbPort_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-    /**
-     * <code>string usbPort = 42;</code>
-     * @param value The usbPort to set.
-     * @return This builder for chaining.
-     */
-    public Builder setUsbPort(
-        java.lang.String value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  
-      usbPort_ = value;
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string usbPort = 42;</code>
-     * @return This builder for chaining.
-     */
-    public Builder clearUsbPort() {
-      
-      usbPort_ = getDefaultInstance().getUsbPort();
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string usbPort = 42;</code>
-     * @param value The bytes for usbPort to set.
-     * @return This builder for chaining.
-     */
-    public Builder setUsbPortBytes(
-        com.google.protobuf.ByteString value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-      
-      usbPort_ = value;
-      onChanged();
-      return this;
-    }
-
-    private java.lang.Object vendorLogo_ = "";
-    /**
-     * <code>string vendor_logo = 43;</code>
-     * @return The vendorLogo.
-     */
-    public java.lang.String getVendorLogo() {
-      java.lang.Object ref = vendorLogo_;
-      if (!(ref instanceof java.lang.String)) {
-        com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        vendorLogo_ = s;
-        return s;
-      } else {
-        return (java.lang.String) ref;
-      }
-    }
-    /**
-     * <code>string vendor_logo = 43;</code>
-     * @return The bytes for vendorLogo.
-     */
-    public com.google.protobuf.ByteString
-        getVendorLogoBytes() {
-      java.lang.Object ref = vendorLogo_;
-      if (ref instanceof String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        vendorLogo_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-    /**
-     * <code>string vendor_logo = 43;</code>
-     * @param value The vendorLogo to set.
-     * @return This builder for chaining.
-     */
-    public Builder setVendorLogo(
-        java.lang.String value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  
-      vendorLogo_ = value;
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string vendor_logo = 43;</code>
-     * @return This builder for chaining.
-     */
-    public Builder clearVendorLogo() {
-      
-      vendorLogo_ = getDefaultInstance().getVendorLogo();
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string vendor_logo = 43;</code>
-     * @param value The bytes for vendorLogo to set.
-     * @return This builder for chaining.
-     */
-    public Builder setVendorLogoBytes(
-        com.google.protobuf.ByteString value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-      
-      vendorLogo_ = value;
-      onChanged();
-      return this;
-    }
-
-    private java.lang.Object vendorName_ = "";
-    /**
-     * <code>string vendor_name = 44;</code>
-     * @return The vendorName.
-     */
-    public java.lang.String getVendorName() {
-      java.lang.Object ref = vendorName_;
-      if (!(ref instanceof java.lang.String)) {
-        com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        vendorName_ = s;
-        return s;
-      } else {
-        return (java.lang.String) ref;
-      }
-    }
-    /**
-     * <code>string vendor_name = 44;</code>
-     * @return The bytes for vendorName.
-     */
-    public com.google.protobuf.ByteString
-        getVendorNameBytes() {
-      java.lang.Object ref = vendorName_;
-      if (ref instanceof String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        vendorName_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-    /**
-     * <code>string vendor_name = 44;</code>
-     * @param value The vendorName to set.
-     * @return This builder for chaining.
-     */
-    public Builder setVendorName(
-        java.lang.String value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  
-      vendorName_ = value;
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string vendor_name = 44;</code>
-     * @return This builder for chaining.
-     */
-    public Builder clearVendorName() {
-      
-      vendorName_ = getDefaultInstance().getVendorName();
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string vendor_name = 44;</code>
-     * @param value The bytes for vendorName to set.
-     * @return This builder for chaining.
-     */
-    public Builder setVendorNameBytes(
-        com.google.protobuf.ByteString value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-      
-      vendorName_ = value;
-      onChanged();
-      return this;
-    }
-
-    private java.lang.Object wifi_ = "";
-    /**
-     * <code>string wifi = 45;</code>
-     * @return The wifi.
-     */
-    public java.lang.String getWifi() {
-      java.lang.Object ref = wifi_;
-      if (!(ref instanceof java.lang.String)) {
-        com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        wifi_ = s;
-        return s;
-      } else {
-        return (java.lang.String) ref;
-      }
-    }
-    /**
-     * <code>string wifi = 45;</code>
-     * @return The bytes for wifi.
-     */
-    public com.google.protobuf.ByteString
-        getWifiBytes() {
-      java.lang.Object ref = wifi_;
-      if (ref instanceof String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        wifi_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-    /**
-     * <code>string wifi = 45;</code>
-     * @param value The wifi to set.
-     * @return This builder for chaining.
-     */
-    public Builder setWifi(
-        java.lang.String value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  
-      wifi_ = value;
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string wifi = 45;</code>
-     * @return This builder for chaining.
-     */
-    public Builder clearWifi() {
-      
-      wifi_ = getDefaultInstance().getWifi();
-      onChanged();
-      return this;
-    }
-    /**
-     * <code>string wifi = 45;</code>
-     * @param value The bytes for wifi to set.
-     * @return This builder for chaining.
-     */
-    public Builder setWifiBytes(
-        com.google.protobuf.ByteString value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-      
-      wifi_ = value;
-      onChanged();
-      return this;
-    }
-    @java.lang.Override
-    public final Builder setUnknownFields(
-        final com.google.protobuf.UnknownFieldSet unknownFields) {
-      return super.setUnknownFields(unknownFields);
-    }
-
-    @java.lang.Override
-    public final Builder mergeUnknownFields(
-        final com.google.protobuf.UnknownFieldSet unknownFields) {
-      return super.mergeUnknownFields(unknownFields);
-    }
-
-
-    // @@protoc_insertion_point(builder_scope:flight.Flight)
-  }
-
-  // @@protoc_insertion_point(class_scope:flight.Flight)
-  private static final com.example.springgrpcvirtualthreads.grpc.Flight DEFAULT_INSTANCE;
-  static {
-    DEFAULT_INSTANCE = new com.example.springgrpcvirtualthreads.grpc.Flight();
-  }
-
-  public static com.example.springgrpcvirtualthreads.grpc.Flight getDefaultInstance() {
-    return DEFAULT_INSTANCE;
-  }
-
-  private static final com.google.protobuf.Parser<Flight>
-      PARSER = new com.google.protobuf.AbstractParser<Flight>() {
-    @java.lang.Override
-    public Flight parsePartialFrom(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      Builder builder = newBuilder();
-      try {
-        builder.mergeFrom(input, extensionRegistry);
-      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-        throw e.setUnfinishedMessage(builder.buildPartial());
-      } catch (com.google.protobuf.UninitializedMessageException e) {
-        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
-      } catch (java.io.IOException e) {
-        throw new com.google.protobuf.InvalidProtocolBufferException(e)
-            .setUnfinishedMessage(builder.buildPartial());
-      }
-      return builder.buildPartial();
-    }
-  };
-
-  public static com.google.protobuf.Parser<Flight> parser() {
-    return PARSER;
-  }
-
-  @java.lang.Override
-  public com.google.protobuf.Parser<Flight> getParserForType() {
-    return PARSER;
-  }
-
-  @java.lang.Override
-  public com.example.springgrpcvirtualthreads.grpc.Flight getDefaultInstanceForType() {
-    return DEFAULT_INSTANCE;
-  }
-
-}
-
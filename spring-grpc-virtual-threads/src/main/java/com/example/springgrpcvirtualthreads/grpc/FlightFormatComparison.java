@@ -0,0 +1,100 @@
+package com.example.springgrpcvirtualthreads.grpc;
+
+import com.example.flightcore.model.FlightJsonCodec;
+import com.example.flightcore.model.FlightSnapshot;
+import com.example.flightcore.service.EncodedFlights;
+import com.example.springgrpcvirtualthreads.grpc.v2.FlightV2Protos;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.NopAnnotationIntrospector;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * Encodes and decodes a snapshot as JSON (the REST modules' default body) and as a protobuf
+ * {@link FlightsResponse} in the v1 and {@code flight.v2} schemas, and reports the size, gzipped size and fastest
+ * of {@code flights.formats.runs} encode and decode passes of each. All encodings start from the vendor model.
+ * {@code JSON_DATABIND} is JSON through Jackson's reflective bean binding, the baseline for {@link FlightJsonCodec}.
+ * Measured once per snapshot. The REST modules report CBOR and Smile the same way on {@code /flights/formats}.
+ */
+@Component
+public class FlightFormatComparison {
+
+    @FunctionalInterface
+    private interface Codec {
+        byte[] encode(List<com.example.flightcore.model.Flight> flights) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface Decoder {
+        void decode(byte[] bytes) throws IOException;
+    }
+
+    private final ObjectMapper objectMapper;
+    private final ObjectMapper databindMapper;
+    private final int runs;
+
+    @Autowired
+    public FlightFormatComparison(ObjectMapper objectMapper,
+                                  @Value("${flights.formats.runs:5}") int runs) {
+        this.objectMapper = objectMapper;
+        // Ignores annotations, so Flight is bound by bean introspection instead of FlightJsonCodec.
+        this.databindMapper = objectMapper.copy().setAnnotationIntrospector(NopAnnotationIntrospector.instance);
+        this.runs = Math.max(1, runs);
+    }
+
+    public FormatComparison compare(FlightSnapshot snapshot) {
+        return snapshot.derive(FormatComparison.class, this::measure);
+    }
+
+    private FormatComparison measure(FlightSnapshot snapshot) {
+        List<com.example.flightcore.model.Flight> flights = snapshot.getFlights();
+        JavaType type = objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, com.example.flightcore.model.Flight.class);
+        return FormatComparison.newBuilder()
+                .setSnapshotVersion(snapshot.getVersion())
+                .setFlights(flights.size())
+                .addFormats(measure("JSON", flights, objectMapper::writeValueAsBytes,
+                        bytes -> objectMapper.readValue(bytes, type)))
+                .addFormats(measure("JSON_DATABIND", flights, databindMapper::writeValueAsBytes,
+                        bytes -> databindMapper.readValue(bytes, type)))
+                .addFormats(measure("PROTOBUF", flights, f -> FlightProtos.toResponse(f).toByteArray(),
+                        FlightsResponse::parseFrom))
+                .addFormats(measure("PROTOBUF_V2", flights, f -> FlightV2Protos.toResponse(f).toByteArray(),
+                        com.example.springgrpcvirtualthreads.grpc.v2.FlightsResponse::parseFrom))
+                .build();
+    }
+
+    private FormatStats measure(String format, List<com.example.flightcore.model.Flight> flights,
+                                Codec codec, Decoder decoder) {
+        try {
+            byte[] bytes = null;
+            long encodeNanos = Long.MAX_VALUE;
+            for (int run = 0; run < runs; run++) {
+                long start = System.nanoTime();
+                bytes = codec.encode(flights);
+                encodeNanos = Math.min(encodeNanos, System.nanoTime() - start);
+            }
+            long decodeNanos = Long.MAX_VALUE;
+            for (int run = 0; run < runs; run++) {
+                long start = System.nanoTime();
+                decoder.decode(bytes);
+                decodeNanos = Math.min(decodeNanos, System.nanoTime() - start);
+            }
+            return FormatStats.newBuilder()
+                    .setFormat(format)
+                    .setBytes(bytes.length)
+                    .setGzipBytes(EncodedFlights.gzip(bytes).length)
+                    .setEncodeMillis(encodeNanos / 1e6)
+                    .setDecodeMillis(decodeNanos / 1e6)
+                    .build();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.example.springgrpcvirtualthreads.grpc;
+
+import com.example.flightcore.model.ApiCallLog;
+import com.example.flightcore.model.FlightJsonCodec;
+import com.example.flightcore.model.StringInterner;
+import com.example.flightcore.service.FlightVendorClient;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.bson.Document;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Binds vendor JSON straight into protobuf {@link Flight} builders, without a {@code model.Flight} in between,
+ * and writes the {@code calls_log} entry from the same messages. Reading follows {@link FlightJsonCodec}: unknown
+ * fields are skipped, numbers may be quoted and malformed ones are rejected, nulls leave the proto default, and
+ * the same low-cardinality values are shared through {@link StringInterner#FLIGHT_VALUES}. The log documents have
+ * the shape Spring Data writes for an {@link ApiCallLog}, with empty strings left out as it leaves out nulls.
+ */
+final class FlightMessageReader implements FlightVendorClient.FlightReader<Flight> {
+
+    static final FlightMessageReader INSTANCE = new FlightMessageReader();
+
+    private FlightMessageReader() {
+    }
+
+    @Override
+    public Flight read(JsonParser parser) throws IOException {
+        Flight.Builder flight = Flight.newBuilder();
+        for (JsonToken token = parser.nextToken(); token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+            String name = parser.currentName();
+            parser.nextToken();
+            if (parser.currentToken() == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            switch (name) {
+                case "aircraftType" -> flight.setAircraftType(string(parser));
+                case "airline" -> flight.setAirline(airline(parser));
+                case "arrivalTime" -> flight.setArrivalTime(string(parser));
+                case "baggage" -> flight.setBaggage(string(parser));
+                case "boardingTime" -> flight.setBoardingTime(string(parser));
+                case "cabinClass" -> flight.setCabinClass(interned(parser));
+                case "cancellationPolicy" -> flight.setCancellationPolicy(string(parser));
+                case "changePolicy" -> flight.setChangePolicy(string(parser));
+                case "checkInCounter" -> flight.setCheckInCounter(string(parser));
+                case "covidSafety" -> flight.setCovidSafety(interned(parser));
+                case "date" -> flight.setDate(string(parser));
+                case "departureTime" -> flight.setDepartureTime(string(parser));
+                case "duration" -> flight.setDuration(string(parser));
+                case "ecoFriendly" -> flight.setEcoFriendly(string(parser));
+                case "entertainment" -> flight.setEntertainment(string(parser));
+                case "extraLegroom" -> flight.setExtraLegroom(string(parser));
+                case "fareClass" -> flight.setFareClass(string(parser));
+                case "flightId" -> flight.setFlightId(string(parser));
+                case "flightNumber" -> flight.setFlightNumber(string(parser));
+                case "flightType" -> flight.setFlightType(string(parser));
+                case "from" -> flight.setFrom(string(parser));
+                case "gate" -> flight.setGate(string(parser));
+                case "infantPolicy" -> flight.setInfantPolicy(string(parser));
+                case "lastUpdated" -> flight.setLastUpdated(string(parser));
+                case "layovers" -> layovers(parser, flight);
+                case "loungeAccess" -> flight.setLoungeAccess(string(parser));
+                case "meal" -> flight.setMeal(interned(parser));
+                case "onTimePerformance" -> flight.setOnTimePerformance(string(parser));
+                case "petPolicy" -> flight.setPetPolicy(interned(parser));
+                case "powerOutlet" -> flight.setPowerOutlet(string(parser));
+                case "price" -> flight.setPrice(FlightJsonCodec.intValue(parser));
+                case "priorityBoarding" -> flight.setPriorityBoarding(string(parser));
+                case "rating" -> flight.setRating(FlightJsonCodec.doubleValue(parser));
+                case "recliningAngle" -> flight.setRecliningAngle(string(parser));
+                case "reviewsCount" -> flight.setReviewsCount(FlightJsonCodec.intValue(parser));
+                case "seatPitch" -> flight.setSeatPitch(string(parser));
+                case "seatType" -> flight.setSeatType(interned(parser));
+                case "seatWidth" -> flight.setSeatWidth(string(parser));
+                case "terminal" -> flight.setTerminal(string(parser));
+                case "to" -> flight.setTo(string(parser));
+                case "totalStops" -> flight.setTotalStops(FlightJsonCodec.intValue(parser));
+                case "usbPort" -> flight.setUsbPort(string(parser));
+                case "vendor_logo" -> flight.setVendorLogo(interned(parser));
+                case "vendor_name" -> flight.setVendorName(interned(parser));
+                case "wifi" -> flight.setWifi(interned(parser));
+                default -> parser.skipChildren();
+            }
+        }
+        return flight.build();
+    }
+
+    @Override
+    public Document callLog(String endpoint, List<Flight> flights) {
+        List<Document> documents = new ArrayList<>(flights.size());
+        for (Flight flight : flights) {
+            documents.add(document(flight));
+        }
+        return new Document("timestamp", Date.from(Instant.now()))
+                .append("endpoint", endpoint)
+                .append("flights", documents)
+                .append("_class", ApiCallLog.class.getName());
+    }
+
+    private static Airline airline(JsonParser parser) throws IOException {
+        expect(parser, JsonToken.START_OBJECT);
+        Airline.Builder airline = Airline.newBuilder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            parser.nextToken();
+            if (parser.currentToken() == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            switch (name) {
+                case "logo" -> airline.setLogo(string(parser));
+                case "name" -> airline.setName(interned(parser));
+                default -> parser.skipChildren();
+            }
+        }
+        return airline.build();
+    }
+
+    private static void layovers(JsonParser parser, Flight.Builder flight) throws IOException {
+        expect(parser, JsonToken.START_ARRAY);
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            // Protobuf lists cannot hold null.
+            if (parser.currentToken() != JsonToken.VALUE_NULL) {
+                flight.addLayovers(string(parser));
+            }
+        }
+    }
+
+    private static String interned(JsonParser parser) throws IOException {
+        return StringInterner.FLIGHT_VALUES.intern(string(parser));
+    }
+
+    private static String string(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_STRING) {
+            return parser.getText();
+        }
+        if (token.isScalarValue()) {
+            return parser.getValueAsString();
+        }
+        throw new JsonParseException(parser, "Expected a string value, got " + token);
+    }
+
+    private static void expect(JsonParser parser, JsonToken expected) throws IOException {
+        if (parser.currentToken() != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + ", got " + parser.currentToken());
+        }
+    }
+
+    private static Document document(Flight f) {
+        Document document = new Document();
+        put(document, "aircraftType", f.getAircraftType());
+        if (f.hasAirline()) {
+            Document airline = new Document();
+            put(airline, "logo", f.getAirline().getLogo());
+            put(airline, "name", f.getAirline().getName());
+            document.append("airline", airline);
+        }
+        put(document, "arrivalTime", f.getArrivalTime());
+        put(document, "baggage", f.getBaggage());
+        put(document, "boardingTime", f.getBoardingTime());
+        put(document, "cabinClass", f.getCabinClass());
+        put(document, "cancellationPolicy", f.getCancellationPolicy());
+        put(document, "changePolicy", f.getChangePolicy());
+        put(document, "checkInCounter", f.getCheckInCounter());
+        put(document, "covidSafety", f.getCovidSafety());
+        put(document, "date", f.getDate());
+        put(document, "departureTime", f.getDepartureTime());
+        put(document, "duration", f.getDuration());
+        put(document, "ecoFriendly", f.getEcoFriendly());
+        put(document, "entertainment", f.getEntertainment());
+        put(document, "extraLegroom", f.getExtraLegroom());
+        put(document, "fareClass", f.getFareClass());
+        put(document, "flightId", f.getFlightId());
+        put(document, "flightNumber", f.getFlightNumber());
+        put(document, "flightType", f.getFlightType());
+        put(document, "from", f.getFrom());
+        put(document, "gate", f.getGate());
+        put(document, "infantPolicy", f.getInfantPolicy());
+        put(document, "lastUpdated", f.getLastUpdated());
+        if (f.getLayoversCount() > 0) {
+            document.append("layovers", f.getLayoversList());
+        }
+        put(document, "loungeAccess", f.getLoungeAccess());
+        put(document, "meal", f.getMeal());
+        put(document, "onTimePerformance", f.getOnTimePerformance());
+        put(document, "petPolicy", f.getPetPolicy());
+        put(document, "powerOutlet", f.getPowerOutlet());
+        document.append("price", f.getPrice());
+        put(document, "priorityBoarding", f.getPriorityBoarding());
+        document.append("rating", f.getRating());
+        put(document, "recliningAngle", f.getRecliningAngle());
+        document.append("reviewsCount", f.getReviewsCount());
+        put(document, "seatPitch", f.getSeatPitch());
+        put(document, "seatType", f.getSeatType());
+        put(document, "seatWidth", f.getSeatWidth());
+        put(document, "terminal", f.getTerminal());
+        put(document, "to", f.getTo());
+        document.append("totalStops", f.getTotalStops());
+        put(document, "usbPort", f.getUsbPort());
+        put(document, "vendor_logo", f.getVendorLogo());
+        put(document, "vendor_name", f.getVendorName());
+        put(document, "wifi", f.getWifi());
+        return document;
+    }
+
+    private static void put(Document document, String name, String value) {
+        if (!value.isEmpty()) {
+            document.append(name, value);
+        }
+    }
+}
@@ -1,541 +0,0 @@
-// Generated by the protocol buffer compiler.  DO NOT EDIT!
-// source: flights.proto
-
-package com.example.springgrpcvirtualthreads.grpc;
-
-public interface FlightOrBuilder extends
-    // @@protoc_insertion_point(interface_extends:flight.Flight)
-    com.google.protobuf.MessageOrBuilder {
-
-  /**
-   * <code>string aircraftType = 1;</code>
-   * @return The aircraftType.
-   */
-  java.lang.String getAircraftType();
-  /**
-   * <code>string aircraftType = 1;</code>
-   * @return The bytes for aircraftType.
-   */
-  com.google.protobuf.ByteString
-      getAircraftTypeBytes();
-
-  /**
-   * <code>.flight.Airline airline = 2;</code>
-   * @return Whether the airline field is set.
-   */
-  boolean hasAirline();
-  /**
-   * <code>.flight.Airline airline = 2;</code>
-   * @return The airline.
-   */
-  com.example.springgrpcvirtualthreads.grpc.Airline getAirline();
-  /**
-   * <code>.flight.Airline airline = 2;</code>
-   */
-  com.example.springgrpcvirtualthreads.grpc.AirlineOrBuilder getAirlineOrBuilder();
-
-  /**
-   * <code>string arrivalTime = 3;</code>
-   * @return The arrivalTime.
-   */
-  java.lang.String getArrivalTime();
-  /**
-   * <code>string arrivalTime = 3;</code>
-   * @return The bytes for arrivalTime.
-   */
-  com.google.protobuf.ByteString
-      getArrivalTimeBytes();
-
-  /**
-   * <code>string baggage = 4;</code>
-   * @return The baggage.
-   */
-  java.lang.String getBaggage();
-  /**
-   * <code>string baggage = 4;</code>
-   * @return The bytes for baggage.
-   */
-  com.google.protobuf.ByteString
-      getBaggageBytes();
-
-  /**
-   * <code>string boardingTime = 5;</code>
-   * @return The boardingTime.
-   */
-  java.lang.String getBoardingTime();
-  /**
-   * <code>string boardingTime = 5;</code>
-   * @return The bytes for boardingTime.
-   */
-  com.google.protobuf.ByteString
-      getBoardingTimeBytes();
-
-  /**
-   * <code>string cabinClass = 6;</code>
-   * @return The cabinClass.
-   */
-  java.lang.String getCabinClass();
-  /**
-   * <code>string cabinClass = 6;</code>
-   * @return The bytes for cabinClass.
-   */
-  com.google.protobuf.ByteString
-      getCabinClassBytes();
-
-  /**
-   * <code>string cancellationPolicy = 7;</code>
-   * @return The cancellationPolicy.
-   */
-  java.lang.String getCancellationPolicy();
-  /**
-   * <code>string cancellationPolicy = 7;</code>
-   * @return The bytes for cancellationPolicy.
-   */
-  com.google.protobuf.ByteString
-      getCancellationPolicyBytes();
-
-  /**
-   * <code>string changePolicy = 8;</code>
-   * @return The changePolicy.
-   */
-  java.lang.String getChangePolicy();
-  /**
-   * <code>string changePolicy = 8;</code>
-   * @return The bytes for changePolicy.
-   */
-  com.google.protobuf.ByteString
-      getChangePolicyBytes();
-
-  /**
-   * <code>string checkInCounter = 9;</code>
-   * @return The checkInCounter.
-   */
-  java.lang.String getCheckInCounter();
-  /**
-   * <code>string checkInCounter = 9;</code>
-   * @return The bytes for checkInCounter.
-   */
-  com.google.protobuf.ByteString
-      getCheckInCounterBytes();
-
-  /**
-   * <code>string covidSafety = 10;</code>
-   * @return The covidSafety.
-   */
-  java.lang.String getCovidSafety();
-  /**
-   * <code>string covidSafety = 10;</code>
-   * @return The bytes for covidSafety.
-   */
-  com.google.protobuf.ByteString
-      getCovidSafetyBytes();
-
-  /**
-   * <code>string date = 11;</code>
-   * @return The date.
-   */
-  java.lang.String getDate();
-  /**
-   * <code>string date = 11;</code>
-   * @return The bytes for date.
-   */
-  com.google.protobuf.ByteString
-      getDateBytes();
-
-  /**
-   * <code>string departureTime = 12;</code>
-   * @return The departureTime.
-   */
-  java.lang.String getDepartureTime();
-  /**
-   * <code>string departureTime = 12;</code>
-   * @return The bytes for departureTime.
-   */
-  com.google.protobuf.ByteString
-      getDepartureTimeBytes();
-
-  /**
-   * <code>string duration = 13;</code>
-   * @return The duration.
-   */
-  java.lang.String getDuration();
-  /**
-   * <code>string duration = 13;</code>
-   * @return The bytes for duration.
-   */
-  com.google.protobuf.ByteString
-      getDurationBytes();
-
-  /**
-   * <code>string ecoFriendly = 14;</code>
-   * @return The ecoFriendly.
-   */
-  java.lang.String getEcoFriendly();
-  /**
-   * <code>string ecoFriendly = 14;</code>
-   * @return The bytes for ecoFriendly.
-   */
-  com.google.protobuf.ByteString
-      getEcoFriendlyBytes();
-
-  /**
-   * <code>string entertainment = 15;</code>
-   * @return The entertainment.
-   */
-  java.lang.String getEntertainment();
-  /**
-   * <code>string entertainment = 15;</code>
-   * @return The bytes for entertainment.
-   */
-  com.google.protobuf.ByteString
-      getEntertainmentBytes();
-
-  /**
-   * <code>string extraLegroom = 16;</code>
-   * @return The extraLegroom.
-   */
-  java.lang.String getExtraLegroom();
-  /**
-   * <code>string extraLegroom = 16;</code>
-   * @return The bytes for extraLegroom.
-   */
-  com.google.protobuf.ByteString
-      getExtraLegroomBytes();
-
-  /**
-   * <code>string fareClass = 17;</code>
-   * @return The fareClass.
-   */
-  java.lang.String getFareClass();
-  /**
-   * <code>string fareClass = 17;</code>
-   * @return The bytes for fareClass.
-   */
-  com.google.protobuf.ByteString
-      getFareClassBytes();
-
-  /**
-   * <code>string flightId = 18;</code>
-   * @return The flightId.
-   */
-  java.lang.String getFlightId();
-  /**
-   * <code>string flightId = 18;</code>
-   * @return The bytes for flightId.
-   */
-  com.google.protobuf.ByteString
-      getFlightIdBytes();
-
-  /**
-   * <code>string flightNumber = 19;</code>
-   * @return The flightNumber.
-   */
-  java.lang.String getFlightNumber();
-  /**
-   * <code>string flightNumber = 19;</code>
-   * @return The bytes for flightNumber.
-   */
-  com.google.protobuf.ByteString
-      getFlightNumberBytes();
-
-  /**
-   * <code>string flightType = 20;</code>
-   * @return The flightType.
-   */
-  java.lang.String getFlightType();
-  /**
-   * <code>string flightType = 20;</code>
-   * @return The bytes for flightType.
-   */
-  com.google.protobuf.ByteString
-      getFlightTypeBytes();
-
-  /**
-   * <code>string from = 21;</code>
-   * @return The from.
-   */
-  java.lang.String getFrom();
-  /**
-   * <code>string from = 21;</code>
-   * @return The bytes for from.
-   */
-  com.google.protobuf.ByteString
-      getFromBytes();
-
-  /**
-   * <code>string gate = 22;</code>
-   * @return The gate.
-   */
-  java.lang.String getGate();
-  /**
-   * <code>string gate = 22;</code>
-   * @return The bytes for gate.
-   */
-  com.google.protobuf.ByteString
-      getGateBytes();
-
-  /**
-   * <code>string infantPolicy = 23;</code>
-   * @return The infantPolicy.
-   */
-  java.lang.String getInfantPolicy();
-  /**
-   * <code>string infantPolicy = 23;</code>
-   * @return The bytes for infantPolicy.
-   */
-  com.google.protobuf.ByteString
-      getInfantPolicyBytes();
-
-  /**
-   * <code>string lastUpdated = 24;</code>
-   * @return The lastUpdated.
-   */
-  java.lang.String getLastUpdated();
-  /**
-   * <code>string lastUpdated = 24;</code>
-   * @return The bytes for lastUpdated.
-   */
-  com.google.protobuf.ByteString
-      getLastUpdatedBytes();
-
-  /**
-   * <code>repeated string layovers = 25;</code>
-   * @return A list containing the layovers.
-   */
-  java.util.List<java.lang.String>
-      getLayoversList();
-  /**
-   * <code>repeated string layovers = 25;</code>
-   * @return The count of layovers.
-   */
-  int getLayoversCount();
-  /**
-   * <code>repeated string layovers = 25;</code>
-   * @param index The index of the element to return.
-   * @return The layovers at the given index.
-   */
-  java.lang.String getLayovers(int index);
-  /**
-   * <code>repeated string layovers = 25;</code>
-   * @param index The index of the value to return.
-   * @return The bytes of the layovers at the given index.
-   */
-  com.google.protobuf.ByteString
-      getLayoversBytes(int index);
-
-  /**
-   * <code>string loungeAccess = 26;</code>
-   * @return The loungeAccess.
-   */
-  java.lang.String getLoungeAccess();
-  /**
-   * <code>string loungeAccess = 26;</code>
-   * @return The bytes for loungeAccess.
-   */
-  com.google.protobuf.ByteString
-      getLoungeAccessBytes();
-
-  /**
-   * <code>string meal = 27;</code>
-   * @return The meal.
-   */
-  java.lang.String getMeal();
-  /**
-   * <code>string meal = 27;</code>
-   * @return The bytes for meal.
-   */
-  com.google.protobuf.ByteString
-      getMealBytes();
-
-  /**
-   * <code>string onTimePerformance = 28;</code>
-   * @return The onTimePerformance.
-   */
-  java.lang.String getOnTimePerformance();
-  /**
-   * <code>string onTimePerformance = 28;</code>
-   * @return The bytes for onTimePerformance.
-   */
-  com.google.protobuf.ByteString
-      getOnTimePerformanceBytes();
-
-  /**
-   * <code>string petPolicy = 29;</code>
-   * @return The petPolicy.
-   */
-  java.lang.String getPetPolicy();
-  /**
-   * <code>string petPolicy = 29;</code>
-   * @return The bytes for petPolicy.
-   */
-  com.google.protobuf.ByteString
-      getPetPolicyBytes();
-
-  /**
-   * <code>string powerOutlet = 30;</code>
-   * @return The powerOutlet.
-   */
-  java.lang.String getPowerOutlet();
-  /**
-   * <code>string powerOutlet = 30;</code>
-   * @return The bytes for powerOutlet.
-   */
-  com.google.protobuf.ByteString
-      getPowerOutletBytes();
-
-  /**
-   * <code>int32 price = 31;</code>
-   * @return The price.
-   */
-  int getPrice();
-
-  /**
-   * <code>string priorityBoarding = 32;</code>
-   * @return The priorityBoarding.
-   */
-  java.lang.String getPriorityBoarding();
-  /**
-   * <code>string priorityBoarding = 32;</code>
-   * @return The bytes for priorityBoarding.
-   */
-  com.google.protobuf.ByteString
-      getPriorityBoardingBytes();
-
-  /**
-   * <code>double rating = 33;</code>
-   * @return The rating.
-   */
-  double getRating();
-
-  /**
-   * <code>string recliningAngle = 34;</code>
-   * @return The recliningAngle.
-   */
-  java.lang.String getRecliningAngle();
-  /**
-   * <code>string recliningAngle = 34;</code>
-   * @return The bytes for recliningAngle.
-   */
-  com.google.protobuf.ByteString
-      getRecliningAngleBytes();
-
-  /**
-   * <code>int32 reviewsCount = 35;</code>
-   * @return The reviewsCount.
-   */
-  int getReviewsCount();
-
-  /**
-   * <code>string seatPitch = 36;</code>
-   * @return The seatPitch.
-   */
-  java.lang.String getSeatPitch();
-  /**
-   * <code>string seatPitch = 36;</code>
-   * @return The bytes for seatPitch.
-   */
-  com.google.protobuf.ByteString
-      getSeatPitchBytes();
-
-  /**
-   * <code>string seatType = 37;</code>
-   * @return The seatType.
-   */
-  java.lang.String getSeatType();
-  /**
-   * <code>string seatType = 37;</code>
-   * @return The bytes for seatType.
-   */
-  com.google.protobuf.ByteString
-      getSeatTypeBytes();
-
-  /**
-   * <code>string seatWidth = 38;</code>
-   * @return The seatWidth.
-   */
-  java.lang.String getSeatWidth();
-  /**
-   * <code>string seatWidth = 38;</code>
-   * @return The bytes for seatWidth.
-   */
-  com.google.protobuf.ByteString
-      getSeatWidthBytes();
-
-  /**
-   * <code>string terminal = 39;</code>
-   * @return The terminal.
-   */
-  java.lang.String getTerminal();
-  /**
-   * <code>string terminal = 39;</code>
-   * @return The bytes for terminal.
-   */
-  com.google.protobuf.ByteString
-      getTerminalBytes();
-
-  /**
-   * <code>string to = 40;</code>
-   * @return The to.
-   */
-  java.lang.String getTo();
-  /**
-   * <code>string to = 40;</code>
-   * @return The bytes for to.
-   */
-  com.google.protobuf.ByteString
-      getToBytes();
-
-  /**
-   * <code>int32 totalStops = 41;</code>
-   * @return The totalStops.
-   */
-  int getTotalStops();
-
-  /**
-   * <code>string usbPort = 42;</code>
-   * @return The usbPort.
-   */
-  java.lang.String getUsbPort();
-  /**
-   * <code>string usbPort = 42;</code>
-   * @return The bytes for usbPort.
-   */
-  com.google.protobuf.ByteString
-      getUsbPortBytes();
-
-  /**
-   * <code>string vendor_logo = 43;</code>
-   * @return The vendorLogo.
-   */
-  java.lang.String getVendorLogo();
-  /**
-   * <code>string vendor_logo = 43;</code>
-   * @return The bytes for vendorLogo.
-   */
-  com.google.protobuf.ByteString
-      getVendorLogoBytes();
-
-  /**
-   * <code>string vendor_name = 44;</code>
-   * @return The vendorName.
-   */
-  java.lang.String getVendorName();
-  /**
-   * <code>string vendor_name = 44;</code>
-   * @return The bytes for vendorName.
-   */
-  com.google.protobuf.ByteString
-      getVendorNameBytes();
-
-  /**
-   * <code>string wifi = 45;</code>
-   * @return The wifi.
-   */
-  java.lang.String getWifi();
-  /**
-   * <code>string wifi = 45;</code>
-   * @return The bytes for wifi.
-   */
-  com.google.protobuf.ByteString
-      getWifiBytes();
-}
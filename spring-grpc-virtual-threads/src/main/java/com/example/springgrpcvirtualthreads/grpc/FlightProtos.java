@@ -0,0 +1,88 @@
+package com.example.springgrpcvirtualthreads.grpc;
+
+import java.util.List;
+
+/**
+ * Conversion of the vendor model into the generated protobuf messages.
+ */
+final class FlightProtos {
+
+    private FlightProtos() {
+    }
+
+    static FlightsResponse toResponse(List<com.example.flightcore.model.Flight> flights) {
+        FlightsResponse.Builder builder = FlightsResponse.newBuilder();
+        flights.forEach(f -> builder.addFlights(convert(f)));
+        return builder.build();
+    }
+
+    // Conversion from model.Flight to protobuf Flight
+    static Flight convert(com.example.flightcore.model.Flight f) {
+        Flight.Builder builder = Flight.newBuilder()
+            .setAircraftType(defaultStr(f.getAircraftType()))
+            .setArrivalTime(defaultStr(f.getArrivalTime()))
+            .setBaggage(defaultStr(f.getBaggage()))
+            .setBoardingTime(defaultStr(f.getBoardingTime()))
+            .setCabinClass(defaultStr(f.getCabinClass()))
+            .setCancellationPolicy(defaultStr(f.getCancellationPolicy()))
+            .setChangePolicy(defaultStr(f.getChangePolicy()))
+            .setCheckInCounter(defaultStr(f.getCheckInCounter()))
+            .setCovidSafety(defaultStr(f.getCovidSafety()))
+            .setDate(defaultStr(f.getDate()))
+            .setDepartureTime(defaultStr(f.getDepartureTime()))
+            .setDuration(defaultStr(f.getDuration()))
+            .setEcoFriendly(defaultStr(f.getEcoFriendly()))
+            .setEntertainment(defaultStr(f.getEntertainment()))
+            .setExtraLegroom(defaultStr(f.getExtraLegroom()))
+            .setFareClass(defaultStr(f.getFareClass()))
+            .setFlightId(defaultStr(f.getFlightId()))
+            .setFlightNumber(defaultStr(f.getFlightNumber()))
+            .setFlightType(defaultStr(f.getFlightType()))
+            .setFrom(defaultStr(f.getFrom()))
+            .setGate(defaultStr(f.getGate()))
+            .setInfantPolicy(defaultStr(f.getInfantPolicy()))
+            .setLastUpdated(defaultStr(f.getLastUpdated()))
+            .setLoungeAccess(defaultStr(f.getLoungeAccess()))
+            .setMeal(defaultStr(f.getMeal()))
+            .setOnTimePerformance(defaultStr(f.getOnTimePerformance()))
+            .setPetPolicy(defaultStr(f.getPetPolicy()))
+            .setPowerOutlet(defaultStr(f.getPowerOutlet()))
+            .setPrice(f.getPrice())
+            .setPriorityBoarding(defaultStr(f.getPriorityBoarding()))
+            .setRating(f.getRating())
+            .setRecliningAngle(defaultStr(f.getRecliningAngle()))
+            .setReviewsCount(f.getReviewsCount())
+            .setSeatPitch(defaultStr(f.getSeatPitch()))
+            .setSeatType(defaultStr(f.getSeatType()))
+            .setSeatWidth(defaultStr(f.getSeatWidth()))
+            .setTerminal(defaultStr(f.getTerminal()))
+            .setTo(defaultStr(f.getTo()))
+            .setTotalStops(f.getTotalStops())
+            .setUsbPort(defaultStr(f.getUsbPort()))
+            .setVendorLogo(defaultStr(f.getVendor_logo()))
+            .setVendorName(defaultStr(f.getVendor_name()))
+            .setWifi(defaultStr(f.getWifi()));
+
+        if (f.getAirline() != null) {
+            builder.setAirline(
+                Airline.newBuilder()
+                    .setLogo(defaultStr(f.getAirline().getLogo()))
+                    .setName(defaultStr(f.getAirline().getName()))
+                    .build()
+            );
+        }
+        if (f.getLayovers() != null) {
+            for (String layover : f.getLayovers()) {
+                // Protobuf lists cannot hold null.
+                if (layover != null) {
+                    builder.addLayovers(layover);
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    private static String defaultStr(String s) {
+        return s == null ? "" : s;
+    }
+}
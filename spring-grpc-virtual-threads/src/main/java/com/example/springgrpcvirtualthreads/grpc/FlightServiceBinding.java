@@ -0,0 +1,54 @@
+package com.example.springgrpcvirtualthreads.grpc;
+
+import io.grpc.BindableService;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerMethodDefinition;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.ServiceDescriptor;
+import io.grpc.stub.ServerCalls;
+import net.devh.boot.grpc.server.service.GrpcService;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Binds {@link FlightServiceGrpcImpl} with a response marshaller for {@code GetFlights} that writes the
+ * snapshot's pre-serialized {@link PrebuiltFlights} bytes; the other methods keep the generated binding.
+ * The generated {@code bindService()} is final, so the rebinding happens here rather than in the service itself.
+ */
+@GrpcService
+public class FlightServiceBinding implements BindableService {
+
+    private final FlightServiceGrpcImpl service;
+
+    @Autowired
+    public FlightServiceBinding(FlightServiceGrpcImpl service) {
+        this.service = service;
+    }
+
+    @Override
+    public ServerServiceDefinition bindService() {
+        ServerServiceDefinition generated = service.bindService();
+        MethodDescriptor<com.google.protobuf.Empty, FlightsResponse> getFlights = FlightServiceGrpc.getGetFlightsMethod();
+        MethodDescriptor<com.google.protobuf.Empty, PrebuiltFlights> prebuiltGetFlights = getFlights
+                .toBuilder(getFlights.getRequestMarshaller(), PrebuiltFlights.MARSHALLER)
+                .build();
+        ServiceDescriptor.Builder descriptor = ServiceDescriptor.newBuilder(FlightServiceGrpc.SERVICE_NAME)
+                .setSchemaDescriptor(generated.getServiceDescriptor().getSchemaDescriptor());
+        List<ServerMethodDefinition<?, ?>> methods = new ArrayList<>();
+        for (ServerMethodDefinition<?, ?> method : generated.getMethods()) {
+            if (method.getMethodDescriptor().getFullMethodName().equals(getFlights.getFullMethodName())) {
+                method = ServerMethodDefinition.create(prebuiltGetFlights,
+                        ServerCalls.asyncUnaryCall(service::getPrebuiltFlights));
+            }
+            descriptor.addMethod(method.getMethodDescriptor());
+            methods.add(method);
+        }
+        ServerServiceDefinition.Builder binding = ServerServiceDefinition.builder(descriptor.build());
+        for (ServerMethodDefinition<?, ?> method : methods) {
+            binding.addMethod(method);
+        }
+        return binding.build();
+    }
+}
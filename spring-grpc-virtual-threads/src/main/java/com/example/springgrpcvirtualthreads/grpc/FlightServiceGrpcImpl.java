@@ -1,102 +1,194 @@
 package com.example.springgrpcvirtualthreads.grpc;
 
-import com.example.springgrpcvirtualthreads.model.Flight;
+import com.example.flightcore.model.FlightIndex;
+import com.example.flightcore.model.FlightPage;
+import com.example.flightcore.model.FlightQuery;
+import com.example.flightcore.model.FlightSnapshot;
 import com.example.springgrpcvirtualthreads.service.FlightService;
-import flight.FlightOuterClass;
-import flight.FlightServiceGrpc;
-import flight.FlightOuterClass.FlightsResponse;
+import com.example.flightcore.service.InvalidFlightQueryException;
+import com.example.flightcore.service.VendorOverloadedException;
+import com.google.protobuf.FieldMask;
+import com.google.protobuf.util.FieldMaskUtil;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
-import lombok.RequiredArgsConstructor;
-import net.devh.boot.grpc.server.service.GrpcService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Component;
 
-import java.util.List;
+import java.util.concurrent.CancellationException;
 
-@GrpcService
-@RequiredArgsConstructor
+/**
+ * Handlers of the v1 {@code FlightService}; exposed to the gRPC server through {@link FlightServiceBinding}.
+ */
+@Component
 public class FlightServiceGrpcImpl extends FlightServiceGrpc.FlightServiceImplBase {
 
     private final FlightService flightService;
+    private final FlightFormatComparison formatComparison;
+    private final FlowControlledStreams streams;
+    private final TaskExecutor streamExecutor;
+    private final GrpcExceptionAdvice exceptionAdvice;
+    private final FlightWatchHub watchHub;
 
+    @Autowired
+    public FlightServiceGrpcImpl(FlightService flightService,
+                                 FlightFormatComparison formatComparison,
+                                 FlowControlledStreams streams,
+                                 @Qualifier("flightStreamExecutor") TaskExecutor streamExecutor,
+                                 GrpcExceptionAdvice exceptionAdvice,
+                                 FlightWatchHub watchHub) {
+        this.flightService = flightService;
+        this.formatComparison = formatComparison;
+        this.streams = streams;
+        this.streamExecutor = streamExecutor;
+        this.exceptionAdvice = exceptionAdvice;
+        this.watchHub = watchHub;
+    }
+
+    /**
+     * {@code GetFlights} as bound by {@link FlightServiceBinding}: writes the snapshot's pre-serialized bytes.
+     */
+    void getPrebuiltFlights(com.google.protobuf.Empty request, StreamObserver<PrebuiltFlights> responseObserver) {
+        responseObserver.onNext(PrebuiltFlights.of(flightService.getSnapshot()));
+        responseObserver.onCompleted();
+    }
+
+    /**
+     * Only reached through the generated binding; {@link FlightServiceBinding} serves {@code GetFlights} from the
+     * pre-serialized bytes.
+     */
     @Override
     public void getFlights(com.google.protobuf.Empty request, StreamObserver<FlightsResponse> responseObserver) {
-        List<Flight> flights = flightService.getFlights();
-        FlightsResponse.Builder builder = FlightsResponse.newBuilder();
-        flights.forEach(f -> builder.addFlights(convert(f)));
-        responseObserver.onNext(builder.build());
+        responseObserver.onNext(PrebuiltFlights.of(flightService.getSnapshot()).response());
         responseObserver.onCompleted();
     }
 
+    /**
+     * Sends the pre-built messages of the cached snapshot when one can be served without waiting; otherwise
+     * sends each flight as soon as it is parsed from the vendor, straight into protobuf (see
+     * {@link FlightMessageReader}). Either way it only sends while the client keeps up
+     * (see {@link FlowControlledStreams}), from its own thread so this method returns at once;
+     * a cancelled call stops it and drops the vendor connection, also while it is still waiting for the vendor.
+     */
     @Override
-    public void streamFlights(com.google.protobuf.Empty request, StreamObserver<FlightOuterClass.Flight> responseObserver) {
-        List<Flight> flights = flightService.getFlights();
-        for (Flight f : flights) {
-            responseObserver.onNext(convert(f));
+    public void streamFlights(com.google.protobuf.Empty request, StreamObserver<Flight> responseObserver) {
+        FlowControlledStreams.Stream<Flight> stream =
+                streams.open((ServerCallStreamObserver<Flight>) responseObserver);
+        try {
+            streamExecutor.execute(() -> {
+                // A cancel that arrives while this thread waits on the vendor, e.g. before the first flight,
+                // interrupts it; on a virtual thread that closes the vendor socket.
+                Thread producer = Thread.currentThread();
+                stream.onCancel(producer::interrupt);
+                try {
+                    FlightSnapshot snapshot = flightService.getSnapshotIfPresent();
+                    if (snapshot != null) {
+                        for (Flight message : PrebuiltFlights.of(snapshot).messages()) {
+                            stream.send(message);
+                        }
+                    } else {
+                        flightService.streamFlights(FlightMessageReader.INSTANCE, stream::send);
+                    }
+                    stream.complete();
+                } catch (CancellationException e) {
+                    // Already ended if the client cancelled; otherwise do not let a partial list look complete.
+                    stream.fail(Status.CANCELLED.withDescription(e.getMessage()));
+                } catch (RuntimeException e) {
+                    stream.fail(status(e));
+                }
+            });
+        } catch (TaskRejectedException e) {
+            stream.fail(Status.RESOURCE_EXHAUSTED.withDescription(e.getMessage()).withCause(e));
         }
-        responseObserver.onCompleted();
     }
 
-    // Conversion from model.Flight to protobuf Flight
-    private FlightOuterClass.Flight convert(Flight f) {
-        FlightOuterClass.Flight.Builder builder = FlightOuterClass.Flight.newBuilder()
-            .setAircraftType(defaultStr(f.getAircraftType()))
-            .setArrivalTime(defaultStr(f.getArrivalTime()))
-            .setBaggage(defaultStr(f.getBaggage()))
-            .setBoardingTime(defaultStr(f.getBoardingTime()))
-            .setCabinClass(defaultStr(f.getCabinClass()))
-            .setCancellationPolicy(defaultStr(f.getCancellationPolicy()))
-            .setChangePolicy(defaultStr(f.getChangePolicy()))
-            .setCheckInCounter(defaultStr(f.getCheckInCounter()))
-            .setCovidSafety(defaultStr(f.getCovidSafety()))
-            .setDate(defaultStr(f.getDate()))
-            .setDepartureTime(defaultStr(f.getDepartureTime()))
-            .setDuration(defaultStr(f.getDuration()))
-            .setEcoFriendly(defaultStr(f.getEcoFriendly()))
-            .setEntertainment(defaultStr(f.getEntertainment()))
-            .setExtraLegroom(defaultStr(f.getExtraLegroom()))
-            .setFareClass(defaultStr(f.getFareClass()))
-            .setFlightId(defaultStr(f.getFlightId()))
-            .setFlightNumber(defaultStr(f.getFlightNumber()))
-            .setFlightType(defaultStr(f.getFlightType()))
-            .setFrom(defaultStr(f.getFrom()))
-            .setGate(defaultStr(f.getGate()))
-            .setInfantPolicy(defaultStr(f.getInfantPolicy()))
-            .setLastUpdated(defaultStr(f.getLastUpdated()))
-            .setLoungeAccess(defaultStr(f.getLoungeAccess()))
-            .setMeal(defaultStr(f.getMeal()))
-            .setOnTimePerformance(defaultStr(f.getOnTimePerformance()))
-            .setPetPolicy(defaultStr(f.getPetPolicy()))
-            .setPowerOutlet(defaultStr(f.getPowerOutlet()))
-            .setPrice(f.getPrice())
-            .setPriorityBoarding(defaultStr(f.getPriorityBoarding()))
-            .setRating(f.getRating())
-            .setRecliningAngle(defaultStr(f.getRecliningAngle()))
-            .setReviewsCount(f.getReviewsCount())
-            .setSeatPitch(defaultStr(f.getSeatPitch()))
-            .setSeatType(defaultStr(f.getSeatType()))
-            .setSeatWidth(defaultStr(f.getSeatWidth()))
-            .setTerminal(defaultStr(f.getTerminal()))
-            .setTo(defaultStr(f.getTo()))
-            .setTotalStops(f.getTotalStops())
-            .setUsbPort(defaultStr(f.getUsbPort()))
-            .setVendorLogo(defaultStr(f.getVendor_logo()))
-            .setVendorName(defaultStr(f.getVendor_name()))
-            .setWifi(defaultStr(f.getWifi()));
+    @Override
+    public void topFlights(TopFlightsRequest request, StreamObserver<FlightsResponse> responseObserver) {
+        FlightIndex.Ranking ranking = request.getRanking() == TopFlightsRanking.BEST_RATED
+                ? FlightIndex.Ranking.BEST_RATED : FlightIndex.Ranking.CHEAPEST;
+        int k = request.getK() == 0 ? 10 : request.getK();
+        // One snapshot for both the ranking and the pre-built messages it reuses.
+        FlightSnapshot snapshot = flightService.getSnapshot();
+        responseObserver.onNext(PrebuiltFlights.of(snapshot).toResponse(flightService.top(
+                snapshot, emptyToNull(request.getFrom()), emptyToNull(request.getTo()), ranking, k)));
+        responseObserver.onCompleted();
+    }
 
-        if (f.getAirline() != null) {
-            builder.setAirline(
-                FlightOuterClass.Airline.newBuilder()
-                    .setLogo(defaultStr(f.getAirline().getLogo()))
-                    .setName(defaultStr(f.getAirline().getName()))
-                    .build()
-            );
+    /**
+     * One page of flights matching the request, answered from the current snapshot's index. Only the page's
+     * flights are sent, reduced to the fields in {@code fieldMask} when it is set.
+     */
+    @Override
+    public void searchFlights(SearchFlightsRequest request, StreamObserver<SearchFlightsResponse> responseObserver) {
+        FieldMask mask = FieldMaskUtil.normalize(request.getFieldMask());
+        if (!FieldMaskUtil.isValid(Flight.getDescriptor(), mask)) {
+            throw new InvalidFlightQueryException(
+                    "fieldMask names a field that Flight does not have: " + mask.getPathsList());
+        }
+        FlightQuery query = new FlightQuery(
+                emptyToNull(request.getFrom()),
+                emptyToNull(request.getTo()),
+                emptyToNull(request.getDate()),
+                emptyToNull(request.getCabinClass()),
+                request.hasMaxPrice() ? request.getMaxPrice() : null,
+                request.hasMaxStops() ? request.getMaxStops() : null,
+                emptyToNull(request.getSort()),
+                emptyToNull(request.getPageToken()),
+                request.getPageSize() == 0 ? null : request.getPageSize());
+        FlightSnapshot snapshot = flightService.getSnapshot();
+        FlightPage page = flightService.search(snapshot, query);
+        PrebuiltFlights prebuilt = PrebuiltFlights.of(snapshot);
+        SearchFlightsResponse.Builder response = SearchFlightsResponse.newBuilder()
+                .setTotalSize(page.getTotal());
+        for (com.example.flightcore.model.Flight f : page.getFlights()) {
+            Flight message = prebuilt.message(f);
+            if (mask.getPathsCount() == 0) {
+                response.addFlights(message);
+            } else {
+                Flight.Builder masked = Flight.newBuilder();
+                FieldMaskUtil.merge(mask, message, masked);
+                response.addFlights(masked);
+            }
         }
-        if (f.getLayovers() != null) {
-            builder.addAllLayovers(f.getLayovers());
+        if (page.getNextCursor() != null) {
+            response.setNextPageToken(page.getNextCursor());
+        }
+        responseObserver.onNext(response.build());
+        responseObserver.onCompleted();
+    }
+
+    /**
+     * Pushes price, gate and lastUpdated changes of the subscribed flights and routes after each vendor refresh;
+     * see {@link FlightWatchHub}.
+     */
+    @Override
+    public StreamObserver<WatchRequest> watchFlights(StreamObserver<FlightChange> responseObserver) {
+        return watchHub.open((ServerCallStreamObserver<FlightChange>) responseObserver);
+    }
+
+    /**
+     * Size and encode/decode time of the current snapshot as JSON and as v1 and v2 protobuf.
+     */
+    @Override
+    public void compareFormats(com.google.protobuf.Empty request, StreamObserver<FormatComparison> responseObserver) {
+        responseObserver.onNext(formatComparison.compare(flightService.getSnapshot()));
+        responseObserver.onCompleted();
+    }
+
+    /**
+     * Exceptions on the stream thread do not reach {@link GrpcExceptionAdvice}; map them the same way.
+     */
+    private Status status(RuntimeException e) {
+        if (e instanceof VendorOverloadedException overloaded) {
+            return exceptionAdvice.handleVendorOverloaded(overloaded);
         }
-        return builder.build();
+        return Status.fromThrowable(e);
     }
 
-    private String defaultStr(String s) {
-        return s == null ? "" : s;
+    private String emptyToNull(String s) {
+        return s.isEmpty() ? null : s;
     }
 }
\ No newline at end of file
@@ -0,0 +1,378 @@
+package com.example.springgrpcvirtualthreads.grpc;
+
+import com.example.flightcore.model.FlightSnapshot;
+import com.example.flightcore.service.FlightSnapshotPublished;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fan-out of flight changes to {@code WatchFlights} subscribers.
+ * <p>
+ * After each vendor refresh, one thread diffs the new snapshot against the one it replaced (price, gate and
+ * lastUpdated, by flightId) and hands each change to the subscribers of that flight or its route only, found
+ * through two subscription indexes; the work follows the changes and their subscribers, not the number of calls.
+ * <p>
+ * Each subscriber has its own pending changes, one per flight: while the client is not ready, a newer change
+ * to a flight merges into the pending one instead of queueing behind it. A subscriber with {@code max-pending}
+ * flights pending is failed with {@code RESOURCE_EXHAUSTED}, so a stalled client cannot hold unbounded memory.
+ */
+@Component
+public class FlightWatchHub implements DisposableBean {
+
+    private record Route(String from, String to) {
+    }
+
+    private final ConcurrentHashMap<String, Set<Subscriber>> byFlightId = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Route, Set<Subscriber>> byRoute = new ConcurrentHashMap<>();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService fanout = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "flight-watch-fanout");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final int maxTargets;
+    private final int maxPending;
+    private final Counter changes;
+    private final Counter deliveries;
+    private final Counter conflated;
+    private final Counter overflows;
+    private final Timer fanoutTimer;
+
+    @Autowired
+    public FlightWatchHub(MeterRegistry meterRegistry,
+                          @Value("${flights.watch.max-targets:1000}") int maxTargets,
+                          @Value("${flights.watch.max-pending:10000}") int maxPending) {
+        this.maxTargets = maxTargets;
+        this.maxPending = maxPending;
+        Gauge.builder("flights.watch.subscribers", subscribers, Set::size)
+                .description("Open WatchFlights calls")
+                .register(meterRegistry);
+        Gauge.builder("flights.watch.targets", this, hub -> hub.byFlightId.size() + hub.byRoute.size())
+                .description("Distinct flightIds and routes watched by at least one call")
+                .register(meterRegistry);
+        this.changes = Counter.builder("flights.watch.changes")
+                .description("Flight changes found between successive snapshots")
+                .register(meterRegistry);
+        this.deliveries = Counter.builder("flights.watch.deliveries")
+                .description("FlightChange messages sent to subscribers")
+                .register(meterRegistry);
+        this.conflated = Counter.builder("flights.watch.conflated")
+                .description("Changes merged into one still pending for the same flight")
+                .register(meterRegistry);
+        this.overflows = Counter.builder("flights.watch.overflows")
+                .description("Subscribers failed because too many changes were pending")
+                .register(meterRegistry);
+        this.fanoutTimer = Timer.builder("flights.watch.fanout")
+                .description("Time to diff a snapshot and hand its changes to subscribers")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * Registers a {@code WatchFlights} call; call it before the service method returns.
+     */
+    public StreamObserver<WatchRequest> open(ServerCallStreamObserver<FlightChange> call) {
+        Subscriber subscriber = new Subscriber(call);
+        subscribers.add(subscriber);
+        return subscriber;
+    }
+
+    @EventListener
+    public void onSnapshotPublished(FlightSnapshotPublished event) {
+        if (event.previous() == null || subscribers.isEmpty()) {
+            return;
+        }
+        try {
+            fanout.execute(() -> fanoutTimer.record(() -> publish(event.previous(), event.current())));
+        } catch (RejectedExecutionException e) {
+            // Shutting down.
+        }
+    }
+
+    private void publish(FlightSnapshot previous, FlightSnapshot current) {
+        Map<String, com.example.flightcore.model.Flight> before =
+                previous.derive(FlightWatchHub.class, FlightWatchHub::byId);
+        Set<Subscriber> touched = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (com.example.flightcore.model.Flight flight : current.getFlights()) {
+            if (flight.getFlightId() == null) {
+                continue;
+            }
+            FlightChange change = diff(before.get(flight.getFlightId()), flight, current.getVersion());
+            if (change == null) {
+                continue;
+            }
+            changes.increment();
+            deliver(byFlightId.get(flight.getFlightId()), change, touched);
+            deliver(byRoute.get(new Route(flight.getFrom(), flight.getTo())), change, touched);
+        }
+        touched.forEach(Subscriber::drain);
+    }
+
+    private static Map<String, com.example.flightcore.model.Flight> byId(FlightSnapshot snapshot) {
+        Map<String, com.example.flightcore.model.Flight> flights = new HashMap<>(snapshot.getFlights().size() * 2);
+        for (com.example.flightcore.model.Flight flight : snapshot.getFlights()) {
+            if (flight.getFlightId() != null) {
+                flights.put(flight.getFlightId(), flight);
+            }
+        }
+        return flights;
+    }
+
+    /**
+     * The fields of {@code after} that differ from {@code before} (all of them for a new flight),
+     * or {@code null} if none does.
+     */
+    static FlightChange diff(com.example.flightcore.model.Flight before, com.example.flightcore.model.Flight after,
+                             long version) {
+        FlightChange.Builder change = FlightChange.newBuilder();
+        boolean changed = false;
+        if (before == null || before.getPrice() != after.getPrice()) {
+            change.setPrice(after.getPrice());
+            changed = true;
+        }
+        if (before == null || !Objects.equals(before.getGate(), after.getGate())) {
+            change.setGate(emptyIfNull(after.getGate()));
+            changed = true;
+        }
+        if (before == null || !Objects.equals(before.getLastUpdated(), after.getLastUpdated())) {
+            change.setLastUpdated(emptyIfNull(after.getLastUpdated()));
+            changed = true;
+        }
+        if (!changed) {
+            return null;
+        }
+        return change.setFlightId(after.getFlightId())
+                .setFrom(emptyIfNull(after.getFrom()))
+                .setTo(emptyIfNull(after.getTo()))
+                .setSnapshotVersion(version)
+                .build();
+    }
+
+    private static void deliver(Set<Subscriber> targets, FlightChange change, Set<Subscriber> touched) {
+        if (targets == null) {
+            return;
+        }
+        for (Subscriber subscriber : targets) {
+            subscriber.offer(change);
+            touched.add(subscriber);
+        }
+    }
+
+    private static String emptyIfNull(String s) {
+        return s == null ? "" : s;
+    }
+
+    @Override
+    public void destroy() {
+        fanout.shutdownNow();
+    }
+
+    /**
+     * One {@code WatchFlights} call: reads subscribe/unsubscribe requests and sends its pending changes whenever
+     * the client is ready. Sends, completion and errors all go through {@link #drain}, which only one thread
+     * runs at a time.
+     */
+    private final class Subscriber implements StreamObserver<WatchRequest> {
+
+        private final ServerCallStreamObserver<FlightChange> call;
+        private final Set<String> flightIds = ConcurrentHashMap.newKeySet();
+        private final Set<Route> routes = ConcurrentHashMap.newKeySet();
+        private final LinkedHashMap<String, FlightChange> pending = new LinkedHashMap<>();
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile boolean cancelled;
+        private volatile boolean completing;
+        private volatile Status failure;
+        private boolean terminated;
+
+        Subscriber(ServerCallStreamObserver<FlightChange> call) {
+            this.call = call;
+            call.setOnReadyHandler(this::drain);
+            call.setOnCancelHandler(() -> {
+                cancelled = true;
+                close();
+            });
+        }
+
+        @Override
+        public void onNext(WatchRequest request) {
+            switch (request.getActionCase()) {
+                case SUBSCRIBE -> subscribe(request.getSubscribe());
+                case UNSUBSCRIBE -> unsubscribe(request.getUnsubscribe());
+                default -> fail(Status.INVALID_ARGUMENT.withDescription("WatchRequest needs subscribe or unsubscribe"));
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            close();
+        }
+
+        @Override
+        public void onCompleted() {
+            close();
+            completing = true;
+            drain();
+        }
+
+        private void subscribe(WatchTarget target) {
+            if (flightIds.size() + routes.size() >= maxTargets) {
+                fail(Status.RESOURCE_EXHAUSTED.withDescription("At most " + maxTargets + " targets per call"));
+                return;
+            }
+            switch (target.getTargetCase()) {
+                case FLIGHTID -> {
+                    if (!target.getFlightId().isEmpty() && flightIds.add(target.getFlightId())) {
+                        add(byFlightId, target.getFlightId());
+                    }
+                }
+                case ROUTE -> {
+                    Route route = new Route(target.getRoute().getFrom(), target.getRoute().getTo());
+                    if (!route.from().isEmpty() && !route.to().isEmpty() && routes.add(route)) {
+                        add(byRoute, route);
+                    }
+                }
+                default -> fail(Status.INVALID_ARGUMENT.withDescription("WatchTarget needs a flightId or a route"));
+            }
+            if (closed.get()) {
+                removeAll();
+            }
+        }
+
+        private void unsubscribe(WatchTarget target) {
+            switch (target.getTargetCase()) {
+                case FLIGHTID -> {
+                    if (flightIds.remove(target.getFlightId())) {
+                        remove(byFlightId, target.getFlightId());
+                    }
+                }
+                case ROUTE -> {
+                    Route route = new Route(target.getRoute().getFrom(), target.getRoute().getTo());
+                    if (routes.remove(route)) {
+                        remove(byRoute, route);
+                    }
+                }
+                default -> fail(Status.INVALID_ARGUMENT.withDescription("WatchTarget needs a flightId or a route"));
+            }
+        }
+
+        private <K> void add(ConcurrentHashMap<K, Set<Subscriber>> index, K key) {
+            index.compute(key, (k, set) -> {
+                Set<Subscriber> targets = set != null ? set : ConcurrentHashMap.newKeySet();
+                targets.add(this);
+                return targets;
+            });
+        }
+
+        private <K> void remove(ConcurrentHashMap<K, Set<Subscriber>> index, K key) {
+            index.computeIfPresent(key, (k, set) -> {
+                set.remove(this);
+                return set.isEmpty() ? null : set;
+            });
+        }
+
+        void offer(FlightChange change) {
+            synchronized (pending) {
+                FlightChange previous = pending.get(change.getFlightId());
+                if (previous != null) {
+                    pending.put(change.getFlightId(), previous.toBuilder().mergeFrom(change).build());
+                    conflated.increment();
+                    return;
+                }
+                if (pending.size() < maxPending) {
+                    pending.put(change.getFlightId(), change);
+                    return;
+                }
+            }
+            overflows.increment();
+            fail(Status.RESOURCE_EXHAUSTED.withDescription("Client is not reading changes fast enough"));
+        }
+
+        private FlightChange poll() {
+            synchronized (pending) {
+                Iterator<FlightChange> it = pending.values().iterator();
+                if (!it.hasNext()) {
+                    return null;
+                }
+                FlightChange next = it.next();
+                it.remove();
+                return next;
+            }
+        }
+
+        private boolean hasPending() {
+            synchronized (pending) {
+                return !pending.isEmpty();
+            }
+        }
+
+        void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                if (!terminated && cancelled) {
+                    terminated = true;
+                } else if (!terminated && failure != null) {
+                    terminated = true;
+                    call.onError(failure.asRuntimeException());
+                } else if (!terminated) {
+                    FlightChange next;
+                    while (call.isReady() && (next = poll()) != null) {
+                        call.onNext(next);
+                        deliveries.increment();
+                    }
+                    if (completing && !hasPending()) {
+                        terminated = true;
+                        call.onCompleted();
+                    }
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void fail(Status status) {
+            close();
+            failure = status;
+            drain();
+        }
+
+        private void close() {
+            if (closed.compareAndSet(false, true)) {
+                subscribers.remove(this);
+                removeAll();
+            }
+        }
+
+        private void removeAll() {
+            flightIds.forEach(id -> remove(byFlightId, id));
+            routes.forEach(route -> remove(byRoute, route));
+        }
+    }
+}
@@ -1,101 +0,0 @@
-// Generated by the protocol buffer compiler.  DO NOT EDIT!
-// source: flights.proto
-
-package com.example.springgrpcvirtualthreads.grpc;
-
-public final class Flights {
-  private Flights() {}
-  public static void registerAllExtensions(
-      com.google.protobuf.ExtensionRegistryLite registry) {
-  }
-
-  public static void registerAllExtensions(
-      com.google.protobuf.ExtensionRegistry registry) {
-    registerAllExtensions(
-        (com.google.protobuf.ExtensionRegistryLite) registry);
-  }
-  static final com.google.protobuf.Descriptors.Descriptor
-    internal_static_flight_Airline_descriptor;
-  static final 
-    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-      internal_static_flight_Airline_fieldAccessorTable;
-  static final com.google.protobuf.Descriptors.Descriptor
-    internal_static_flight_Flight_descriptor;
-  static final 
-    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-      internal_static_flight_Flight_fieldAccessorTable;
-  static final com.google.protobuf.Descriptors.Descriptor
-    internal_static_flight_FlightsResponse_descriptor;
-  static final 
-    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-      internal_static_flight_FlightsResponse_fieldAccessorTable;
-
-  public static com.google.protobuf.Descriptors.FileDescriptor
-      getDescriptor() {
-    return descriptor;
-  }
-  private static  com.google.protobuf.Descriptors.FileDescriptor
-      descriptor;
-  static {
-    java.lang.String[] descriptorData = {
-      "\n\rflights.proto\022\006flight\032\033google/protobuf" +
-      "/empty.proto\"%\n\007Airline\022\014\n\004logo\030\001 \001(\t\022\014\n" +
-      "\004name\030\002 \001(\t\"\221\007\n\006Flight\022\024\n\014aircraftType\030\001" +
-      " \001(\t\022 \n\007airline\030\002 \001(\0132\017.flight.Airline\022\023" +
-      "\n\013arrivalTime\030\003 \001(\t\022\017\n\007baggage\030\004 \001(\t\022\024\n\014" +
-      "boardingTime\030\005 \001(\t\022\022\n\ncabinClass\030\006 \001(\t\022\032" +
-      "\n\022cancellationPolicy\030\007 \001(\t\022\024\n\014changePoli" +
-      "cy\030\010 \001(\t\022\026\n\016checkInCounter\030\t \001(\t\022\023\n\013covi" +
-      "dSafety\030\n \001(\t\022\014\n\004date\030\013 \001(\t\022\025\n\rdeparture" +
-      "Time\030\014 \001(\t\022\020\n\010duration\030\r \001(\t\022\023\n\013ecoFrien" +
-      "dly\030\016 \001(\t\022\025\n\rentertainment\030\017 \001(\t\022\024\n\014extr" +
-      "aLegroom\030\020 \001(\t\022\021\n\tfareClass\030\021 \001(\t\022\020\n\010fli" +
-      "ghtId\030\022 \001(\t\022\024\n\014flightNumber\030\023 \001(\t\022\022\n\nfli" +
-      "ghtType\030\024 \001(\t\022\014\n\004from\030\025 \001(\t\022\014\n\004gate\030\026 \001(" +
-      "\t\022\024\n\014infantPolicy\030\027 \001(\t\022\023\n\013lastUpdated\030\030" +
-      " \001(\t\022\020\n\010layovers\030\031 \003(\t\022\024\n\014loungeAccess\030\032" +
-      " \001(\t\022\014\n\004meal\030\033 \001(\t\022\031\n\021onTimePerformance\030" +
-      "\034 \001(\t\022\021\n\tpetPolicy\030\035 \001(\t\022\023\n\013powerOutlet\030" +
-      "\036 \001(\t\022\r\n\005price\030\037 \001(\005\022\030\n\020priorityBoarding" +
-      "\030  \001(\t\022\016\n\006rating\030! \001(\001\022\026\n\016recliningAngle" +
-      "\030\" \001(\t\022\024\n\014reviewsCount\030# \001(\005\022\021\n\tseatPitc" +
-      "h\030$ \001(\t\022\020\n\010seatType\030% \001(\t\022\021\n\tseatWidth\030&" +
-      " \001(\t\022\020\n\010terminal\030\' \001(\t\022\n\n\002to\030( \001(\t\022\022\n\nto" +
-      "talStops\030) \001(\005\022\017\n\007usbPort\030* \001(\t\022\023\n\013vendo" +
-      "r_logo\030+ \001(\t\022\023\n\013vendor_name\030, \001(\t\022\014\n\004wif" +
-      "i\030- \001(\t\"2\n\017FlightsResponse\022\037\n\007flights\030\001 " +
-      "\003(\0132\016.flight.Flight2\211\001\n\rFlightService\022=\n" +
-      "\nGetFlights\022\026.google.protobuf.Empty\032\027.fl" +
-      "ight.FlightsResponse\0229\n\rStreamFlights\022\026." +
-      "google.protobuf.Empty\032\016.flight.Flight0\001B" +
-      "-\n)com.example.springgrpcvirtualthreads." +
-      "grpcP\001b\006proto3"
-    };
-    descriptor = com.google.protobuf.Descriptors.FileDescriptor
-      .internalBuildGeneratedFileFrom(descriptorData,
-        new com.google.protobuf.Descriptors.FileDescriptor[] {
-          com.google.protobuf.EmptyProto.getDescriptor(),
-        });
-    internal_static_flight_Airline_descriptor =
-      getDescriptor().getMessageTypes().get(0);
-    internal_static_flight_Airline_fieldAccessorTable = new
-      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
-        internal_static_flight_Airline_descriptor,
-        new java.lang.String[] { "Logo", "Name", });
-    internal_static_flight_Flight_descriptor =
-      getDescriptor().getMessageTypes().get(1);
-    internal_static_flight_Flight_fieldAccessorTable = new
-      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
-        internal_static_flight_Flight_descriptor,
-        new java.lang.String[] { "AircraftType", "Airline", "ArrivalTime", "Baggage", "BoardingTime", "CabinClass", "CancellationPolicy", "ChangePolicy", "CheckInCounter", "CovidSafety", "Date", "DepartureTime", "Duration", "EcoFriendly", "Entertainment", "ExtraLegroom", "FareClass", "FlightId", "FlightNumber", "FlightType", "From", "Gate", "InfantPolicy", "LastUpdated", "Layovers", "LoungeAccess", "Meal", "OnTimePerformance", "PetPolicy", "PowerOutlet", "Price", "PriorityBoarding", "Rating", "RecliningAngle", "ReviewsCount", "SeatPitch", "SeatType", "SeatWidth", "Terminal", "To", "TotalStops", "UsbPort", "VendorLogo", "VendorName", "Wifi", });
-    internal_static_flight_FlightsResponse_descriptor =
-      getDescriptor().getMessageTypes().get(2);
-    internal_static_flight_FlightsResponse_fieldAccessorTable = new
-      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
-        internal_static_flight_FlightsResponse_descriptor,
-        new java.lang.String[] { "Flights", });
-    com.google.protobuf.EmptyProto.getDescriptor();
-  }
-
-  // @@protoc_insertion_point(outer_class_scope)
-}
@@ -0,0 +1,235 @@
+package com.example.springgrpcvirtualthreads.grpc;
+
+import com.google.protobuf.MessageLite;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Server streams whose producer waits for {@link ServerCallStreamObserver#isReady()} before each message,
+ * so a slow client holds at most gRPC's on-ready threshold of queued bytes instead of the whole response.
+ * A producer blocked for longer than {@code ready-timeout} fails the call with {@code DEADLINE_EXCEEDED}, and one
+ * interrupted while it waits fails it with {@code UNAVAILABLE}; neither ends the call as if the list were complete.
+ */
+@Component
+public class FlowControlledStreams {
+
+    /**
+     * Queued bytes below which gRPC reports a stream as ready (its default on-ready threshold).
+     */
+    static final int ON_READY_THRESHOLD = 32 * 1024;
+
+    private final long readyTimeoutNanos;
+    private final Set<Stream<?>> active = ConcurrentHashMap.newKeySet();
+    private final Counter cancellations;
+    private final Counter readyTimeouts;
+    private final Timer readyWait;
+    private final DistributionSummary streamBytes;
+    private final DistributionSummary peakBuffered;
+
+    @Autowired
+    public FlowControlledStreams(MeterRegistry meterRegistry,
+                                 @Value("${flights.grpc.stream.ready-timeout:30s}") Duration readyTimeout) {
+        this.readyTimeoutNanos = readyTimeout.toNanos();
+        Gauge.builder("flights.grpc.stream.active", active, Set::size)
+                .description("gRPC server streams currently sending")
+                .register(meterRegistry);
+        Gauge.builder("flights.grpc.stream.buffered", active, streams -> streams.stream()
+                        .mapToLong(Stream::buffered)
+                        .sum())
+                .baseUnit("bytes")
+                .description("Estimated bytes queued in gRPC across active streams")
+                .register(meterRegistry);
+        this.cancellations = Counter.builder("flights.grpc.stream.cancellations")
+                .description("Streams cancelled by the client before completion")
+                .register(meterRegistry);
+        this.readyTimeouts = Counter.builder("flights.grpc.stream.ready.timeouts")
+                .description("Streams failed because the client stopped reading")
+                .register(meterRegistry);
+        this.readyWait = Timer.builder("flights.grpc.stream.ready.wait")
+                .description("Time a stream's producer spent waiting for the client to drain")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.streamBytes = DistributionSummary.builder("flights.grpc.stream.bytes")
+                .baseUnit("bytes")
+                .description("Serialized message bytes sent per stream")
+                .register(meterRegistry);
+        this.peakBuffered = DistributionSummary.builder("flights.grpc.stream.buffered.peak")
+                .baseUnit("bytes")
+                .description("Highest estimated bytes queued in gRPC during a stream")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Registers the readiness and cancellation handlers; call it before the service method returns.
+     */
+    public <T extends MessageLite> Stream<T> open(ServerCallStreamObserver<T> call) {
+        Stream<T> stream = new Stream<>(call);
+        active.add(stream);
+        return stream;
+    }
+
+    /**
+     * One call's producer side; {@link #send}, {@link #complete} and {@link #fail} belong to a single thread,
+     * which must end the stream with {@code complete} or {@code fail} even after a cancellation.
+     */
+    public final class Stream<T extends MessageLite> {
+
+        private final ServerCallStreamObserver<T> call;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition changed = lock.newCondition();
+        private volatile boolean cancelled;
+        private volatile long buffered;
+        private long peak;
+        private long sent;
+        private long waitedNanos;
+        private boolean closed;
+        private Runnable onCancel;
+
+        private Stream(ServerCallStreamObserver<T> call) {
+            this.call = call;
+            call.setOnReadyHandler(this::signal);
+            call.setOnCancelHandler(() -> {
+                cancelled = true;
+                cancellations.increment();
+                lock.lock();
+                try {
+                    if (onCancel != null) {
+                        onCancel.run();
+                    }
+                } finally {
+                    lock.unlock();
+                }
+                signal();
+            });
+        }
+
+        /**
+         * Runs {@code action} when the client cancels, at once if it already has, until the stream ends. Use it to
+         * stop a producer that is blocked somewhere other than {@link #send}, such as waiting for the vendor.
+         */
+        public void onCancel(Runnable action) {
+            lock.lock();
+            try {
+                if (closed) {
+                    return;
+                }
+                if (cancelled) {
+                    action.run();
+                } else {
+                    onCancel = action;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Waits until the client can take another message, then sends it.
+         *
+         * @throws CancellationException if the client cancelled or stopped reading; stop producing
+         */
+        public void send(T message) {
+            if (!awaitReady()) {
+                throw new CancellationException("Stream cancelled");
+            }
+            // isReady() means less than the threshold is queued; count what this message adds on top of that.
+            long size = message.getSerializedSize();
+            buffered = Math.min(buffered, ON_READY_THRESHOLD) + size;
+            peak = Math.max(peak, buffered);
+            sent += size;
+            call.onNext(message);
+        }
+
+        public void complete() {
+            if (!cancelled) {
+                call.onCompleted();
+            }
+            close();
+        }
+
+        public void fail(Status status) {
+            if (!cancelled) {
+                call.onError(status.asRuntimeException());
+            }
+            close();
+        }
+
+        private boolean awaitReady() {
+            if (call.isReady()) {
+                return !cancelled;
+            }
+            long start = System.nanoTime();
+            lock.lock();
+            try {
+                long remaining = readyTimeoutNanos;
+                while (!cancelled && !call.isReady()) {
+                    if (remaining <= 0) {
+                        readyTimeouts.increment();
+                        fail(Status.DEADLINE_EXCEEDED.withDescription("Client stopped reading the stream"));
+                        cancelled = true;
+                        return false;
+                    }
+                    remaining = changed.awaitNanos(remaining);
+                }
+                return !cancelled;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail(Status.UNAVAILABLE.withDescription("Stream interrupted before it was complete"));
+                cancelled = true;
+                return false;
+            } finally {
+                lock.unlock();
+                waitedNanos += System.nanoTime() - start;
+            }
+        }
+
+        private void signal() {
+            if (call.isReady()) {
+                buffered = 0;
+            }
+            lock.lock();
+            try {
+                changed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void close() {
+            lock.lock();
+            try {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                onCancel = null;
+            } finally {
+                lock.unlock();
+            }
+            active.remove(this);
+            readyWait.record(waitedNanos, TimeUnit.NANOSECONDS);
+            streamBytes.record(sent);
+            peakBuffered.record(peak);
+        }
+
+        private long buffered() {
+            return buffered;
+        }
+    }
+}
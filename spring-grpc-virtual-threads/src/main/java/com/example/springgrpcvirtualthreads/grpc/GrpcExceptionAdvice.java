@@ -0,0 +1,21 @@
+package com.example.springgrpcvirtualthreads.grpc;
+
+import com.example.flightcore.service.InvalidFlightQueryException;
+import com.example.flightcore.service.VendorOverloadedException;
+import io.grpc.Status;
+import net.devh.boot.grpc.server.advice.GrpcAdvice;
+import net.devh.boot.grpc.server.advice.GrpcExceptionHandler;
+
+@GrpcAdvice
+public class GrpcExceptionAdvice {
+
+    @GrpcExceptionHandler(VendorOverloadedException.class)
+    public Status handleVendorOverloaded(VendorOverloadedException e) {
+        return Status.UNAVAILABLE.withDescription(e.getMessage()).withCause(e);
+    }
+
+    @GrpcExceptionHandler(InvalidFlightQueryException.class)
+    public Status handleInvalidQuery(InvalidFlightQueryException e) {
+        return Status.INVALID_ARGUMENT.withDescription(e.getMessage()).withCause(e);
+    }
+}
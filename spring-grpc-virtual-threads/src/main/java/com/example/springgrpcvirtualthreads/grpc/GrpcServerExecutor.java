@@ -0,0 +1,169 @@
+package com.example.springgrpcvirtualthreads.grpc;
+
+import io.grpc.Context;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallExecutorSupplier;
+import io.grpc.Status;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executor the gRPC server runs call handlers on, chosen by {@code flights.grpc.executor.mode}.
+ * Without one, grpc-java uses an unbounded cached pool of platform threads, whatever
+ * {@code spring.threads.virtual.enabled} says.
+ * <ul>
+ *     <li>{@code VIRTUAL}: a new virtual thread per task, so blocking vendor and Mongo calls only park it</li>
+ *     <li>{@code PLATFORM}: {@code pool-size} platform threads, and at most {@code pool-size + queue-capacity} calls
+ *     in progress; a call beyond that is refused with {@code RESOURCE_EXHAUSTED} when it arrives, so the pool's
+ *     queue never has to reject a task</li>
+ *     <li>{@code DIRECT}: on the transport thread that read the request; only for handlers that never block.
+ *     {@code GetFlights}, {@code SearchFlights}, {@code TopFlights} and {@code CompareFormats} load the snapshot from
+ *     the vendor when none is cached, which blocks that event loop, and every call on its connections, until the
+ *     vendor answers</li>
+ * </ul>
+ * As installed by {@code GrpcServerConfig}, grpc-java asks {@link #getExecutor} for each call on the transport
+ * thread, after the method lookup and before anything of the call is queued; that is where {@code PLATFORM} admits
+ * or refuses it.
+ * Every mode publishes the time tasks wait before they start, the tasks running and the threads it holds.
+ */
+@Component
+public class GrpcServerExecutor implements Executor, ServerCallExecutorSupplier, DisposableBean {
+
+    public enum Mode {
+        VIRTUAL,
+        PLATFORM,
+        DIRECT
+    }
+
+    /** Where the events of a refused call go: it is already closed, so they are dropped, not run. */
+    private static final Executor REFUSED = task -> {
+    };
+
+    private final Mode mode;
+    private final ExecutorService delegate;
+    private final Semaphore calls;
+    private final AtomicInteger active = new AtomicInteger();
+    private final Timer queueWait;
+    private final Counter rejections;
+
+    @Autowired
+    public GrpcServerExecutor(MeterRegistry meterRegistry,
+                              @Value("${flights.grpc.executor.mode:VIRTUAL}") Mode mode,
+                              @Value("${flights.grpc.executor.pool-size:200}") int poolSize,
+                              @Value("${flights.grpc.executor.queue-capacity:1000}") int queueCapacity) {
+        this.mode = mode;
+        this.delegate = switch (mode) {
+            case VIRTUAL -> Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("grpc-call-", 0).factory());
+            // Unbounded: a call has at most one task queued at a time, and calls are bounded by `calls`.
+            case PLATFORM -> new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(), Thread.ofPlatform().name("grpc-call-", 0).factory());
+            case DIRECT -> null;
+        };
+        this.calls = mode == Mode.PLATFORM ? new Semaphore(poolSize + queueCapacity) : null;
+        this.queueWait = Timer.builder("flights.grpc.executor.queue.wait")
+                .tag("mode", mode.name())
+                .description("Time from handing a gRPC task to the executor until it starts")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.rejections = Counter.builder("flights.grpc.executor.rejections")
+                .tag("mode", mode.name())
+                .description("gRPC calls refused on arrival because the pool and its queue were full")
+                .register(meterRegistry);
+        Gauge.builder("flights.grpc.executor.active", active, AtomicInteger::get)
+                .tag("mode", mode.name())
+                .description("gRPC tasks currently running")
+                .register(meterRegistry);
+        Gauge.builder("flights.grpc.executor.threads", this, GrpcServerExecutor::threads)
+                .tag("mode", mode.name())
+                .description("Threads held by the gRPC executor (virtual threads in VIRTUAL mode)")
+                .register(meterRegistry);
+        Gauge.builder("flights.grpc.executor.queued", this, GrpcServerExecutor::queued)
+                .tag("mode", mode.name())
+                .description("gRPC tasks waiting for a pool thread")
+                .register(meterRegistry);
+        if (calls != null) {
+            int limit = poolSize + queueCapacity;
+            Gauge.builder("flights.grpc.executor.calls", calls, permits -> limit - permits.availablePermits())
+                    .tag("mode", mode.name())
+                    .description("gRPC calls admitted and not yet over, out of pool-size + queue-capacity")
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Runs every call on this executor; in {@code PLATFORM} mode a call that would exceed the limit is closed with
+     * {@code RESOURCE_EXHAUSTED} here instead, without blocking and before its handler is started. An admitted call
+     * holds its place until its context is cancelled, which grpc-java does once the call is over.
+     */
+    @Override
+    public <ReqT, RespT> Executor getExecutor(ServerCall<ReqT, RespT> call, Metadata headers) {
+        if (calls == null) {
+            return this;
+        }
+        if (!calls.tryAcquire()) {
+            rejections.increment();
+            call.close(Status.RESOURCE_EXHAUSTED.withDescription("gRPC call executor is saturated"), new Metadata());
+            return REFUSED;
+        }
+        Context.current().addListener(context -> calls.release(), Runnable::run);
+        return this;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        long submitted = System.nanoTime();
+        Runnable measured = () -> {
+            queueWait.record(System.nanoTime() - submitted, TimeUnit.NANOSECONDS);
+            active.incrementAndGet();
+            try {
+                task.run();
+            } finally {
+                active.decrementAndGet();
+            }
+        };
+        if (delegate == null) {
+            measured.run();
+            return;
+        }
+        delegate.execute(measured);
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    private int threads() {
+        return switch (mode) {
+            case VIRTUAL -> active.get();
+            case PLATFORM -> ((ThreadPoolExecutor) delegate).getPoolSize();
+            case DIRECT -> 0;
+        };
+    }
+
+    private int queued() {
+        return mode == Mode.PLATFORM ? ((ThreadPoolExecutor) delegate).getQueue().size() : 0;
+    }
+
+    @Override
+    public void destroy() {
+        if (delegate != null) {
+            delegate.shutdown();
+        }
+    }
+}
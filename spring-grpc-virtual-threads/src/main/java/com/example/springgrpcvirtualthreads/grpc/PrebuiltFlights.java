@@ -0,0 +1,112 @@
+package com.example.springgrpcvirtualthreads.grpc;
+
+import com.example.flightcore.model.FlightSnapshot;
+import io.grpc.Drainable;
+import io.grpc.KnownLength;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The protobuf form of one snapshot: each {@link Flight} message built once, the {@link FlightsResponse}
+ * holding them and its serialized bytes. Derived per snapshot, so serving it only copies bytes.
+ */
+final class PrebuiltFlights {
+
+    /**
+     * Writes the pre-serialized bytes as they are, with their length known up front.
+     */
+    static final MethodDescriptor.Marshaller<PrebuiltFlights> MARSHALLER = new MethodDescriptor.Marshaller<>() {
+        @Override
+        public InputStream stream(PrebuiltFlights value) {
+            return new BytesStream(value.bytes);
+        }
+
+        @Override
+        public PrebuiltFlights parse(InputStream stream) {
+            try {
+                FlightsResponse response = FlightsResponse.parseFrom(stream);
+                return new PrebuiltFlights(response, response.toByteArray(), Map.of());
+            } catch (IOException e) {
+                throw Status.INTERNAL.withDescription("Invalid FlightsResponse").withCause(e).asRuntimeException();
+            }
+        }
+    };
+
+    private final FlightsResponse response;
+    private final byte[] bytes;
+    private final Map<com.example.flightcore.model.Flight, Flight> messages;
+
+    private PrebuiltFlights(FlightsResponse response, byte[] bytes,
+                            Map<com.example.flightcore.model.Flight, Flight> messages) {
+        this.response = response;
+        this.bytes = bytes;
+        this.messages = messages;
+    }
+
+    static PrebuiltFlights of(FlightSnapshot snapshot) {
+        return snapshot.derive(PrebuiltFlights.class, PrebuiltFlights::build);
+    }
+
+    private static PrebuiltFlights build(FlightSnapshot snapshot) {
+        List<com.example.flightcore.model.Flight> flights = snapshot.getFlights();
+        Map<com.example.flightcore.model.Flight, Flight> messages = new IdentityHashMap<>(flights.size());
+        FlightsResponse.Builder builder = FlightsResponse.newBuilder();
+        for (com.example.flightcore.model.Flight f : flights) {
+            Flight message = FlightProtos.convert(f);
+            messages.put(f, message);
+            builder.addFlights(message);
+        }
+        FlightsResponse response = builder.build();
+        return new PrebuiltFlights(response, response.toByteArray(), messages);
+    }
+
+    FlightsResponse response() {
+        return response;
+    }
+
+    List<Flight> messages() {
+        return response.getFlightsList();
+    }
+
+    /**
+     * The pre-built message of one of the snapshot's flights; converts flights from any other snapshot.
+     */
+    Flight message(com.example.flightcore.model.Flight flight) {
+        Flight message = messages.get(flight);
+        return message != null ? message : FlightProtos.convert(flight);
+    }
+
+    /**
+     * A response for a subset of the snapshot's flights (e.g. a top-K result), reusing their pre-built messages.
+     */
+    FlightsResponse toResponse(List<com.example.flightcore.model.Flight> flights) {
+        FlightsResponse.Builder builder = FlightsResponse.newBuilder();
+        for (com.example.flightcore.model.Flight f : flights) {
+            builder.addFlights(message(f));
+        }
+        return builder.build();
+    }
+
+    private static final class BytesStream extends ByteArrayInputStream implements KnownLength, Drainable {
+
+        BytesStream(byte[] bytes) {
+            super(bytes);
+        }
+
+        @Override
+        public int drainTo(OutputStream target) throws IOException {
+            int length = count - pos;
+            target.write(buf, pos, length);
+            pos = count;
+            return length;
+        }
+    }
+}
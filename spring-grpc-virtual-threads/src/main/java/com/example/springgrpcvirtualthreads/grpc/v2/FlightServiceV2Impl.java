@@ -0,0 +1,26 @@
+package com.example.springgrpcvirtualthreads.grpc.v2;
+
+import com.example.springgrpcvirtualthreads.service.FlightService;
+import io.grpc.stub.StreamObserver;
+import net.devh.boot.grpc.server.service.GrpcService;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * {@code flight.v2.FlightService}, served next to the v1 {@code flight.FlightService} from the same snapshots.
+ */
+@GrpcService
+public class FlightServiceV2Impl extends FlightServiceGrpc.FlightServiceImplBase {
+
+    private final FlightService flightService;
+
+    @Autowired
+    public FlightServiceV2Impl(FlightService flightService) {
+        this.flightService = flightService;
+    }
+
+    @Override
+    public void getFlights(com.google.protobuf.Empty request, StreamObserver<FlightsResponse> responseObserver) {
+        responseObserver.onNext(FlightV2Protos.response(flightService.getSnapshot()));
+        responseObserver.onCompleted();
+    }
+}
@@ -0,0 +1,211 @@
+package com.example.springgrpcvirtualthreads.grpc.v2;
+
+import com.example.flightcore.model.FlightSnapshot;
+import com.example.flightcore.model.FlightTimes;
+import com.google.protobuf.Descriptors.EnumDescriptor;
+import com.google.protobuf.Descriptors.EnumValueDescriptor;
+import com.google.protobuf.Duration;
+import com.google.protobuf.Timestamp;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Conversion of the vendor model into the {@code flight.v2} messages.
+ * Enum fields are matched by name: the vendor value upper-cased, with every run of other characters turned
+ * into {@code _}, behind the enum's prefix ({@code "Premium Economy"} is {@code CABIN_CLASS_PREMIUM_ECONOMY}).
+ * Times are read with {@link FlightTimes}, as for the search index, so departure, arrival and boarding times without
+ * an offset stay airport-local wall-clock times encoded as UTC, in whole minutes. Whatever does not convert goes to
+ * {@code unmapped} unchanged.
+ */
+public final class FlightV2Protos {
+
+    private record Party(String name, String logo) {
+    }
+
+    private FlightV2Protos() {
+    }
+
+    /**
+     * The v2 response for {@code snapshot}, built once per snapshot.
+     */
+    public static FlightsResponse response(FlightSnapshot snapshot) {
+        return snapshot.derive(FlightsResponse.class, s -> toResponse(s.getFlights()));
+    }
+
+    public static FlightsResponse toResponse(List<com.example.flightcore.model.Flight> flights) {
+        FlightsResponse.Builder response = FlightsResponse.newBuilder();
+        Map<Party, Integer> airlines = new HashMap<>();
+        Map<Party, Integer> vendors = new HashMap<>();
+        for (com.example.flightcore.model.Flight f : flights) {
+            Flight.Builder flight = convert(f);
+            if (f.getAirline() != null) {
+                Party airline = new Party(f.getAirline().getName(), f.getAirline().getLogo());
+                flight.setAirline(airlines.computeIfAbsent(airline, a -> {
+                    response.addAirlines(Airline.newBuilder()
+                            .setName(defaultStr(a.name()))
+                            .setLogo(defaultStr(a.logo())));
+                    return response.getAirlinesCount();
+                }));
+            }
+            if (f.getVendor_name() != null || f.getVendor_logo() != null) {
+                Party vendor = new Party(f.getVendor_name(), f.getVendor_logo());
+                flight.setVendor(vendors.computeIfAbsent(vendor, v -> {
+                    response.addVendors(Vendor.newBuilder()
+                            .setName(defaultStr(v.name()))
+                            .setLogo(defaultStr(v.logo())));
+                    return response.getVendorsCount();
+                }));
+            }
+            response.addFlights(flight);
+        }
+        return response.build();
+    }
+
+    private static Flight.Builder convert(com.example.flightcore.model.Flight f) {
+        Flight.Builder flight = Flight.newBuilder()
+                .setFlightId(defaultStr(f.getFlightId()))
+                .setFlightNumber(defaultStr(f.getFlightNumber()))
+                .setFrom(defaultStr(f.getFrom()))
+                .setTo(defaultStr(f.getTo()))
+                .setPrice(f.getPrice())
+                .setRating(f.getRating())
+                .setReviewsCount(f.getReviewsCount())
+                .setTotalStops(f.getTotalStops())
+                .setAircraftType(defaultStr(f.getAircraftType()))
+                .setBaggage(defaultStr(f.getBaggage()))
+                .setCancellationPolicy(defaultStr(f.getCancellationPolicy()))
+                .setChangePolicy(defaultStr(f.getChangePolicy()))
+                .setCheckInCounter(defaultStr(f.getCheckInCounter()))
+                .setCovidSafety(defaultStr(f.getCovidSafety()))
+                .setEcoFriendly(defaultStr(f.getEcoFriendly()))
+                .setEntertainment(defaultStr(f.getEntertainment()))
+                .setExtraLegroom(defaultStr(f.getExtraLegroom()))
+                .setFareClass(defaultStr(f.getFareClass()))
+                .setGate(defaultStr(f.getGate()))
+                .setInfantPolicy(defaultStr(f.getInfantPolicy()))
+                .setLoungeAccess(defaultStr(f.getLoungeAccess()))
+                .setOnTimePerformance(defaultStr(f.getOnTimePerformance()))
+                .setPetPolicy(defaultStr(f.getPetPolicy()))
+                .setPowerOutlet(defaultStr(f.getPowerOutlet()))
+                .setPriorityBoarding(defaultStr(f.getPriorityBoarding()))
+                .setRecliningAngle(defaultStr(f.getRecliningAngle()))
+                .setSeatPitch(defaultStr(f.getSeatPitch()))
+                .setSeatWidth(defaultStr(f.getSeatWidth()))
+                .setTerminal(defaultStr(f.getTerminal()))
+                .setUsbPort(defaultStr(f.getUsbPort()));
+        if (f.getLayovers() != null) {
+            for (String layover : f.getLayovers()) {
+                // Protobuf lists cannot hold null.
+                if (layover != null) {
+                    flight.addLayovers(layover);
+                }
+            }
+        }
+
+        flight.setCabinClassValue(enumValue(flight, "cabinClass", f.getCabinClass(), CabinClass.getDescriptor()));
+        flight.setWifiValue(enumValue(flight, "wifi", f.getWifi(), Wifi.getDescriptor()));
+        flight.setMealValue(enumValue(flight, "meal", f.getMeal(), Meal.getDescriptor()));
+        flight.setSeatTypeValue(enumValue(flight, "seatType", f.getSeatType(), SeatType.getDescriptor()));
+        flight.setFlightTypeValue(enumValue(flight, "flightType", f.getFlightType(), FlightType.getDescriptor()));
+
+        LocalDate date = FlightTimes.parseDate(f.getDate());
+        if (date != null) {
+            flight.setDate(timestamp(FlightTimes.epochMinutes(date) * 60L));
+        } else {
+            unmapped(flight, "date", f.getDate());
+        }
+        int departure = FlightTimes.epochMinutes(f.getDepartureTime(), date, FlightTimes.MISSING);
+        int arrival = FlightTimes.epochMinutes(f.getArrivalTime(), date, departure);
+        int boarding = FlightTimes.epochMinutes(f.getBoardingTime(), date, FlightTimes.MISSING);
+        if (departure != FlightTimes.MISSING) {
+            flight.setDepartureTime(timestamp(departure * 60L));
+        } else {
+            unmapped(flight, "departureTime", f.getDepartureTime());
+        }
+        if (arrival != FlightTimes.MISSING) {
+            flight.setArrivalTime(timestamp(arrival * 60L));
+        } else {
+            unmapped(flight, "arrivalTime", f.getArrivalTime());
+        }
+        if (boarding != FlightTimes.MISSING) {
+            flight.setBoardingTime(timestamp(boarding * 60L));
+        } else {
+            unmapped(flight, "boardingTime", f.getBoardingTime());
+        }
+        int duration = FlightTimes.durationMinutes(f.getDuration());
+        if (duration != FlightTimes.MISSING) {
+            flight.setDuration(Duration.newBuilder().setSeconds(duration * 60L));
+        } else {
+            unmapped(flight, "duration", f.getDuration());
+        }
+        Timestamp lastUpdated = instant(f.getLastUpdated());
+        if (lastUpdated != null) {
+            flight.setLastUpdated(lastUpdated);
+        } else {
+            unmapped(flight, "lastUpdated", f.getLastUpdated());
+        }
+        return flight;
+    }
+
+    /**
+     * Number of the enum value named after {@code value}; {@code *_OTHER} (with the value kept in {@code unmapped})
+     * if there is none, {@code *_UNSPECIFIED} for no value.
+     */
+    private static int enumValue(Flight.Builder flight, String field, String value, EnumDescriptor type) {
+        if (value == null || value.isBlank()) {
+            return 0;
+        }
+        String unspecified = type.getValues().get(0).getName();
+        String prefix = unspecified.substring(0, unspecified.length() - "UNSPECIFIED".length());
+        String name = value.trim().toUpperCase(Locale.ROOT).replaceAll("[^A-Z0-9]+", "_").replaceAll("^_|_$", "");
+        EnumValueDescriptor match = type.findValueByName(prefix + name);
+        if (match != null) {
+            return match.getNumber();
+        }
+        unmapped(flight, field, value);
+        return type.findValueByName(prefix + "OTHER").getNumber();
+    }
+
+    /**
+     * A full date-time to the second, as the vendor writes {@code lastUpdated}; without an offset it is UTC.
+     */
+    private static Timestamp instant(String text) {
+        if (text == null) {
+            return null;
+        }
+        String trimmed = text.trim();
+        try {
+            return timestamp(OffsetDateTime.parse(trimmed).toEpochSecond());
+        } catch (DateTimeParseException e) {
+            // Try without an offset.
+        }
+        try {
+            return timestamp(LocalDateTime.parse(trimmed).toEpochSecond(ZoneOffset.UTC));
+        } catch (DateTimeParseException e) {
+            int minutes = FlightTimes.epochMinutes(trimmed, null, FlightTimes.MISSING);
+            return minutes == FlightTimes.MISSING ? null : timestamp(minutes * 60L);
+        }
+    }
+
+    private static Timestamp timestamp(long epochSecond) {
+        return Timestamp.newBuilder().setSeconds(epochSecond).build();
+    }
+
+    private static void unmapped(Flight.Builder flight, String field, String value) {
+        if (value != null && !value.isBlank()) {
+            flight.putUnmapped(field, value);
+        }
+    }
+
+    private static String defaultStr(String s) {
+        return s == null ? "" : s;
+    }
+}
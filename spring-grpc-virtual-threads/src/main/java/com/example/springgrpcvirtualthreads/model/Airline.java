@@ -1,9 +0,0 @@
-package com.example.springgrpcvirtualthreads.model;
-
-import lombok.Data;
-
-@Data
-public class Airline {
-    private String logo;
-    private String name;
-}
\ No newline at end of file
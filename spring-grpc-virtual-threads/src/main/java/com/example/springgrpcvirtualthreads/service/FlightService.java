@@ -1,30 +1,65 @@
 package com.example.springgrpcvirtualthreads.service;
 
-import com.example.springgrpcvirtualthreads.model.ApiCallLog;
-import com.example.springgrpcvirtualthreads.model.Flight;
-import com.example.springgrpcvirtualthreads.repository.ApiCallLogRepository;
+import com.example.flightcore.model.Flight;
+import com.example.flightcore.model.FlightIndex;
+import com.example.flightcore.model.FlightPage;
+import com.example.flightcore.model.FlightQuery;
+import com.example.flightcore.model.FlightSnapshot;
+import com.example.flightcore.service.FlightQueries;
+import com.example.flightcore.service.FlightSnapshotCache;
+import com.example.flightcore.service.FlightVendorClient;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
-import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
 
 @Service
 public class FlightService {
-    private static final String THIRD_PARTY_URL = "http://localhost:8900/vendor/supplier/stream/flights";
 
     @Autowired
-    private ApiCallLogRepository logRepository;
-    private final RestTemplate restTemplate = new RestTemplate();
+    private FlightSnapshotCache snapshotCache;
+
+    @Autowired
+    private FlightVendorClient vendorClient;
+
+    @Autowired
+    private FlightQueries queries;
 
     public List<Flight> getFlights() {
-        Flight[] flights = restTemplate.getForObject(THIRD_PARTY_URL, Flight[].class);
-        List<Flight> flightList = Arrays.asList(flights != null ? flights : new Flight[0]);
-        ApiCallLog log = new ApiCallLog();
-        log.setEndpoint(THIRD_PARTY_URL);
-        log.setFlights(flightList);
-        logRepository.save(log);
-        return flightList;
+        return snapshotCache.get().getFlights();
+    }
+
+    public FlightSnapshot getSnapshot() {
+        return snapshotCache.get();
+    }
+
+    /**
+     * The current snapshot if it can be served without waiting for the vendor, otherwise {@code null}.
+     */
+    public FlightSnapshot getSnapshotIfPresent() {
+        return snapshotCache.getIfPresent();
+    }
+
+    /**
+     * Streams flights straight from the vendor, bound by {@code reader}; see
+     * {@link FlightVendorClient#streamFlights(FlightVendorClient.FlightReader, Consumer)}.
+     */
+    public <T> void streamFlights(FlightVendorClient.FlightReader<T> reader, Consumer<T> onFlight) {
+        vendorClient.streamFlights(reader, onFlight);
+    }
+
+    /**
+     * Answers {@code query} from {@code snapshot}; see {@link FlightQueries#search}.
+     */
+    public FlightPage search(FlightSnapshot snapshot, FlightQuery query) {
+        return queries.search(snapshot, query);
+    }
+
+    /**
+     * Best {@code k} flights of {@code snapshot} by {@code ranking}; see {@link FlightQueries#top}.
+     */
+    public List<Flight> top(FlightSnapshot snapshot, String from, String to, FlightIndex.Ranking ranking, int k) {
+        return queries.top(snapshot, from, to, ranking, k);
     }
-}
\ No newline at end of file
+}
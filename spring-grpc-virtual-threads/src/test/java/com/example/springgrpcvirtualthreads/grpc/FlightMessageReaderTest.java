@@ -0,0 +1,99 @@
+package com.example.springgrpcvirtualthreads.grpc;
+
+import com.example.flightcore.model.ApiCallLog;
+import com.example.flightcore.model.FlightSnapshot;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FlightMessageReaderTest {
+
+    private static final String VENDOR_JSON = """
+            [
+              {
+                "aircraftType": "A320neo", "airline": {"logo": "6e.png", "name": "IndiGo", "alliance": "none"},
+                "arrivalTime": "10:45", "baggage": "15kg", "boardingTime": "07:40", "cabinClass": "Economy",
+                "cancellationPolicy": "Refundable", "changePolicy": "Free change", "checkInCounter": "C12",
+                "covidSafety": "Masks optional", "date": "2024-03-10", "departureTime": "08:30",
+                "duration": "2h 15m", "ecoFriendly": "Yes", "entertainment": "Streaming", "extraLegroom": "No",
+                "fareClass": "Saver", "flightId": "6E-201-20240310", "flightNumber": "6E-201",
+                "flightType": "Non-stop", "from": "DEL", "gate": "14", "infantPolicy": "Lap infant",
+                "lastUpdated": "2024-03-09T22:00:00Z", "layovers": ["BOM", null, "HYD"], "loungeAccess": "No",
+                "meal": "Paid", "onTimePerformance": "92%", "petPolicy": "Not allowed", "powerOutlet": "Yes",
+                "price": "4200", "priorityBoarding": "No", "rating": 4.3, "recliningAngle": "110",
+                "reviewsCount": 1250, "seatPitch": "30in", "seatType": "Window", "seatWidth": "17in",
+                "terminal": "T2", "to": "BLR", "totalStops": 0, "usbPort": "Yes", "vendor_logo": "mmt.png",
+                "vendor_name": "MakeMyTrip", "wifi": "Paid", "codeShare": {"with": ["AI"]}
+              },
+              {
+                "flightId": "AI-505", "from": "BOM", "to": "DEL", "price": 6100, "gate": null, "rating": "3.5",
+                "layovers": []
+              }
+            ]
+            """;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private List<com.example.flightcore.model.Flight> modelFlights() throws IOException {
+        return objectMapper.readValue(VENDOR_JSON, new TypeReference<>() {
+        });
+    }
+
+    private List<Flight> messages() throws IOException {
+        List<Flight> messages = new ArrayList<>();
+        try (JsonParser parser = objectMapper.getFactory().createParser(VENDOR_JSON)) {
+            assertThat(parser.nextToken()).isEqualTo(JsonToken.START_ARRAY);
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                messages.add(FlightMessageReader.INSTANCE.read(parser));
+            }
+        }
+        return messages;
+    }
+
+    @Test
+    void readsTheSameMessagesAsTheModelPath() throws IOException {
+        List<com.example.flightcore.model.Flight> flights = modelFlights();
+        PrebuiltFlights prebuilt = PrebuiltFlights.of(new FlightSnapshot(1, flights, Instant.now()));
+
+        assertThat(messages()).isEqualTo(prebuilt.messages());
+    }
+
+    @Test
+    void writesACallLogThatReadsBackAsAnApiCallLog() throws IOException {
+        MongoCustomConversions conversions = new MongoCustomConversions(List.of());
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+
+        Document document = FlightMessageReader.INSTANCE.callLog("http://vendor/flights", messages());
+        ApiCallLog log = converter.read(ApiCallLog.class, document);
+
+        assertThat(log.getEndpoint()).isEqualTo("http://vendor/flights");
+        assertThat(log.getTimestamp()).isNotNull();
+        // Empty strings and lists are left out of the document, as Spring Data leaves out nulls; protobuf drops
+        // null layovers.
+        List<com.example.flightcore.model.Flight> expected = modelFlights();
+        for (com.example.flightcore.model.Flight flight : expected) {
+            List<String> layovers = flight.getLayovers().stream().filter(Objects::nonNull).toList();
+            flight.setLayovers(layovers.isEmpty() ? null : layovers);
+        }
+        assertThat(log.getFlights()).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.springgrpcvirtualthreads.grpc;
+
+import com.example.flightcore.model.Flight;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FlightWatchHubTest {
+
+    private static Flight flight(int price, String gate, String lastUpdated) {
+        Flight flight = new Flight();
+        flight.setFlightId("AI-101");
+        flight.setFrom("DEL");
+        flight.setTo("BOM");
+        flight.setPrice(price);
+        flight.setGate(gate);
+        flight.setLastUpdated(lastUpdated);
+        return flight;
+    }
+
+    @Test
+    void sendsEveryWatchedFieldForANewFlight() {
+        FlightChange change = FlightWatchHub.diff(null, flight(4200, null, "2024-03-10T08:00:00Z"), 7);
+
+        assertThat(change.getFlightId()).isEqualTo("AI-101");
+        assertThat(change.getFrom()).isEqualTo("DEL");
+        assertThat(change.getTo()).isEqualTo("BOM");
+        assertThat(change.getSnapshotVersion()).isEqualTo(7);
+        assertThat(change.hasPrice()).isTrue();
+        assertThat(change.getPrice()).isEqualTo(4200);
+        assertThat(change.hasGate()).isTrue();
+        assertThat(change.getGate()).isEmpty();
+        assertThat(change.getLastUpdated()).isEqualTo("2024-03-10T08:00:00Z");
+    }
+
+    @Test
+    void sendsOnlyTheFieldsThatChanged() {
+        FlightChange change = FlightWatchHub.diff(flight(4200, "A1", "2024-03-10T08:00:00Z"),
+                flight(4200, "B7", "2024-03-10T08:05:00Z"), 8);
+
+        assertThat(change.hasPrice()).isFalse();
+        assertThat(change.getGate()).isEqualTo("B7");
+        assertThat(change.getLastUpdated()).isEqualTo("2024-03-10T08:05:00Z");
+        assertThat(change.getSnapshotVersion()).isEqualTo(8);
+    }
+
+    @Test
+    void reportsAGateThatWasCleared() {
+        FlightChange change = FlightWatchHub.diff(flight(4200, "A1", "t1"), flight(4200, null, "t1"), 9);
+
+        assertThat(change.hasGate()).isTrue();
+        assertThat(change.getGate()).isEmpty();
+        assertThat(change.hasPrice()).isFalse();
+        assertThat(change.hasLastUpdated()).isFalse();
+    }
+
+    @Test
+    void returnsNullWhenNoWatchedFieldChanged() {
+        Flight before = flight(4200, "A1", "t1");
+        Flight after = flight(4200, "A1", "t1");
+        after.setSeatType("Window");
+
+        assertThat(FlightWatchHub.diff(before, after, 10)).isNull();
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.springgrpcvirtualthreads.grpc;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import io.grpc.CallOptions;
+import io.grpc.Grpc;
+import io.grpc.InsecureChannelCredentials;
+import io.grpc.InsecureServerCredentials;
+import io.grpc.ManagedChannel;
+import io.grpc.MethodDescriptor;
+import io.grpc.Server;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ClientCalls;
+import io.grpc.stub.ServerCalls;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GrpcServerExecutorTest {
+
+    private static final MethodDescriptor.Marshaller<String> TEXT = new MethodDescriptor.Marshaller<>() {
+        @Override
+        public InputStream stream(String value) {
+            return new ByteArrayInputStream(value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public String parse(InputStream stream) {
+            try {
+                return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    };
+
+    private static final MethodDescriptor<String, String> ECHO = MethodDescriptor.<String, String>newBuilder()
+            .setType(MethodDescriptor.MethodType.UNARY)
+            .setFullMethodName("test.Echo/Echo")
+            .setRequestMarshaller(TEXT)
+            .setResponseMarshaller(TEXT)
+            .build();
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final Queue<Thread> handlerThreads = new ConcurrentLinkedQueue<>();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private GrpcServerExecutor executor;
+    private Server server;
+    private ManagedChannel channel;
+
+    /** A server wired as GrpcServerConfig does, whose handler holds every call until {@link #release} opens. */
+    private void start(GrpcServerExecutor.Mode mode, int poolSize, int queueCapacity) throws IOException {
+        executor = new GrpcServerExecutor(registry, mode, poolSize, queueCapacity);
+        ServerServiceDefinition echo = ServerServiceDefinition.builder("test.Echo")
+                .addMethod(ECHO, ServerCalls.asyncUnaryCall((request, responseObserver) -> {
+                    handlerThreads.add(Thread.currentThread());
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    responseObserver.onNext(request);
+                    responseObserver.onCompleted();
+                }))
+                .build();
+        server = Grpc.newServerBuilderForPort(0, InsecureServerCredentials.create())
+                .executor(MoreExecutors.directExecutor())
+                .callExecutor(executor)
+                .addService(echo)
+                .build()
+                .start();
+        channel = Grpc.newChannelBuilderForAddress("localhost", server.getPort(), InsecureChannelCredentials.create())
+                .build();
+    }
+
+    @AfterEach
+    void stop() throws InterruptedException {
+        release.countDown();
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        executor.destroy();
+    }
+
+    private ListenableFuture<String> call(String request) {
+        return ClientCalls.futureUnaryCall(channel.newCall(ECHO, CallOptions.DEFAULT), request);
+    }
+
+    private double gauge(String name) {
+        return registry.get(name).gauge().value();
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition within 5s").isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    @Test
+    void refusesCallsBeyondThePoolAndQueueWithoutRunningThem() throws Exception {
+        start(GrpcServerExecutor.Mode.PLATFORM, 1, 1);
+
+        ListenableFuture<String> running = call("a");
+        await(() -> handlerThreads.size() == 1);
+        ListenableFuture<String> queued = call("b");
+        await(() -> gauge("flights.grpc.executor.queued") == 1);
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> ClientCalls.blockingUnaryCall(channel, ECHO, CallOptions.DEFAULT, "c"))
+                .isInstanceOfSatisfying(StatusRuntimeException.class,
+                        e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.RESOURCE_EXHAUSTED));
+        assertThat(System.nanoTime() - start).isLessThan(TimeUnit.SECONDS.toNanos(2));
+        assertThat(registry.get("flights.grpc.executor.rejections").counter().count()).isEqualTo(1);
+        assertThat(gauge("flights.grpc.executor.calls")).isEqualTo(2);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("a");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("b");
+        assertThat(handlerThreads).hasSize(2)
+                .allSatisfy(thread -> assertThat(thread.getName()).startsWith("grpc-call-"));
+
+        await(() -> gauge("flights.grpc.executor.calls") == 0);
+        assertThat(ClientCalls.blockingUnaryCall(channel, ECHO, CallOptions.DEFAULT, "d")).isEqualTo("d");
+    }
+
+    @Test
+    void runsHandlersOnVirtualThreadsAndNeverRefuses() throws Exception {
+        start(GrpcServerExecutor.Mode.VIRTUAL, 1, 0);
+
+        List<ListenableFuture<String>> calls = List.of(call("a"), call("b"), call("c"));
+        await(() -> handlerThreads.size() == 3);
+        release.countDown();
+
+        for (ListenableFuture<String> call : calls) {
+            assertThat(call.get(5, TimeUnit.SECONDS)).isNotEmpty();
+        }
+        assertThat(handlerThreads).allSatisfy(thread -> assertThat(thread.isVirtual()).isTrue());
+        assertThat(registry.get("flights.grpc.executor.rejections").counter().count()).isZero();
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.springgrpcvirtualthreads.grpc.v2;
+
+import com.google.protobuf.Timestamp;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FlightV2ProtosTest {
+
+    private static com.example.flightcore.model.Flight flight(String flightId) {
+        com.example.flightcore.model.Flight flight = new com.example.flightcore.model.Flight();
+        flight.setFlightId(flightId);
+        flight.setDate("2024-03-10");
+        return flight;
+    }
+
+    private static com.example.flightcore.model.Airline airline(String name) {
+        com.example.flightcore.model.Airline airline = new com.example.flightcore.model.Airline();
+        airline.setName(name);
+        airline.setLogo(name + ".png");
+        return airline;
+    }
+
+    private static Flight convert(com.example.flightcore.model.Flight flight) {
+        return FlightV2Protos.toResponse(List.of(flight)).getFlights(0);
+    }
+
+    private static Timestamp at(String instant) {
+        return Timestamp.newBuilder().setSeconds(Instant.parse(instant).getEpochSecond()).build();
+    }
+
+    @Test
+    void mapsVendorValuesToEnumsByName() {
+        com.example.flightcore.model.Flight f = flight("6E-201");
+        f.setCabinClass("Premium Economy");
+        f.setFlightType("Non-stop");
+        f.setMeal(" veg ");
+        f.setSeatType("lie-flat");
+
+        Flight flight = convert(f);
+
+        assertThat(flight.getCabinClass()).isEqualTo(CabinClass.CABIN_CLASS_PREMIUM_ECONOMY);
+        // Aliases share a number, so "Non-stop" reads back as the first name of that value.
+        assertThat(flight.getFlightType()).isEqualTo(FlightType.FLIGHT_TYPE_DIRECT);
+        assertThat(flight.getFlightTypeValue()).isEqualTo(FlightType.FLIGHT_TYPE_NON_STOP_VALUE);
+        assertThat(flight.getMeal()).isEqualTo(Meal.MEAL_VEG);
+        assertThat(flight.getSeatType()).isEqualTo(SeatType.SEAT_TYPE_LIE_FLAT);
+        assertThat(flight.getWifi()).isEqualTo(Wifi.WIFI_UNSPECIFIED);
+        assertThat(flight.getUnmappedMap()).isEmpty();
+    }
+
+    @Test
+    void keepsValuesWithoutAnEnumInUnmapped() {
+        com.example.flightcore.model.Flight f = flight("6E-201");
+        f.setWifi("Satellite, 10 Mbps");
+        f.setCabinClass("Economy Plus");
+
+        Flight flight = convert(f);
+
+        assertThat(flight.getWifi()).isEqualTo(Wifi.WIFI_OTHER);
+        assertThat(flight.getCabinClass()).isEqualTo(CabinClass.CABIN_CLASS_OTHER);
+        assertThat(flight.getUnmappedMap())
+                .containsEntry("wifi", "Satellite, 10 Mbps")
+                .containsEntry("cabinClass", "Economy Plus")
+                .hasSize(2);
+    }
+
+    @Test
+    void encodesLocalTimesAsUtcInWholeMinutes() {
+        com.example.flightcore.model.Flight f = flight("6E-201");
+        f.setDepartureTime("23:10:45");
+        f.setArrivalTime("01:05");
+        f.setBoardingTime("2024-03-10T22:40:00+05:30");
+        f.setDuration("1h 55m");
+        f.setLastUpdated("2024-03-09T22:00:15Z");
+
+        Flight flight = convert(f);
+
+        assertThat(flight.getDate()).isEqualTo(at("2024-03-10T00:00:00Z"));
+        assertThat(flight.getDepartureTime()).isEqualTo(at("2024-03-10T23:10:00Z"));
+        assertThat(flight.getArrivalTime()).isEqualTo(at("2024-03-11T01:05:00Z"));
+        // An explicit offset gives the true instant.
+        assertThat(flight.getBoardingTime()).isEqualTo(at("2024-03-10T17:10:00Z"));
+        assertThat(flight.getDuration().getSeconds()).isEqualTo(115 * 60);
+        assertThat(flight.getLastUpdated()).isEqualTo(at("2024-03-09T22:00:15Z"));
+        assertThat(flight.getUnmappedMap()).isEmpty();
+    }
+
+    @Test
+    void keepsTimesThatDoNotParseInUnmapped() {
+        com.example.flightcore.model.Flight f = flight("6E-201");
+        f.setDate("someday");
+        f.setDepartureTime("08:30");
+        f.setDuration("a while");
+        f.setLastUpdated("yesterday");
+
+        Flight flight = convert(f);
+
+        assertThat(flight.hasDate()).isFalse();
+        assertThat(flight.hasDepartureTime()).isFalse();
+        assertThat(flight.hasDuration()).isFalse();
+        assertThat(flight.hasLastUpdated()).isFalse();
+        assertThat(flight.getUnmappedMap())
+                .containsEntry("date", "someday")
+                .containsEntry("departureTime", "08:30")
+                .containsEntry("duration", "a while")
+                .containsEntry("lastUpdated", "yesterday");
+    }
+
+    @Test
+    void sendsEachAirlineAndVendorOnce() {
+        com.example.flightcore.model.Flight first = flight("6E-201");
+        first.setAirline(airline("IndiGo"));
+        first.setVendor_name("MakeMyTrip");
+        com.example.flightcore.model.Flight second = flight("AI-505");
+        second.setAirline(airline("Air India"));
+        second.setVendor_name("MakeMyTrip");
+        com.example.flightcore.model.Flight third = flight("6E-202");
+        third.setAirline(airline("IndiGo"));
+        third.setLayovers(Arrays.asList("BOM", null));
+
+        FlightsResponse response = FlightV2Protos.toResponse(List.of(first, second, third));
+
+        assertThat(response.getAirlinesList()).extracting(Airline::getName).containsExactly("IndiGo", "Air India");
+        assertThat(response.getVendorsList()).extracting(Vendor::getName).containsExactly("MakeMyTrip");
+        assertThat(response.getFlightsList()).extracting(Flight::getAirline).containsExactly(1, 2, 1);
+        assertThat(response.getFlightsList()).extracting(Flight::getVendor).containsExactly(1, 1, 0);
+        assertThat(response.getFlights(2).getLayoversList()).containsExactly("BOM");
+    }
+}
@@ -1,9 +1,14 @@
 package com.example.springmvctraditional;
 
+import com.example.flightcore.config.FlightEncodingConfig;
+import com.example.flightcore.config.FlightQueryConfig;
+import com.example.flightcore.config.FlightVendorConfig;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Import;
 
 @SpringBootApplication
+@Import({FlightVendorConfig.class, FlightEncodingConfig.class, FlightQueryConfig.class})
 public class SpringMvcTraditionalApplication {
     public static void main(String[] args) {
         SpringApplication.run(SpringMvcTraditionalApplication.class, args);
@@ -0,0 +1,27 @@
+package com.example.springmvctraditional.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class StreamingConfig {
+
+    /**
+     * Runs vendor reads for {@code /flights/stream} so the Tomcat request thread is released
+     * as soon as the {@code SseEmitter} is returned.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor flightStreamExecutor(
+            @Value("${flights.stream.pool-size:64}") int poolSize,
+            @Value("${flights.stream.queue-capacity:256}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("flight-stream-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+}
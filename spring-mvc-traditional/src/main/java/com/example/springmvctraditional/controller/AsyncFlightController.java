@@ -0,0 +1,32 @@
+package com.example.springmvctraditional.controller;
+
+import com.example.flightcore.model.Flight;
+import com.example.springmvctraditional.service.FlightService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Servlet-async variant of {@code /flights}: the Tomcat thread is released while the vendor call runs,
+ * and the response is written when the future completes or {@code flights.async.timeout} expires (503).
+ */
+@RestController
+@RequestMapping("/async/flights")
+public class AsyncFlightController {
+
+    private final FlightService flightService;
+
+    @Autowired
+    public AsyncFlightController(FlightService flightService) {
+        this.flightService = flightService;
+    }
+
+    @GetMapping
+    public CompletableFuture<List<Flight>> getFlights() {
+        return flightService.getFlightsAsync();
+    }
+}
@@ -1,45 +1,157 @@
 package com.example.springmvctraditional.controller;
 
-import com.example.springmvctraditional.model.Flight;
+import com.example.flightcore.model.Flight;
+import com.example.flightcore.model.FlightIndex;
+import com.example.flightcore.model.FlightQuery;
+import com.example.flightcore.service.FlightFormat;
+import com.example.flightcore.service.FlightFormatComparison;
+import com.example.flightcore.service.FlightProjections;
+import com.example.flightcore.service.FlightResponseEncoder;
 import com.example.springmvctraditional.service.FlightService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/flights")
 public class FlightController {
 
     private final FlightService flightService;
+    private final FlightResponseEncoder responseEncoder;
+    private final FlightProjections projections;
+    private final FlightFormatComparison formatComparison;
+    private final TaskExecutor streamExecutor;
+    private final Timer firstEventTimer;
+    private final long streamTimeoutMillis;
 
     @Autowired
-    public FlightController(FlightService flightService) {
+    public FlightController(FlightService flightService,
+                            FlightResponseEncoder responseEncoder,
+                            FlightProjections projections,
+                            FlightFormatComparison formatComparison,
+                            @Qualifier("flightStreamExecutor") TaskExecutor streamExecutor,
+                            MeterRegistry meterRegistry,
+                            @Value("${flights.stream.timeout:120s}") Duration streamTimeout) {
         this.flightService = flightService;
+        this.responseEncoder = responseEncoder;
+        this.projections = projections;
+        this.formatComparison = formatComparison;
+        this.streamExecutor = streamExecutor;
+        this.firstEventTimer = Timer.builder("flights.stream.first.event")
+                .description("Time from /flights/stream request to the first SSE event")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.streamTimeoutMillis = streamTimeout.toMillis();
     }
 
+    /**
+     * Without query parameters, writes the pre-serialized (and, if accepted, pre-gzipped) body of the current
+     * snapshot; a matching {@code If-None-Match} gets 304 with no body (handled by Spring from the ETag).
+     * With any of them, returns one page of matching flights (see {@link FlightResponseEncoder#page}).
+     * {@code fields} limits each flight to the listed properties.
+     * The body is JSON, CBOR or Smile as negotiated from {@code Accept} (see {@link FlightFormat}).
+     */
     @GetMapping
-    public List<Flight> getFlights() {
-        return flightService.getFlights();
+    public ResponseEntity<?> getFlights(
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestParam(name = "from", required = false) String from,
+            @RequestParam(name = "to", required = false) String to,
+            @RequestParam(name = "date", required = false) String date,
+            @RequestParam(name = "cabinClass", required = false) String cabinClass,
+            @RequestParam(name = "maxPrice", required = false) Integer maxPrice,
+            @RequestParam(name = "maxStops", required = false) Integer maxStops,
+            @RequestParam(name = "sort", required = false) String sort,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "limit", required = false) Integer limit,
+            @RequestParam(name = "fields", required = false) String fields) {
+        FlightQuery query = new FlightQuery(from, to, date, cabinClass, maxPrice, maxStops, sort, cursor, limit);
+        FlightProjections.Projection projection = projections.forFields(fields);
+        FlightFormat format = responseEncoder.negotiate(accept);
+        if (query.isEmpty()) {
+            return responseEncoder.response(flightService.getSnapshot(), format, acceptEncoding, projection);
+        }
+        return responseEncoder.page(flightService.search(query), format, projection);
+    }
+
+    /**
+     * Size and encode/decode time of the current snapshot in each format that {@code /flights} can serve.
+     */
+    @GetMapping("/formats")
+    public FlightFormatComparison.Report compareFormats() {
+        return formatComparison.compare(flightService.getSnapshot());
+    }
+
+    /**
+     * Best {@code k} flights by {@code by}, optionally for one departure and/or arrival airport.
+     * Computed once per snapshot and key, without sorting the whole list.
+     */
+    @GetMapping("/top")
+    public List<Flight> topFlights(@RequestParam(name = "from", required = false) String from,
+                                   @RequestParam(name = "to", required = false) String to,
+                                   @RequestParam(name = "k", defaultValue = "10") int k,
+                                   @RequestParam(name = "by", defaultValue = "CHEAPEST") FlightIndex.Ranking by) {
+        return flightService.top(flightService.getSnapshot(), from, to, by, k);
     }
 
+    /**
+     * Sends each flight as an SSE event as soon as it is parsed from the vendor stream;
+     * {@code fields} limits each event to the listed properties. A client that disconnects ends the vendor read
+     * at the next event and drops the vendor connection.
+     */
     @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public SseEmitter streamFlights() throws IOException {
-        SseEmitter emitter = new SseEmitter();
-        List<Flight> flights = flightService.getFlights();
-        for (Flight flight : flights) {
-            try {
-                emitter.send(flight);
-            } catch (IOException e) {
-                emitter.completeWithError(e);
-                return emitter;
-            }
+    public SseEmitter streamFlights(@RequestParam(name = "fields", required = false) String fields) {
+        FlightProjections.Projection projection = projections.forFields(fields);
+        SseEmitter emitter = new SseEmitter(streamTimeoutMillis);
+        long start = System.nanoTime();
+        try {
+            streamExecutor.execute(() -> {
+                boolean[] first = {true};
+                try {
+                    flightService.streamFlights(flight -> {
+                        if (first[0]) {
+                            firstEventTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                            first[0] = false;
+                        }
+                        try {
+                            if (projection == null) {
+                                emitter.send(flight);
+                            } else {
+                                emitter.send(projection.write(flight), MediaType.APPLICATION_JSON);
+                            }
+                        } catch (IOException | IllegalStateException e) {
+                            // The client disconnected or the emitter timed out: stop the vendor read.
+                            CancellationException cancelled = new CancellationException("SSE client is gone");
+                            cancelled.initCause(e);
+                            throw cancelled;
+                        }
+                    });
+                    emitter.complete();
+                } catch (CancellationException e) {
+                    // Nothing left to write to; the container completes the emitter.
+                } catch (Exception e) {
+                    emitter.completeWithError(e);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            emitter.completeWithError(e);
         }
-        emitter.complete();
         return emitter;
     }
-}
\ No newline at end of file
+}
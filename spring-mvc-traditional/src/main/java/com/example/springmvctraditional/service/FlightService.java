@@ -1,36 +1,83 @@
 package com.example.springmvctraditional.service;
 
-import com.example.springmvctraditional.model.ApiCallLog;
-import com.example.springmvctraditional.model.Flight;
-import com.example.springmvctraditional.repository.ApiCallLogRepository;
+import com.example.flightcore.model.Flight;
+import com.example.flightcore.model.FlightIndex;
+import com.example.flightcore.model.FlightPage;
+import com.example.flightcore.model.FlightQuery;
+import com.example.flightcore.model.FlightSnapshot;
+import com.example.flightcore.service.FlightQueries;
+import com.example.flightcore.service.FlightSnapshotCache;
+import com.example.flightcore.service.FlightVendorClient;
+import com.example.flightcore.service.VendorOverloadedException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
-import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 @Service
 public class FlightService {
-    private static final String THIRD_PARTY_URL = "http://localhost:8900/vendor/supplier/stream/flights";
 
-    private final ApiCallLogRepository logRepository;
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final FlightSnapshotCache snapshotCache;
+    private final FlightVendorClient vendorClient;
+    private final TaskExecutor vendorCallExecutor;
+    private final FlightQueries queries;
 
     @Autowired
-    FlightService(ApiCallLogRepository logRepository) {
-        this.logRepository = logRepository;
+    FlightService(FlightSnapshotCache snapshotCache, FlightVendorClient vendorClient,
+                  @Qualifier("vendorCallExecutor") TaskExecutor vendorCallExecutor, FlightQueries queries) {
+        this.snapshotCache = snapshotCache;
+        this.vendorClient = vendorClient;
+        this.vendorCallExecutor = vendorCallExecutor;
+        this.queries = queries;
     }
 
 
     public List<Flight> getFlights() {
-        Flight[] flights = restTemplate.getForObject(THIRD_PARTY_URL, Flight[].class);
-        List<Flight> flightList = Arrays.asList(flights != null ? flights : new Flight[0]);
-        ApiCallLog log = new ApiCallLog();
-//        log.setEndpoint(THIRD_PARTY_URL);
-//        log.setFlights(flightList);
-        logRepository.save(log);
-        return flightList;
+        return snapshotCache.get().getFlights();
     }
-}
\ No newline at end of file
+
+    public FlightSnapshot getSnapshot() {
+        return snapshotCache.get();
+    }
+
+    /**
+     * Completes immediately when a servable snapshot is cached; otherwise the vendor fetch runs on
+     * {@code vendorCallExecutor} so the calling servlet thread can be released. When that executor's queue is
+     * full the future fails with {@link VendorOverloadedException} (503) rather than the executor's rejection (500).
+     */
+    public CompletableFuture<List<Flight>> getFlightsAsync() {
+        FlightSnapshot snapshot = snapshotCache.getIfPresent();
+        if (snapshot != null) {
+            return CompletableFuture.completedFuture(snapshot.getFlights());
+        }
+        try {
+            return CompletableFuture.supplyAsync(() -> snapshotCache.get().getFlights(), vendorCallExecutor);
+        } catch (TaskRejectedException e) {
+            return CompletableFuture.failedFuture(new VendorOverloadedException("Vendor call queue is full"));
+        }
+    }
+
+    /**
+     * Answers {@code query} from the current snapshot; see {@link FlightQueries#search}.
+     */
+    public FlightPage search(FlightQuery query) {
+        return queries.search(snapshotCache.get(), query);
+    }
+
+    /**
+     * Best {@code k} flights of {@code snapshot} by {@code ranking}; see {@link FlightQueries#top}.
+     */
+    public List<Flight> top(FlightSnapshot snapshot, String from, String to, FlightIndex.Ranking ranking, int k) {
+        return queries.top(snapshot, from, to, ranking, k);
+    }
+
+    public void streamFlights(Consumer<Flight> onFlight) {
+        vendorClient.streamFlights(onFlight);
+    }
+}
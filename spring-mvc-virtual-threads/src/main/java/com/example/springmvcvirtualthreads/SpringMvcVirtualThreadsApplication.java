@@ -1,9 +1,14 @@
 package com.example.springmvcvirtualthreads;
 
+import com.example.flightcore.config.FlightEncodingConfig;
+import com.example.flightcore.config.FlightQueryConfig;
+import com.example.flightcore.config.FlightVendorConfig;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Import;
 
 @SpringBootApplication
+@Import({FlightVendorConfig.class, FlightEncodingConfig.class, FlightQueryConfig.class})
 public class SpringMvcVirtualThreadsApplication {
     public static void main(String[] args) {
         // Enable virtual threads (Java 21+ runtime)
@@ -1,9 +1,17 @@
 package com.example.springmvcvirtualthreads.controller;
 
-import com.example.springmvcvirtualthreads.model.Flight;
+import com.example.flightcore.model.Flight;
+import com.example.flightcore.model.FlightIndex;
+import com.example.flightcore.model.FlightQuery;
+import com.example.flightcore.service.FlightFormat;
+import com.example.flightcore.service.FlightFormatComparison;
+import com.example.flightcore.service.FlightProjections;
+import com.example.flightcore.service.FlightResponseEncoder;
 import com.example.springmvcvirtualthreads.service.FlightService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
@@ -17,18 +25,81 @@ public class FlightController {
     @Autowired
     private FlightService flightService;
 
+    @Autowired
+    private FlightResponseEncoder responseEncoder;
+
+    @Autowired
+    private FlightProjections projections;
+
+    @Autowired
+    private FlightFormatComparison formatComparison;
+
+    /**
+     * Without query parameters, writes the pre-serialized (and, if accepted, pre-gzipped) body of the current
+     * snapshot; a matching {@code If-None-Match} gets 304 with no body (handled by Spring from the ETag).
+     * With any of them, returns one page of matching flights (see {@link FlightResponseEncoder#page}).
+     * {@code fields} limits each flight to the listed properties.
+     * The body is JSON, CBOR or Smile as negotiated from {@code Accept} (see {@link FlightFormat}).
+     */
     @GetMapping
-    public List<Flight> getFlights() {
-        return flightService.getFlights();
+    public ResponseEntity<?> getFlights(
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestParam(name = "from", required = false) String from,
+            @RequestParam(name = "to", required = false) String to,
+            @RequestParam(name = "date", required = false) String date,
+            @RequestParam(name = "cabinClass", required = false) String cabinClass,
+            @RequestParam(name = "maxPrice", required = false) Integer maxPrice,
+            @RequestParam(name = "maxStops", required = false) Integer maxStops,
+            @RequestParam(name = "sort", required = false) String sort,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "limit", required = false) Integer limit,
+            @RequestParam(name = "fields", required = false) String fields) {
+        FlightQuery query = new FlightQuery(from, to, date, cabinClass, maxPrice, maxStops, sort, cursor, limit);
+        FlightProjections.Projection projection = projections.forFields(fields);
+        FlightFormat format = responseEncoder.negotiate(accept);
+        if (query.isEmpty()) {
+            return responseEncoder.response(flightService.getSnapshot(), format, acceptEncoding, projection);
+        }
+        return responseEncoder.page(flightService.search(query), format, projection);
+    }
+
+    /**
+     * Size and encode/decode time of the current snapshot in each format that {@code /flights} can serve.
+     */
+    @GetMapping("/formats")
+    public FlightFormatComparison.Report compareFormats() {
+        return formatComparison.compare(flightService.getSnapshot());
+    }
+
+    /**
+     * Best {@code k} flights by {@code by}, optionally for one departure and/or arrival airport.
+     * Computed once per snapshot and key, without sorting the whole list.
+     */
+    @GetMapping("/top")
+    public List<Flight> topFlights(@RequestParam(name = "from", required = false) String from,
+                                   @RequestParam(name = "to", required = false) String to,
+                                   @RequestParam(name = "k", defaultValue = "10") int k,
+                                   @RequestParam(name = "by", defaultValue = "CHEAPEST") FlightIndex.Ranking by) {
+        return flightService.top(flightService.getSnapshot(), from, to, by, k);
     }
 
+    /**
+     * Sends each flight of the current snapshot as an SSE event; {@code fields} limits each event
+     * to the listed properties.
+     */
     @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public SseEmitter streamFlights() throws IOException {
+    public SseEmitter streamFlights(@RequestParam(name = "fields", required = false) String fields) throws IOException {
+        FlightProjections.Projection projection = projections.forFields(fields);
         SseEmitter emitter = new SseEmitter();
         List<Flight> flights = flightService.getFlights();
         for (Flight flight : flights) {
             try {
-                emitter.send(flight);
+                if (projection == null) {
+                    emitter.send(flight);
+                } else {
+                    emitter.send(projection.write(flight), MediaType.APPLICATION_JSON);
+                }
             } catch (IOException e) {
                 emitter.completeWithError(e);
                 return emitter;
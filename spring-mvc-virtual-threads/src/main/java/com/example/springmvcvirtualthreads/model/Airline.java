@@ -1,23 +0,0 @@
-package com.example.springmvcvirtualthreads.model;
-
-
-public class Airline {
-    private String logo;
-    private String name;
-
-    public String getLogo() {
-        return logo;
-    }
-
-    public void setLogo(String logo) {
-        this.logo = logo;
-    }
-
-    public String getName() {
-        return name;
-    }
-
-    public void setName(String name) {
-        this.name = name;
-    }
-}
\ No newline at end of file
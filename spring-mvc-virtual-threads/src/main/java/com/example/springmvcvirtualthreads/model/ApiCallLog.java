@@ -1,37 +0,0 @@
-package com.example.springmvcvirtualthreads.model;
-
-import org.springframework.data.mongodb.core.mapping.Document;
-import java.time.Instant;
-import java.util.List;
-
-@Document("calls_log")
-public class ApiCallLog {
-    private Instant timestamp = Instant.now();
-    private String endpoint;
-    private List<Flight> flights;
-
-    public List<Flight> getFlights() {
-        return flights;
-    }
-
-    public void setFlights(List<Flight> flights) {
-        this.flights = flights;
-    }
-
-    public String getEndpoint() {
-        return endpoint;
-    }
-
-    public void setEndpoint(String endpoint) {
-        this.endpoint = endpoint;
-    }
-
-    public Instant getTimestamp() {
-        return timestamp;
-    }
-
-    public void setTimestamp(Instant timestamp) {
-        this.timestamp = timestamp;
-    }
-
-}
\ No newline at end of file
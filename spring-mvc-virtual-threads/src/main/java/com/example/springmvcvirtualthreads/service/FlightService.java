@@ -1,31 +1,45 @@
 package com.example.springmvcvirtualthreads.service;
 
-import com.example.springmvcvirtualthreads.model.ApiCallLog;
-import com.example.springmvcvirtualthreads.model.Flight;
-import com.example.springmvcvirtualthreads.repository.ApiCallLogRepository;
+import com.example.flightcore.model.Flight;
+import com.example.flightcore.model.FlightIndex;
+import com.example.flightcore.model.FlightPage;
+import com.example.flightcore.model.FlightQuery;
+import com.example.flightcore.model.FlightSnapshot;
+import com.example.flightcore.service.FlightQueries;
+import com.example.flightcore.service.FlightSnapshotCache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
-import java.util.Arrays;
 import java.util.List;
 
 @Service
 public class FlightService {
-    private static final String THIRD_PARTY_URL = "http://localhost:8900/vendor/supplier/stream/flights";
 
     @Autowired
-    private ApiCallLogRepository logRepository;
+    private FlightSnapshotCache snapshotCache;
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    @Autowired
+    private FlightQueries queries;
 
     public List<Flight> getFlights() {
-        Flight[] flights = restTemplate.getForObject(THIRD_PARTY_URL, Flight[].class);
-        List<Flight> flightList = Arrays.asList(flights != null ? flights : new Flight[0]);
-        ApiCallLog log = new ApiCallLog();
-        log.setEndpoint(THIRD_PARTY_URL);
-        log.setFlights(flightList);
-        logRepository.save(log);
-        return flightList;
+        return snapshotCache.get().getFlights();
+    }
+
+    public FlightSnapshot getSnapshot() {
+        return snapshotCache.get();
+    }
+
+    /**
+     * Answers {@code query} from the current snapshot; see {@link FlightQueries#search}.
+     */
+    public FlightPage search(FlightQuery query) {
+        return queries.search(snapshotCache.get(), query);
+    }
+
+    /**
+     * Best {@code k} flights of {@code snapshot} by {@code ranking}; see {@link FlightQueries#top}.
+     */
+    public List<Flight> top(FlightSnapshot snapshot, String from, String to, FlightIndex.Ranking ranking, int k) {
+        return queries.top(snapshot, from, to, ranking, k);
     }
-}
\ No newline at end of file
+}
@@ -1,9 +1,13 @@
 package com.example.springwebflux;
 
+import com.example.flightcore.config.FlightEncodingConfig;
+import com.example.flightcore.config.FlightQueryConfig;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Import;
 
 @SpringBootApplication
+@Import({FlightEncodingConfig.class, FlightQueryConfig.class})
 public class SpringWebfluxApplication {
     public static void main(String[] args) {
         SpringApplication.run(SpringWebfluxApplication.class, args);
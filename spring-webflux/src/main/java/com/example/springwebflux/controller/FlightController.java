@@ -1,12 +1,24 @@
 package com.example.springwebflux.controller;
 
-import com.example.springwebflux.model.Flight;
+import com.example.flightcore.model.Flight;
+import com.example.flightcore.model.FlightIndex;
+import com.example.flightcore.model.FlightQuery;
+import com.example.flightcore.service.FlightFormat;
+import com.example.flightcore.service.FlightFormatComparison;
+import com.example.flightcore.service.FlightProjections;
+import com.example.flightcore.service.FlightResponseEncoder;
 import com.example.springwebflux.service.FlightService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
 
 @RestController
 @RequestMapping("/flights")
@@ -15,13 +27,81 @@ public class FlightController {
     @Autowired
     private FlightService flightService;
 
-    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
-    public Flux<Flight> getFlights() {
-        return flightService.getFlights();
+    @Autowired
+    private FlightResponseEncoder responseEncoder;
+
+    @Autowired
+    private FlightProjections projections;
+
+    @Autowired
+    private FlightFormatComparison formatComparison;
+
+    /**
+     * Without query parameters, writes the pre-serialized (and, if accepted, pre-gzipped) body of the current
+     * snapshot; a matching {@code If-None-Match} gets 304 with no body (handled by Spring from the ETag).
+     * With any of them, returns one page of matching flights (see {@link FlightResponseEncoder#page}).
+     * {@code fields} limits each flight to the listed properties.
+     * The body is JSON, CBOR or Smile as negotiated from {@code Accept} (see {@link FlightFormat}).
+     * Encoding, gzip and projection run on {@code boundedElastic}, not on the event loop.
+     */
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, "application/x-jackson-smile"})
+    public Mono<ResponseEntity<?>> getFlights(
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestParam(name = "from", required = false) String from,
+            @RequestParam(name = "to", required = false) String to,
+            @RequestParam(name = "date", required = false) String date,
+            @RequestParam(name = "cabinClass", required = false) String cabinClass,
+            @RequestParam(name = "maxPrice", required = false) Integer maxPrice,
+            @RequestParam(name = "maxStops", required = false) Integer maxStops,
+            @RequestParam(name = "sort", required = false) String sort,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "limit", required = false) Integer limit,
+            @RequestParam(name = "fields", required = false) String fields) {
+        FlightQuery query = new FlightQuery(from, to, date, cabinClass, maxPrice, maxStops, sort, cursor, limit);
+        FlightProjections.Projection projection = projections.forFields(fields);
+        FlightFormat format = responseEncoder.negotiate(accept);
+        if (query.isEmpty()) {
+            return flightService.getSnapshot()
+                    .publishOn(Schedulers.boundedElastic())
+                    .map(snapshot -> responseEncoder.response(snapshot, format, acceptEncoding, projection));
+        }
+        return flightService.search(query).map(page -> responseEncoder.page(page, format, projection));
+    }
+
+    /**
+     * Size and encode/decode time of the current snapshot in each format that {@code /flights} can serve.
+     * Measured off the event loop, once per snapshot.
+     */
+    @GetMapping("/formats")
+    public Mono<FlightFormatComparison.Report> compareFormats() {
+        return flightService.getSnapshot()
+                .publishOn(Schedulers.boundedElastic())
+                .map(formatComparison::compare);
+    }
+
+    /**
+     * Best {@code k} flights by {@code by}, optionally for one departure and/or arrival airport.
+     * Computed once per snapshot and key, without sorting the whole list.
+     */
+    @GetMapping("/top")
+    public Mono<List<Flight>> topFlights(@RequestParam(name = "from", required = false) String from,
+                                         @RequestParam(name = "to", required = false) String to,
+                                         @RequestParam(name = "k", defaultValue = "10") int k,
+                                         @RequestParam(name = "by", defaultValue = "CHEAPEST") FlightIndex.Ranking by) {
+        return flightService.getSnapshot().map(snapshot -> flightService.top(snapshot, from, to, by, k));
     }
 
+    /**
+     * Sends each flight of the current snapshot as an SSE event; {@code fields} limits each event
+     * to the listed properties.
+     */
     @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public Flux<Flight> streamFlights() {
-        return flightService.getFlights();
+    public Flux<?> streamFlights(@RequestParam(name = "fields", required = false) String fields) {
+        FlightProjections.Projection projection = projections.forFields(fields);
+        if (projection == null) {
+            return flightService.getFlights();
+        }
+        return flightService.getFlights().map(projection::write);
     }
 }
\ No newline at end of file
@@ -1,28 +1,50 @@
 package com.example.springwebflux.service;
 
-import com.example.springwebflux.model.ApiCallLog;
-import com.example.springwebflux.model.Flight;
-import com.example.springwebflux.repository.ApiCallLogRepository;
+import com.example.flightcore.model.Flight;
+import com.example.flightcore.model.FlightIndex;
+import com.example.flightcore.model.FlightPage;
+import com.example.flightcore.model.FlightQuery;
+import com.example.flightcore.model.FlightSnapshot;
+import com.example.flightcore.service.FlightQueries;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
 
 @Service
 public class FlightService {
-    private static final String THIRD_PARTY_URL = "http://localhost:8900/vendor/supplier/stream/flights";
 
     @Autowired
-    private ApiCallLogRepository logRepository;
-    private final WebClient webClient = WebClient.create();
+    private FlightSnapshotCache snapshotCache;
+
+    @Autowired
+    private FlightQueries queries;
 
     public Flux<Flight> getFlights() {
-        return webClient.get()
-                .uri(THIRD_PARTY_URL)
-                .retrieve()
-                .bodyToFlux(Flight.class)
-                .collectList()
-                .flatMapMany(flights -> logRepository.save(new ApiCallLog(THIRD_PARTY_URL, flights))
-                        .thenMany(Flux.fromIterable(flights)));
+        return snapshotCache.get().flatMapIterable(FlightSnapshot::getFlights);
+    }
+
+    public Mono<FlightSnapshot> getSnapshot() {
+        return snapshotCache.get();
+    }
+
+    /**
+     * Answers {@code query} from the current snapshot (see {@link FlightQueries#search}); the page is selected and
+     * emitted on {@code boundedElastic}.
+     */
+    public Mono<FlightPage> search(FlightQuery query) {
+        return snapshotCache.get()
+                .publishOn(Schedulers.boundedElastic())
+                .map(snapshot -> queries.search(snapshot, query));
+    }
+
+    /**
+     * Best {@code k} flights of {@code snapshot} by {@code ranking}; see {@link FlightQueries#top}.
+     */
+    public List<Flight> top(FlightSnapshot snapshot, String from, String to, FlightIndex.Ranking ranking, int k) {
+        return queries.top(snapshot, from, to, ranking, k);
     }
-}
\ No newline at end of file
+}
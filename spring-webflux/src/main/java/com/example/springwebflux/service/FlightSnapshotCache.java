@@ -0,0 +1,146 @@
+package com.example.springwebflux.service;
+
+import com.example.flightcore.model.Flight;
+import com.example.flightcore.model.FlightSnapshot;
+import com.example.flightcore.service.FlightSnapshotMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Refresh-ahead cache of the latest vendor response.
+ * <ul>
+ *     <li>younger than {@code refresh-after}: served as is</li>
+ *     <li>younger than {@code max-staleness}: served while a background refresh runs</li>
+ *     <li>missing or older than {@code max-staleness}: the subscriber waits for a fresh fetch</li>
+ * </ul>
+ * Concurrent loads share one vendor fetch. A timer also refreshes every {@code refresh-interval},
+ * starting at startup when {@code warm-on-startup} is set.
+ */
+@Component
+public class FlightSnapshotCache implements SmartLifecycle {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FlightSnapshotCache.class);
+
+    private final FlightVendorClient vendorClient;
+    private final Duration refreshAfter;
+    private final Duration maxStaleness;
+    private final Duration refreshInterval;
+    private final boolean warmOnStartup;
+    private final AtomicReference<FlightSnapshot> current = new AtomicReference<>();
+    private final AtomicReference<Mono<FlightSnapshot>> loading = new AtomicReference<>();
+    private final AtomicLong versions = new AtomicLong();
+    private final FlightSnapshotMetrics metrics;
+
+    private volatile Disposable scheduled;
+
+    @Autowired
+    public FlightSnapshotCache(FlightVendorClient vendorClient,
+                               MeterRegistry meterRegistry,
+                               @Value("${flights.snapshot.refresh-after:30s}") Duration refreshAfter,
+                               @Value("${flights.snapshot.max-staleness:5m}") Duration maxStaleness,
+                               @Value("${flights.snapshot.refresh-interval:30s}") Duration refreshInterval,
+                               @Value("${flights.snapshot.warm-on-startup:true}") boolean warmOnStartup) {
+        this.vendorClient = vendorClient;
+        this.refreshAfter = refreshAfter;
+        this.maxStaleness = maxStaleness;
+        this.refreshInterval = refreshInterval;
+        this.warmOnStartup = warmOnStartup;
+        this.metrics = new FlightSnapshotMetrics(meterRegistry, current);
+    }
+
+    public Mono<FlightSnapshot> get() {
+        return Mono.defer(() -> {
+            FlightSnapshot snapshot = current.get();
+            if (snapshot != null) {
+                Duration age = snapshot.age();
+                if (age.compareTo(refreshAfter) < 0) {
+                    metrics.hit();
+                    return Mono.just(snapshot);
+                }
+                if (age.compareTo(maxStaleness) < 0) {
+                    metrics.staleHit();
+                    load().subscribe(fresh -> { }, e -> LOG.warn("Flight snapshot refresh failed", e));
+                    return Mono.just(snapshot);
+                }
+            }
+            metrics.miss();
+            return load();
+        });
+    }
+
+    private Mono<FlightSnapshot> load() {
+        while (true) {
+            Mono<FlightSnapshot> inFlight = loading.get();
+            if (inFlight != null) {
+                return inFlight;
+            }
+            Sinks.One<FlightSnapshot> sink = Sinks.one();
+            Mono<FlightSnapshot> created = sink.asMono();
+            if (loading.compareAndSet(null, created)) {
+                long start = System.nanoTime();
+                vendorClient.fetchFlights()
+                        // Indexing a snapshot is CPU-bound; keep it off the WebClient's event loop.
+                        .publishOn(Schedulers.boundedElastic())
+                        .map(this::publish)
+                        .doFinally(signal -> {
+                            loading.compareAndSet(created, null);
+                            metrics.refreshed(start);
+                        })
+                        .subscribe(sink::tryEmitValue, e -> {
+                            metrics.refreshFailed();
+                            sink.tryEmitError(e);
+                        });
+                return created;
+            }
+        }
+    }
+
+    private FlightSnapshot publish(List<Flight> flights) {
+        FlightSnapshot candidate = new FlightSnapshot(versions.incrementAndGet(), flights, Instant.now());
+        // Build the columnar view and search index before any query can see the snapshot, so none of them builds it
+        // on its own. Loads are coalesced, so this runs once per fetch.
+        candidate.index();
+        metrics.recordInterning(candidate);
+        return current.updateAndGet(previous -> previous == null
+                || candidate.getFetchedAt().isAfter(previous.getFetchedAt()) ? candidate : previous);
+    }
+
+    @Override
+    public void start() {
+        Duration initialDelay = warmOnStartup ? Duration.ZERO : refreshInterval;
+        scheduled = Flux.interval(initialDelay, refreshInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> load().onErrorResume(e -> {
+                    LOG.warn("Flight snapshot refresh failed", e);
+                    return Mono.empty();
+                }))
+                .subscribe();
+    }
+
+    @Override
+    public void stop() {
+        scheduled.dispose();
+        scheduled = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return scheduled != null;
+    }
+}
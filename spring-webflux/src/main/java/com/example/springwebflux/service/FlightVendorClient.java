@@ -0,0 +1,34 @@
+package com.example.springwebflux.service;
+
+import com.example.flightcore.model.ApiCallLog;
+import com.example.flightcore.model.Flight;
+import com.example.springwebflux.repository.ApiCallLogRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Calls the flight vendor and records every call in {@code calls_log}.
+ */
+@Component
+public class FlightVendorClient {
+    private static final String THIRD_PARTY_URL = "http://localhost:8900/vendor/supplier/stream/flights";
+
+    @Autowired
+    private ApiCallLogRepository logRepository;
+    private final WebClient webClient = WebClient.create();
+
+    public Mono<List<Flight>> fetchFlights() {
+        return webClient.get()
+                .uri(THIRD_PARTY_URL)
+                .retrieve()
+                .bodyToFlux(Flight.class)
+                .collectList()
+                .map(List::copyOf)
+                .flatMap(flights -> logRepository.save(new ApiCallLog(THIRD_PARTY_URL, flights))
+                        .thenReturn(flights));
+    }
+}